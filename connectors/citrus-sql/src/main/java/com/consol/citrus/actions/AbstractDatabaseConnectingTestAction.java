@@ -134,6 +134,20 @@ public abstract class AbstractDatabaseConnectingTestAction extends JdbcDaoSuppor
                 .getResource(context.replaceDynamicContentInString(sqlResourcePath)), lineDecorator);
     }
 
+    /**
+     * Removes trailing semicolon and replaces dynamic content in given statement.
+     * @param stmt
+     * @param context
+     * @return
+     */
+    protected String getStatementToExecute(String stmt, TestContext context) {
+        if (stmt.trim().endsWith(";")) {
+            return context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
+        } else {
+            return context.replaceDynamicContentInString(stmt.trim());
+        }
+    }
+
     @Override
     public String getDescription() {
         return description;
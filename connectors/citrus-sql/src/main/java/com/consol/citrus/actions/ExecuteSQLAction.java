@@ -17,6 +17,7 @@
 package com.consol.citrus.actions;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.consol.citrus.context.TestContext;
@@ -30,6 +31,10 @@ import org.springframework.transaction.support.TransactionTemplate;
  *
  * When executing SQL query statements (SELECT) see {@link ExecuteSQLQueryAction}.
  *
+ * In batch mode consecutive statements are sent to the database in JDBC batches of given size. Statements are added to the
+ * batch as they are so the database applies its own literal typing and escaping rules. Batch mode is not used when errors
+ * are ignored because a failed batch can not be attributed to a single statement.
+ *
  * @author Christoph Deppisch, Jan Szczepanski
  * @since 2006
  */
@@ -38,6 +43,9 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     /** boolean flag marking that possible SQL errors will be ignored */
     private final boolean ignoreErrors;
 
+    /** Number of statements sent to the database in one batch, batch mode is disabled when less than 2 */
+    private final int batchSize;
+
     /**
      * Default constructor.
      * @param builder
@@ -46,6 +54,7 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         super("sql", builder);
 
         this.ignoreErrors = builder.ignoreErrors;
+        this.batchSize = builder.batchSize;
     }
 
     @Override
@@ -80,15 +89,14 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
      * @param context
      */
     protected void executeStatements(List<String> statements, TestContext context) {
+        if (batchSize > 1 && !ignoreErrors) {
+            executeBatches(statements, context);
+            return;
+        }
+
         for (String stmt : statements)  {
             try {
-                final String toExecute;
-
-                if (stmt.trim().endsWith(";")) {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
-                } else {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim());
-                }
+                final String toExecute = getStatementToExecute(stmt, context);
 
                 if (log.isDebugEnabled()) {
                     log.debug("Executing SQL statement: " + toExecute);
@@ -108,6 +116,44 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         }
     }
 
+    /**
+     * Run all SQL statements in JDBC batches of configured size.
+     * @param statements
+     * @param context
+     */
+    protected void executeBatches(List<String> statements, TestContext context) {
+        List<String> batch = new ArrayList<>();
+
+        try {
+            for (String stmt : statements) {
+                batch.add(getStatementToExecute(stmt, context));
+                if (batch.size() >= batchSize) {
+                    executeBatch(batch);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                executeBatch(batch);
+            }
+        } catch (Exception e) {
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
+    /**
+     * Executes given statements as JDBC batch and clears the batch afterwards.
+     * @param batch
+     */
+    private void executeBatch(List<String> batch) {
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Executing batch of %s SQL statements", batch.size()));
+        }
+
+        getJdbcTemplate().batchUpdate(batch.toArray(new String[0]));
+        log.info(String.format("SQL batch execution successful (%s statements)", batch.size()));
+        batch.clear();
+    }
+
     /**
      * Gets the ignoreErrors.
      * @return the ignoreErrors
@@ -116,12 +162,21 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         return ignoreErrors;
     }
 
+    /**
+     * Gets the batchSize.
+     * @return the batchSize
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
     /**
      * Action builder.
      */
     public static final class Builder extends AbstractDatabaseConnectingTestAction.Builder<ExecuteSQLAction, Builder> {
 
         private boolean ignoreErrors = false;
+        private int batchSize = 0;
 
         public static Builder sql(DataSource dataSource) {
             Builder builder = new Builder();
@@ -138,6 +193,15 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
             return this;
         }
 
+        /**
+         * Executes statements in JDBC batches of given size.
+         * @param batchSize number of statements per batch
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
         @Override
         public ExecuteSQLAction build() {
             return new ExecuteSQLAction(this);
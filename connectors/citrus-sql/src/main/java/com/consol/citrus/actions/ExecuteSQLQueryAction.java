@@ -19,10 +19,18 @@ package com.consol.citrus.actions;
 import javax.sql.DataSource;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -38,10 +46,14 @@ import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import com.consol.citrus.validation.script.ScriptValidationContext;
 import com.consol.citrus.validation.script.sql.SqlResultSetScriptValidator;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
@@ -51,6 +63,11 @@ import org.springframework.util.CollectionUtils;
  * The class enables you to query data result sets from a
  * database. Validation will happen on column basis inside the result set.
  *
+ * In streaming mode the result set is not loaded into memory. Each row is validated against the control result set
+ * and added to variable extraction as soon as it is read from the database using the given JDBC fetch size. Optionally a
+ * SHA-256 checksum over all result values is computed so large result sets can be verified without keeping them in memory.
+ * Script validation still needs all result rows and collects them in streaming mode, too.
+ *
  * @author Christoph Deppisch, Jan Zahalka
  * @since 2008
  */
@@ -67,6 +84,18 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     /** SQL result set script validator */
     private final SqlResultSetScriptValidator validator;
 
+    /** Streaming mode processes result rows one by one without loading the result set into memory */
+    private final boolean streaming;
+
+    /** JDBC fetch size used in streaming mode */
+    private final int fetchSize;
+
+    /** Expected result set checksum */
+    private final String checksum;
+
+    /** Variable name to save the result set checksum to */
+    private final String checksumVariable;
+
     /** NULL value representation in SQL */
     private static final String NULL_VALUE = "NULL";
 
@@ -85,6 +114,10 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         this.extractVariables = builder.extractVariables;
         this.scriptValidationContext = builder.scriptValidationContext;
         this.validator = builder.validator;
+        this.streaming = builder.streaming;
+        this.fetchSize = builder.fetchSize;
+        this.checksum = builder.checksum;
+        this.checksumVariable = builder.checksumVariable;
     }
 
     @Override
@@ -97,26 +130,19 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
 
         try {
+            if (streaming) {
+                final StreamingResultSetHandler rowHandler = new StreamingResultSetHandler(context);
+                executeInTransaction(() -> executeStatements(statementsToUse, rowHandler, context), context);
+                rowHandler.complete();
+                return;
+            }
+
             //for control result set validation
             final Map<String, List<String>> columnValuesMap = new HashMap<String, List<String>>();
             //for groovy script validation
             final List<Map<String, Object>> allResultRows = new ArrayList<Map<String, Object>>();
 
-            if (getTransactionManager() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
-                }
-
-                TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
-                transactionTemplate.setTimeout(Integer.valueOf(context.replaceDynamicContentInString(getTransactionTimeout())));
-                transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
-                transactionTemplate.execute(status -> {
-                    executeStatements(statementsToUse, allResultRows, columnValuesMap, context);
-                    return null;
-                });
-            } else {
-                executeStatements(statementsToUse, allResultRows, columnValuesMap, context);
-            }
+            executeInTransaction(() -> executeStatements(statementsToUse, allResultRows, columnValuesMap, context), context);
 
             // perform validation
             performValidation(columnValuesMap, allResultRows, context);
@@ -124,17 +150,65 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             // fill the request test context variables (extract tag)
             fillContextVariables(columnValuesMap, context);
 
-            // legacy: save all columns as variables TODO: remove in major version upgrade
-            for (Entry<String, List<String>> column : columnValuesMap.entrySet()) {
-                List<String> columnValues = column.getValue();
-                context.setVariable(column.getKey().toUpperCase(), columnValues.get(0) == null ? NULL_VALUE : columnValues.get(0));
-            }
+            Map<String, String> firstValues = new HashMap<>();
+            columnValuesMap.forEach((column, values) -> firstValues.put(column, values.get(0)));
+            saveColumnVariables(firstValues, context);
         } catch (DataAccessException e) {
             log.error("Failed to execute SQL statement", e);
             throw new CitrusRuntimeException(e);
         }
     }
 
+    /**
+     * Runs given task in transaction when transaction manager is set.
+     * @param task
+     * @param context
+     */
+    private void executeInTransaction(Runnable task, TestContext context) {
+        if (getTransactionManager() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
+            }
+
+            TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
+            transactionTemplate.setTimeout(Integer.valueOf(context.replaceDynamicContentInString(getTransactionTimeout())));
+            transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
+            transactionTemplate.execute(status -> {
+                task.run();
+                return null;
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * Run statements and pass result rows to given row handler one by one using the configured fetch size.
+     * @param statements
+     * @param rowHandler
+     * @param context
+     */
+    protected void executeStatements(List<String> statements, RowCallbackHandler rowHandler, TestContext context) {
+        for (String stmt : statements) {
+            validateSqlStatement(stmt);
+            final String toExecute = getStatementToExecute(stmt, context);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Executing SQL query in streaming mode: " + toExecute);
+            }
+
+            getJdbcTemplate().query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(toExecute, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                if (fetchSize > 0) {
+                    statement.setFetchSize(fetchSize);
+                }
+                return statement;
+            }, rowHandler);
+
+            log.info("SQL query execution successful");
+        }
+    }
+
     /**
      * Run statements and validate result set.
      * @param statements
@@ -145,13 +219,7 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     protected void executeStatements(List<String> statements, List<Map<String, Object>> allResultRows, Map<String, List<String>> columnValuesMap, TestContext context) {
         for (String stmt : statements) {
             validateSqlStatement(stmt);
-            final String toExecute;
-
-            if (stmt.trim().endsWith(";")) {
-                toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
-            } else {
-                toExecute = context.replaceDynamicContentInString(stmt.trim());
-            }
+            final String toExecute = getStatementToExecute(stmt, context);
 
             if (log.isDebugEnabled()) {
                 log.debug("Executing SQL query: " + toExecute);
@@ -187,6 +255,18 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
     }
 
+    /**
+     * Saves the first value of each column as test variable named after the upper case column name.
+     * @param firstValues the map containing column names --> first result value
+     * @param context the test context the variables are stored to
+     */
+    private void saveColumnVariables(Map<String, String> firstValues, TestContext context) {
+        // legacy: save all columns as variables TODO: remove in major version upgrade
+        for (Entry<String, String> column : firstValues.entrySet()) {
+            context.setVariable(column.getKey().toUpperCase(), column.getValue() == null ? NULL_VALUE : column.getValue());
+        }
+    }
+
     /**
      * Form a Map object which contains all columns of the result as keys
      * and a List of row values as values of the Map
@@ -202,17 +282,25 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
                     columnValuesMap.put(columnName, new ArrayList<String>());
                 }
 
-                if (column.getValue() instanceof byte[]) {
-                    columnValue = Base64.encodeBase64String((byte[]) column.getValue());
-                } else {
-                    columnValue = column.getValue() == null ? null : column.getValue().toString();
-                }
-
+                columnValue = getColumnValue(column.getValue());
                 columnValuesMap.get(columnName).add((columnValue));
             }
         }
     }
 
+    /**
+     * Converts column value to its string representation. Binary values are Base64 encoded.
+     * @param value
+     * @return
+     */
+    private static String getColumnValue(Object value) {
+        if (value instanceof byte[]) {
+            return Base64.encodeBase64String((byte[]) value);
+        } else {
+            return value == null ? null : value.toString();
+        }
+    }
+
     /**
      * Gets the script validator implementation either autowired from application context
      * or if not set here a default implementation.
@@ -423,6 +511,242 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         return scriptValidationContext;
     }
 
+    /**
+     * Gets the streaming.
+     * @return the streaming
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Gets the fetchSize.
+     * @return the fetchSize
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Gets the checksum.
+     * @return the checksum
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Gets the checksumVariable.
+     * @return the checksumVariable
+     */
+    public String getChecksumVariable() {
+        return checksumVariable;
+    }
+
+    /**
+     * Row handler validates and extracts result rows one by one in streaming mode. Only values that are required for
+     * variable extraction and the first row of each column are kept in memory.
+     */
+    private class StreamingResultSetHandler implements RowCallbackHandler {
+
+        private final TestContext context;
+
+        /** Current result set and its column names */
+        private ResultSet resultSet;
+        private String[] columnNames;
+
+        /** Number of values read per column */
+        private final Map<String, int[]> rowCounts = new HashMap<>();
+
+        /** Result set column names for control result set and extract variables columns */
+        private final Map<String, String> controlColumns = new HashMap<>();
+        private final Map<String, String> extractColumns = new HashMap<>();
+
+        /** First value per column */
+        private final Map<String, String> firstValues = new LinkedHashMap<>();
+
+        /** Extracted values per column */
+        private final Map<String, StringBuilder> extractedValues = new HashMap<>();
+
+        /** Collected result rows for script validation */
+        private final List<Map<String, Object>> resultRows = new ArrayList<>();
+
+        /** Result set checksum */
+        private final MessageDigest digest;
+
+        StreamingResultSetHandler(TestContext context) {
+            this.context = context;
+
+            if (checksum != null || checksumVariable != null) {
+                try {
+                    digest = MessageDigest.getInstance("SHA-256");
+                } catch (NoSuchAlgorithmException e) {
+                    throw new CitrusRuntimeException("Failed to create result set checksum", e);
+                }
+            } else {
+                digest = null;
+            }
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            if (rs != resultSet) {
+                initColumns(rs);
+            }
+
+            Map<String, Object> resultRow = scriptValidationContext != null ? new LinkedCaseInsensitiveMap<>(columnNames.length) : null;
+
+            for (int i = 0; i < columnNames.length; i++) {
+                String columnName = columnNames[i];
+                Object value = JdbcUtils.getResultSetValue(rs, i + 1);
+                String columnValue = getColumnValue(value);
+
+                int rowIndex = rowCounts.computeIfAbsent(columnName, key -> new int[1])[0]++;
+                if (rowIndex == 0) {
+                    firstValues.put(columnName, columnValue);
+                }
+
+                List<String> controlValues = controlColumns.containsKey(columnName) ? controlResultSet.get(controlColumns.get(columnName)) : null;
+                if (controlValues != null && rowIndex < controlValues.size()) {
+                    validateSingleValue(columnName, context.replaceDynamicContentInString(controlValues.get(rowIndex)), columnValue, context);
+                }
+
+                if (extractColumns.containsKey(columnName)) {
+                    StringBuilder extracted = extractedValues.computeIfAbsent(columnName, key -> new StringBuilder());
+                    if (rowIndex == 0) {
+                        extracted.append(columnValue);
+                    } else {
+                        extracted.append(";").append(columnValue == null ? NULL_VALUE : columnValue);
+                    }
+                }
+
+                if (digest != null) {
+                    digest.update((columnValue == null ? NULL_VALUE : columnValue).getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                }
+
+                if (resultRow != null) {
+                    resultRow.put(columnName, value);
+                }
+            }
+
+            if (resultRow != null) {
+                resultRows.add(resultRow);
+            }
+        }
+
+        /**
+         * Reads column names of new result set and maps control result set and extract variables columns.
+         * @param rs
+         * @throws SQLException
+         */
+        private void initColumns(ResultSet rs) throws SQLException {
+            resultSet = rs;
+
+            ResultSetMetaData metaData = rs.getMetaData();
+            columnNames = new String[metaData.getColumnCount()];
+            for (int i = 0; i < columnNames.length; i++) {
+                columnNames[i] = JdbcUtils.lookupColumnName(metaData, i + 1);
+            }
+
+            List<String> names = Arrays.asList(columnNames);
+            for (String controlColumn : controlResultSet.keySet()) {
+                String columnName = findColumn(names, controlColumn);
+                if (columnName != null) {
+                    controlColumns.putIfAbsent(columnName, controlColumn);
+                }
+            }
+
+            for (String extractColumn : extractVariables.keySet()) {
+                String columnName = findColumn(names, extractColumn);
+                if (columnName != null) {
+                    extractColumns.putIfAbsent(columnName, extractColumn);
+                }
+            }
+        }
+
+        /**
+         * Finds column name in result set preferring lower case and upper case representations.
+         * @param names
+         * @param columnName
+         * @return
+         */
+        private String findColumn(List<String> names, String columnName) {
+            if (names.contains(columnName.toLowerCase())) {
+                return columnName.toLowerCase();
+            } else if (names.contains(columnName.toUpperCase())) {
+                return columnName.toUpperCase();
+            } else if (names.contains(columnName)) {
+                return columnName;
+            }
+
+            return null;
+        }
+
+        /**
+         * Performs script validation, checks row counts and checksum and saves variables once all rows have been processed.
+         */
+        void complete() {
+            if (scriptValidationContext != null) {
+                getScriptValidator(context).validateSqlResultSet(resultRows, scriptValidationContext, context);
+            }
+
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                String columnName = controlColumns.entrySet().stream()
+                        .filter(entry -> entry.getValue().equals(controlEntry.getKey()))
+                        .map(Entry::getKey)
+                        .findFirst()
+                        .orElseThrow(() -> new CitrusRuntimeException("Could not find column '" + controlEntry.getKey() + "' in SQL result set"));
+
+                int rowCount = rowCounts.get(columnName)[0];
+                if (rowCount != controlEntry.getValue().size()) {
+                    throw new CitrusRuntimeException("Validation failed for column: '" +  columnName + "' " +
+                            "expected rows count: " + controlEntry.getValue().size() + " but was " + rowCount);
+                }
+            }
+
+            if (!CollectionUtils.isEmpty(controlResultSet)) {
+                log.info("SQL query validation successful: All values OK");
+            }
+
+            if (digest != null) {
+                String resultChecksum = Hex.encodeHexString(digest.digest());
+
+                if (checksum != null) {
+                    String controlChecksum = context.replaceDynamicContentInString(checksum);
+                    if (!controlChecksum.equalsIgnoreCase(resultChecksum)) {
+                        throw new ValidationException("Validation failed for SQL result set checksum: " +
+                                "found value: '" + resultChecksum + "' expected value: " + controlChecksum);
+                    }
+
+                    log.info("SQL result set checksum validation successful");
+                }
+
+                if (checksumVariable != null) {
+                    context.setVariable(checksumVariable, resultChecksum);
+                }
+            }
+
+            for (Entry<String, String> variableEntry : extractVariables.entrySet()) {
+                String columnName = extractColumns.entrySet().stream()
+                        .filter(entry -> entry.getValue().equals(variableEntry.getKey()))
+                        .map(Entry::getKey)
+                        .findFirst()
+                        .orElseThrow(() -> new CitrusRuntimeException("Failed to create variables from database values! " +
+                                "Unable to find column '" + variableEntry.getKey() + "' in database result set"));
+
+                if (rowCounts.get(columnName)[0] == 1) {
+                    String value = firstValues.get(columnName);
+                    context.setVariable(variableEntry.getValue(), value == null ? NULL_VALUE : value);
+                } else {
+                    context.setVariable(variableEntry.getValue(), extractedValues.get(columnName).toString());
+                }
+            }
+
+            saveColumnVariables(firstValues, context);
+        }
+    }
+
     /**
      * Action builder.
      */
@@ -432,6 +756,10 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         private Map<String, String> extractVariables = new HashMap<>();
         private ScriptValidationContext scriptValidationContext;
         private SqlResultSetScriptValidator validator;
+        private boolean streaming;
+        private int fetchSize;
+        private String checksum;
+        private String checksumVariable;
 
         public static Builder query(DataSource dataSource) {
             Builder builder = new Builder();
@@ -542,6 +870,51 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             return this;
         }
 
+        /**
+         * Enables streaming mode validating result rows one by one without loading the result set into memory.
+         */
+        public Builder streaming() {
+            return streaming(true);
+        }
+
+        /**
+         * Enables/disables streaming mode.
+         * @param streaming
+         */
+        public Builder streaming(boolean streaming) {
+            this.streaming = streaming;
+            return this;
+        }
+
+        /**
+         * Sets the JDBC fetch size used in streaming mode.
+         * @param fetchSize
+         */
+        public Builder fetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Validates SHA-256 checksum over all result set values in streaming mode.
+         * @param checksum
+         */
+        public Builder checksum(String checksum) {
+            this.streaming = true;
+            this.checksum = checksum;
+            return this;
+        }
+
+        /**
+         * Saves SHA-256 checksum over all result set values to given variable in streaming mode.
+         * @param variableName
+         */
+        public Builder extractChecksum(String variableName) {
+            this.streaming = true;
+            this.checksumVariable = variableName;
+            return this;
+        }
+
         @Override
         public ExecuteSQLQueryAction build() {
             return new ExecuteSQLQueryAction(this);
@@ -102,6 +102,8 @@ public class SQLActionParser implements BeanDefinitionParser {
             beanDefinition.addPropertyValue("ignoreErrors", true);
         }
 
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("batch-size"), "batchSize");
+
         return beanDefinition;
     }
 
@@ -150,6 +152,11 @@ public class SQLActionParser implements BeanDefinitionParser {
 
         beanDefinition.addPropertyValue("extractVariables", extractVariables);
 
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("streaming"), "streaming");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("fetch-size"), "fetchSize");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("checksum"), "checksum");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("checksum-variable"), "checksumVariable");
+
         return beanDefinition;
     }
 
@@ -193,6 +200,14 @@ public class SQLActionParser implements BeanDefinitionParser {
             builder.ignoreErrors(ignoreErrors);
         }
 
+        /**
+         * Sets the number of statements executed in one JDBC batch.
+         * @param batchSize
+         */
+        public void setBatchSize(int batchSize) {
+            builder.batchSize(batchSize);
+        }
+
         @Override
         public Class<?> getObjectType() {
             return ExecuteSQLAction.class;
@@ -254,6 +269,38 @@ public class SQLActionParser implements BeanDefinitionParser {
             }
         }
 
+        /**
+         * Enables/disables streaming mode.
+         * @param streaming
+         */
+        public void setStreaming(boolean streaming) {
+            builder.streaming(streaming);
+        }
+
+        /**
+         * Sets the JDBC fetch size used in streaming mode.
+         * @param fetchSize
+         */
+        public void setFetchSize(int fetchSize) {
+            builder.fetchSize(fetchSize);
+        }
+
+        /**
+         * Sets the expected result set checksum.
+         * @param checksum
+         */
+        public void setChecksum(String checksum) {
+            builder.checksum(checksum);
+        }
+
+        /**
+         * Sets the variable name to save the result set checksum to.
+         * @param checksumVariable
+         */
+        public void setChecksumVariable(String checksumVariable) {
+            builder.extractChecksum(checksumVariable);
+        }
+
         @Override
         public Class<?> getObjectType() {
             return ExecuteSQLQueryAction.class;
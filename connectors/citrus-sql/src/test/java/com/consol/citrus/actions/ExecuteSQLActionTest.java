@@ -17,6 +17,7 @@
 package com.consol.citrus.actions;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -28,7 +29,10 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 
@@ -166,4 +170,40 @@ public class ExecuteSQLActionTest extends AbstractTestNGUnitTest {
         executeSQLActionBuilder.build().execute(context);
         verify(jdbcTemplate).execute(DB_STMT_1);
     }
+
+    @Test
+    public void testSQLExecutionWithBatches() {
+        executeSQLActionBuilder.statements(Arrays.asList(
+                DB_STMT_1,
+                "INSERT INTO ERRORS (ID, STATUS) VALUES (1, 'open');",
+                "INSERT INTO ERRORS (ID, STATUS) VALUES (2, 'it''s ${status}')",
+                "INSERT INTO ERRORS (ID, CREATED) VALUES (3, '2021-01-01')",
+                "INSERT INTO ERRORS (ID, STATUS) VALUES (4, 'back\\'slash')",
+                DB_STMT_2));
+        executeSQLActionBuilder.batchSize(2);
+
+        context.setVariable("status", "resolved");
+        reset(jdbcTemplate);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        verify(jdbcTemplate).batchUpdate(new String[] { DB_STMT_1, "INSERT INTO ERRORS (ID, STATUS) VALUES (1, 'open')" });
+        verify(jdbcTemplate).batchUpdate(new String[] { "INSERT INTO ERRORS (ID, STATUS) VALUES (2, 'it''s resolved')", "INSERT INTO ERRORS (ID, CREATED) VALUES (3, '2021-01-01')" });
+        verify(jdbcTemplate).batchUpdate(new String[] { "INSERT INTO ERRORS (ID, STATUS) VALUES (4, 'back\\'slash')", DB_STMT_2 });
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    public void testSQLExecutionBatchesIgnoredOnIgnoreErrors() {
+        executeSQLActionBuilder.statements(Arrays.asList(DB_STMT_1, DB_STMT_2));
+        executeSQLActionBuilder.batchSize(10);
+        executeSQLActionBuilder.ignoreErrors(true);
+
+        reset(jdbcTemplate);
+
+        executeSQLActionBuilder.build().execute(context);
+        verify(jdbcTemplate).execute(DB_STMT_1);
+        verify(jdbcTemplate).execute(DB_STMT_2);
+    }
 }
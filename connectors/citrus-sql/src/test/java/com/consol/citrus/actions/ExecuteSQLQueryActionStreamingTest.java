@@ -0,0 +1,147 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.actions;
+
+import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class ExecuteSQLQueryActionStreamingTest extends UnitTestSupport {
+
+    private static final String DB_STMT = "select NAME, HEIGHT from customers order by ID";
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeClass
+    public void setupDatabase() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:hsqldb:mem:streaming", "sa", "");
+        dataSource.setDriverClassName("org.hsqldb.jdbcDriver");
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE customers (ID integer, NAME varchar(250), HEIGHT integer)");
+        jdbcTemplate.execute("INSERT INTO customers VALUES (1, 'Christoph', 185)");
+        jdbcTemplate.execute("INSERT INTO customers VALUES (2, 'Mickey', NULL)");
+        jdbcTemplate.execute("INSERT INTO customers VALUES (3, 'Donald', 120)");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void dropDatabase() {
+        jdbcTemplate.execute("DROP TABLE customers");
+    }
+
+    @Test
+    public void testStreamingValidation() {
+        ExecuteSQLQueryAction action = new ExecuteSQLQueryAction.Builder()
+                .jdbcTemplate(jdbcTemplate)
+                .statement(DB_STMT)
+                .streaming()
+                .fetchSize(2)
+                .validate("NAME", "Christoph", "Mickey", "@ignore@")
+                .validate("height", "185", "NULL", "120")
+                .extract("NAME", "names")
+                .extract("HEIGHT", "heights")
+                .build();
+
+        action.execute(context);
+
+        Assert.assertEquals(action.getFetchSize(), 2);
+        Assert.assertEquals(context.getVariable("names"), "Christoph;Mickey;Donald");
+        Assert.assertEquals(context.getVariable("heights"), "185;NULL;120");
+        Assert.assertEquals(context.getVariable("NAME"), "Christoph");
+        Assert.assertEquals(context.getVariable("HEIGHT"), "185");
+    }
+
+    @Test
+    public void testStreamingChecksum() {
+        new ExecuteSQLQueryAction.Builder()
+                .jdbcTemplate(jdbcTemplate)
+                .statement(DB_STMT)
+                .extractChecksum("checksum")
+                .build()
+                .execute(context);
+
+        String checksum = context.getVariable("checksum");
+        Assert.assertEquals(checksum.length(), 64);
+
+        new ExecuteSQLQueryAction.Builder()
+                .jdbcTemplate(jdbcTemplate)
+                .statement(DB_STMT)
+                .checksum("${checksum}")
+                .build()
+                .execute(context);
+
+        try {
+            new ExecuteSQLQueryAction.Builder()
+                    .jdbcTemplate(jdbcTemplate)
+                    .statement("select NAME, HEIGHT from customers where ID < 3 order by ID")
+                    .checksum(checksum)
+                    .build()
+                    .execute(context);
+            Assert.fail("Missing validation exception due to checksum mismatch");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Validation failed for SQL result set checksum"));
+        }
+    }
+
+    @Test(expectedExceptions = ValidationException.class)
+    public void testStreamingValidationError() {
+        new ExecuteSQLQueryAction.Builder()
+                .jdbcTemplate(jdbcTemplate)
+                .statement(DB_STMT)
+                .streaming()
+                .validate("NAME", "Christoph", "Minnie", "Donald")
+                .build()
+                .execute(context);
+    }
+
+    @Test
+    public void testStreamingRowCountMismatch() {
+        try {
+            new ExecuteSQLQueryAction.Builder()
+                    .jdbcTemplate(jdbcTemplate)
+                    .statement(DB_STMT)
+                    .streaming()
+                    .validate("NAME", "Christoph", "Mickey")
+                    .build()
+                    .execute(context);
+            Assert.fail("Missing exception due to row count mismatch");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("expected rows count: 2 but was 3"), e.getMessage());
+        }
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class,
+            expectedExceptionsMessageRegExp = "Could not find column 'UNKNOWN' in SQL result set")
+    public void testStreamingMissingColumn() {
+        new ExecuteSQLQueryAction.Builder()
+                .jdbcTemplate(jdbcTemplate)
+                .statement(DB_STMT)
+                .streaming()
+                .validate("UNKNOWN", "foo")
+                .build()
+                .execute(context);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus;
+
+import java.time.Duration;
+
+/**
+ * Execution time of a test action. Nesting level is zero for actions executed directly by the test case and
+ * increases with each test action container the action is nested in. Repeated executions (e.g. loop iterations) are
+ * aggregated, so the duration is the total execution time of all executions.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public final class TestActionDuration {
+
+    /** Name of the test action */
+    private final String name;
+
+    /** Nesting level of the test action */
+    private final int level;
+
+    /** Test action execution time */
+    private final Duration duration;
+
+    /** Number of executions */
+    private final int count;
+
+    /**
+     * Constructor for a single execution.
+     * @param name
+     * @param level
+     * @param duration
+     */
+    public TestActionDuration(String name, int level, Duration duration) {
+        this(name, level, duration, 1);
+    }
+
+    /**
+     * Default constructor using fields.
+     * @param name
+     * @param level
+     * @param duration
+     * @param count
+     */
+    public TestActionDuration(String name, int level, Duration duration, int count) {
+        this.name = name;
+        this.level = level;
+        this.duration = duration;
+        this.count = count;
+    }
+
+    /**
+     * Gets the test action name.
+     * @return
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the nesting level.
+     * @return
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the test action execution time.
+     * @return
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets the number of executions.
+     * @return
+     */
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return name + (count > 1 ? " [" + count + "x]" : "") + " (" + duration.toMillis() + "ms)";
+    }
+}
@@ -16,8 +16,11 @@
 
 package com.consol.citrus;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -58,6 +61,12 @@ public final class TestResult {
     /** Failure type information */
     private String failureType;
 
+    /** Test execution time */
+    private Duration duration = Duration.ZERO;
+
+    /** Execution times of all test actions */
+    private List<TestActionDuration> actionDurations = Collections.emptyList();
+
     /**
      * Create new test result for successful execution.
      * @param name
@@ -364,4 +373,58 @@ public final class TestResult {
         setFailureStack(failureStack);
         return this;
     }
+
+    /**
+     * Gets the test execution time.
+     *
+     * @return
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Sets the test execution time.
+     *
+     * @param duration
+     */
+    public void setDuration(Duration duration) {
+        this.duration = duration;
+    }
+
+    /**
+     * Sets test execution time in fluent API.
+     * @return
+     */
+    public TestResult withDuration(Duration duration) {
+        setDuration(duration);
+        return this;
+    }
+
+    /**
+     * Gets the execution times of all test actions in order of action start.
+     *
+     * @return
+     */
+    public List<TestActionDuration> getActionDurations() {
+        return actionDurations;
+    }
+
+    /**
+     * Sets the execution times of all test actions.
+     *
+     * @param actionDurations
+     */
+    public void setActionDurations(List<TestActionDuration> actionDurations) {
+        this.actionDurations = actionDurations;
+    }
+
+    /**
+     * Sets test action execution times in fluent API.
+     * @return
+     */
+    public TestResult withActionDurations(List<TestActionDuration> actionDurations) {
+        setActionDurations(actionDurations);
+        return this;
+    }
 }
@@ -26,6 +26,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 import com.consol.citrus.CitrusSettings;
@@ -44,6 +46,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.VariableNullValueException;
 import com.consol.citrus.functions.FunctionRegistry;
 import com.consol.citrus.functions.FunctionUtils;
+import com.consol.citrus.message.BoundedMessageStore;
 import com.consol.citrus.message.DefaultMessageStore;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageDirection;
@@ -55,10 +58,12 @@ import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.report.TestActionListener;
 import com.consol.citrus.report.TestActionListenerAware;
 import com.consol.citrus.report.TestActionListeners;
+import com.consol.citrus.report.TestActionTimings;
 import com.consol.citrus.report.TestListeners;
 import com.consol.citrus.spi.ReferenceResolver;
 import com.consol.citrus.spi.ReferenceResolverAware;
 import com.consol.citrus.util.DefaultTypeConverter;
+import com.consol.citrus.util.TaskExecutors;
 import com.consol.citrus.util.TypeConverter;
 import com.consol.citrus.validation.MessageValidatorRegistry;
 import com.consol.citrus.validation.matcher.ValidationMatcherRegistry;
@@ -94,7 +99,7 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
     /**
      * Message store
      */
-    private MessageStore messageStore = new DefaultMessageStore();
+    private MessageStore messageStore = BoundedMessageStore.isEnabled() ? new BoundedMessageStore() : new DefaultMessageStore();
 
     /**
      * Function registry holding all available functions
@@ -164,13 +169,23 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
     /**
      * List of exceptions that actions raised during execution of forked operations
      */
-    private List<CitrusRuntimeException> exceptions = new ArrayList<>();
+    private List<CitrusRuntimeException> exceptions = new CopyOnWriteArrayList<>();
 
     /**
      * Type converter.
      */
     private TypeConverter typeConverter = new DefaultTypeConverter();
 
+    /**
+     * Executor service running forked and parallel test actions
+     */
+    private ExecutorService executorService = TaskExecutors.getDefault();
+
+    /**
+     * Execution times of all test actions executed in this context
+     */
+    private TestActionTimings testActionTimings = new TestActionTimings();
+
     /**
      * Default constructor
      */
@@ -428,8 +443,7 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         String result = null;
 
         if (str != null) {
-            result = VariableUtils.replaceVariablesInString(str, this, enableQuoting);
-            result = FunctionUtils.replaceFunctionsInString(result, this, enableQuoting);
+            result = FunctionUtils.replaceVariablesAndFunctionsInString(str, this, enableQuoting);
         }
 
         return result;
@@ -785,6 +799,38 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         this.typeConverter = typeConverter;
     }
 
+    /**
+     * Obtains the executorService.
+     * @return
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Specifies the executorService.
+     * @param executorService
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Obtains the testActionTimings.
+     * @return
+     */
+    public TestActionTimings getTestActionTimings() {
+        return testActionTimings;
+    }
+
+    /**
+     * Specifies the testActionTimings.
+     * @param testActionTimings
+     */
+    public void setTestActionTimings(TestActionTimings testActionTimings) {
+        this.testActionTimings = testActionTimings;
+    }
+
     /**
      * Informs message listeners if present that inbound message was received.
      *
@@ -18,6 +18,7 @@ package com.consol.citrus.context;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import com.consol.citrus.container.AfterTest;
 import com.consol.citrus.container.BeforeTest;
@@ -32,6 +33,7 @@ import com.consol.citrus.spi.ReferenceResolver;
 import com.consol.citrus.spi.ReferenceResolverAware;
 import com.consol.citrus.spi.SimpleReferenceResolver;
 import com.consol.citrus.util.DefaultTypeConverter;
+import com.consol.citrus.util.TaskExecutors;
 import com.consol.citrus.util.TypeConverter;
 import com.consol.citrus.validation.MessageValidatorRegistry;
 import com.consol.citrus.validation.matcher.ValidationMatcherRegistry;
@@ -74,6 +76,8 @@ public class TestContextFactory implements ReferenceResolverAware {
 
     private TypeConverter typeConverter;
 
+    private ExecutorService executorService;
+
     /**
      * Create new empty instance with default components set.
      * @return
@@ -93,6 +97,7 @@ public class TestContextFactory implements ReferenceResolverAware {
         factory.setReferenceResolver(new SimpleReferenceResolver());
         factory.setNamespaceContextBuilder(new NamespaceContextBuilder());
         factory.setTypeConverter(new DefaultTypeConverter());
+        factory.setExecutorService(TaskExecutors.getDefault());
 
         return factory;
     }
@@ -124,6 +129,10 @@ public class TestContextFactory implements ReferenceResolverAware {
             context.setTypeConverter(typeConverter);
         }
 
+        if (executorService != null) {
+            context.setExecutorService(executorService);
+        }
+
         return context;
     }
 
@@ -343,4 +352,20 @@ public class TestContextFactory implements ReferenceResolverAware {
     public void setTypeConverter(TypeConverter typeConverter) {
         this.typeConverter = typeConverter;
     }
+
+    /**
+     * Obtains the executorService.
+     * @return
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Specifies the executorService.
+     * @param executorService
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
 }
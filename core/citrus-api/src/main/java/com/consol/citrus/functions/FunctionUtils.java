@@ -18,6 +18,7 @@ package com.consol.citrus.functions;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.InvalidFunctionUsageException;
+import com.consol.citrus.variable.CompiledTemplate;
 import com.consol.citrus.variable.VariableUtils;
 import org.springframework.util.StringUtils;
 
@@ -42,6 +43,21 @@ public final class FunctionUtils {
         return replaceFunctionsInString(str, context, false);
     }
 
+    /**
+     * Search for variables and functions in string and replace with respective values. Variables are replaced first using
+     * the compiled template cached for the unresolved string. Functions are replaced afterwards in the resulting string one
+     * function library after the other so variable values and function results that contain function expressions of other
+     * libraries get resolved, too.
+     * @param str to parse.
+     * @param context
+     * @param enableQuoting enables quoting of variable values and function results.
+     * @return parsed string result.
+     */
+    public static String replaceVariablesAndFunctionsInString(final String str, TestContext context, boolean enableQuoting) {
+        String result = VariableUtils.replaceVariablesInString(str, context, enableQuoting);
+        return replaceFunctionsInString(result, context, enableQuoting);
+    }
+
     /**
      * Search for functions in string and replace with respective function result.
      * @param stringValue to parse.
@@ -58,61 +74,11 @@ public final class FunctionUtils {
         }
         
         String newString = stringValue;
-        StringBuffer strBuffer = new StringBuffer();
-
-        boolean isVarComplete = false;
-        StringBuffer variableNameBuf = new StringBuffer();
-
-        int startIndex = 0;
-        int curIndex;
-        int searchIndex;
-
         for (FunctionLibrary library: context.getFunctionRegistry().getFunctionLibraries()) {
-            startIndex = 0;
-
-            while ((searchIndex = newString.indexOf(library.getPrefix(), startIndex)) != -1) {
-                int control = -1;
-                isVarComplete = false;
-
-                curIndex = searchIndex;
-
-                while (curIndex < newString.length() && !isVarComplete) {
-                    if (newString.indexOf('(', curIndex) == curIndex) {
-                        control++;
-                    }
-
-                    if (newString.charAt(curIndex) == ')' || curIndex == newString.length() - 1) {
-                        if (control == 0) {
-                            isVarComplete = true;
-                        } else {
-                            control--;
-                        }
-                    }
-
-                    variableNameBuf.append(newString.charAt(curIndex));
-                    curIndex++;
-                }
-
-                final String value = resolveFunction(variableNameBuf.toString(), context);
-
-                strBuffer.append(newString.substring(startIndex, searchIndex));
-
-                if (enableQuoting) {
-                    strBuffer.append("'" + value + "'");
-                } else {
-                    strBuffer.append(value);
-                }
-
-                startIndex = curIndex;
-
-                variableNameBuf = new StringBuffer();
-                isVarComplete = false;
+            CompiledTemplate template = CompiledTemplate.functions(newString, library.getPrefix());
+            if (!template.isStatic()) {
+                newString = template.render(function -> resolveFunction(function, context), enableQuoting);
             }
-
-            strBuffer.append(newString.substring(startIndex));
-            newString = strBuffer.toString();
-
-            strBuffer = new StringBuffer();
         }
 
         return newString;
@@ -51,6 +51,12 @@ public class TestRunConfiguration {
     /** Optional test jar artifact holding tests */
     private File testJar;
 
+    /** Parallel test execution mode: none, methods, classes or tests */
+    private String parallel = "none";
+
+    /** Number of threads used in parallel test execution */
+    private int threadCount = 5;
+
     /**
      * Gets the engine.
      * @return
@@ -139,6 +145,42 @@ public class TestRunConfiguration {
         this.testJar = testJar;
     }
 
+    /**
+     * Gets the parallel mode.
+     *
+     * @return
+     */
+    public String getParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets the parallel mode.
+     *
+     * @param parallel
+     */
+    public void setParallel(String parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Gets the threadCount.
+     *
+     * @return
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Sets the threadCount.
+     *
+     * @param threadCount
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
     /**
      * Gets the defaultProperties.
      *
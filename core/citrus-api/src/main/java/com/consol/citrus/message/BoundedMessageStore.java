@@ -0,0 +1,362 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.consol.citrus.TestAction;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Message store keeping a bounded number of messages in memory. Messages are evicted oldest first when the store exceeds
+ * the maximum number of messages or when messages are older than the maximum age. Evicted messages are written to a compressed
+ * append only log file and loaded back on demand when requested by name, so long running tests do not keep all message payloads in memory.
+ *
+ * Messages are written to the log with Java serialization. Messages that are not serializable (e.g. because of a custom payload type)
+ * are discarded on eviction. Records of messages that have been stored again are dropped from the log. The log file is truncated once
+ * it holds no more messages and compacted when most of its content is no longer in use. The log file is deleted when the store is
+ * garbage collected or the JVM exits.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public class BoundedMessageStore implements MessageStore {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(BoundedMessageStore.class);
+
+    /** Maximum number of messages kept in memory, zero or negative for no limit */
+    public static final String MESSAGE_STORE_MAX_SIZE_PROPERTY = "citrus.message.store.max.size";
+    public static final String MESSAGE_STORE_MAX_SIZE_ENV = "CITRUS_MESSAGE_STORE_MAX_SIZE";
+    public static final int MESSAGE_STORE_MAX_SIZE = Integer.parseInt(System.getProperty(MESSAGE_STORE_MAX_SIZE_PROPERTY, System.getenv(MESSAGE_STORE_MAX_SIZE_ENV) != null ?
+            System.getenv(MESSAGE_STORE_MAX_SIZE_ENV) : "0"));
+
+    /** Maximum age in milliseconds of messages kept in memory, zero or negative for no limit */
+    public static final String MESSAGE_STORE_MAX_AGE_PROPERTY = "citrus.message.store.max.age";
+    public static final String MESSAGE_STORE_MAX_AGE_ENV = "CITRUS_MESSAGE_STORE_MAX_AGE";
+    public static final long MESSAGE_STORE_MAX_AGE = Long.parseLong(System.getProperty(MESSAGE_STORE_MAX_AGE_PROPERTY, System.getenv(MESSAGE_STORE_MAX_AGE_ENV) != null ?
+            System.getenv(MESSAGE_STORE_MAX_AGE_ENV) : "0"));
+
+    /** Directory for message log files, evicted messages are discarded when empty */
+    public static final String MESSAGE_STORE_SPILL_DIRECTORY_PROPERTY = "citrus.message.store.spill.directory";
+    public static final String MESSAGE_STORE_SPILL_DIRECTORY_ENV = "CITRUS_MESSAGE_STORE_SPILL_DIRECTORY";
+    public static final String MESSAGE_STORE_SPILL_DIRECTORY = System.getProperty(MESSAGE_STORE_SPILL_DIRECTORY_PROPERTY, System.getenv(MESSAGE_STORE_SPILL_DIRECTORY_ENV) != null ?
+            System.getenv(MESSAGE_STORE_SPILL_DIRECTORY_ENV) : System.getProperty("java.io.tmpdir"));
+
+    /** Deletes log files of stores that are no longer used */
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /** Log files not deleted yet */
+    private static final Set<SpillLog> OPEN_LOGS = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> OPEN_LOGS.forEach(SpillLog::run), "citrus-message-store-cleanup"));
+    }
+
+    /** Messages in memory in insertion order */
+    private final LinkedHashMap<String, StoredMessage> messages = new LinkedHashMap<>();
+
+    private final int maxSize;
+    private final long maxAgeNanos;
+    private final String spillDirectory;
+
+    /** Log holding evicted messages, created on first eviction */
+    private SpillLog spillLog;
+
+    /**
+     * Default constructor using the message store settings.
+     */
+    public BoundedMessageStore() {
+        this(MESSAGE_STORE_MAX_SIZE, MESSAGE_STORE_MAX_AGE, MESSAGE_STORE_SPILL_DIRECTORY);
+    }
+
+    /**
+     * Constructor using maximum number of messages, maximum age in milliseconds and the spill directory.
+     * @param maxSize
+     * @param maxAge
+     * @param spillDirectory
+     */
+    public BoundedMessageStore(int maxSize, long maxAge, String spillDirectory) {
+        this.maxSize = maxSize;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAge);
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Checks if message store settings define a size or age limit so bounded message store should be used.
+     * @return
+     */
+    public static boolean isEnabled() {
+        return MESSAGE_STORE_MAX_SIZE > 0 || MESSAGE_STORE_MAX_AGE > 0;
+    }
+
+    @Override
+    public synchronized Message getMessage(String id) {
+        evict();
+
+        StoredMessage stored = messages.get(id);
+        if (stored != null) {
+            return stored.message;
+        }
+
+        return spillLog != null ? spillLog.read(id) : null;
+    }
+
+    @Override
+    public synchronized void storeMessage(String id, Message message) {
+        messages.remove(id);
+        messages.put(id, new StoredMessage(message, System.nanoTime()));
+
+        if (spillLog != null) {
+            spillLog.remove(id);
+        }
+
+        evict();
+    }
+
+    @Override
+    public String constructMessageName(TestAction action, Endpoint endpoint) {
+        return action.getName() + "(" + endpoint.getName() + ")";
+    }
+
+    /**
+     * Gets the number of messages kept in memory.
+     * @return
+     */
+    public synchronized int getSize() {
+        return messages.size();
+    }
+
+    /**
+     * Gets the number of evicted messages available in the message log.
+     * @return
+     */
+    public synchronized int getSpilledSize() {
+        return spillLog != null ? spillLog.size() : 0;
+    }
+
+    /**
+     * Evicts oldest messages exceeding the size or age limit.
+     */
+    private void evict() {
+        long now = System.nanoTime();
+
+        Iterator<Map.Entry<String, StoredMessage>> entries = messages.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, StoredMessage> eldest = entries.next();
+
+            boolean tooMany = maxSize > 0 && messages.size() > maxSize;
+            boolean tooOld = maxAgeNanos > 0 && now - eldest.getValue().storedAt > maxAgeNanos;
+            if (!tooMany && !tooOld) {
+                break;
+            }
+
+            entries.remove();
+            spill(eldest.getKey(), eldest.getValue().message);
+        }
+    }
+
+    /**
+     * Writes evicted message to the message log.
+     * @param id
+     * @param message
+     */
+    private void spill(String id, Message message) {
+        if (spillDirectory == null || spillDirectory.isEmpty()) {
+            return;
+        }
+
+        if (spillLog == null) {
+            spillLog = new SpillLog(new File(spillDirectory));
+            OPEN_LOGS.add(spillLog);
+            CLEANER.register(this, spillLog);
+        }
+
+        spillLog.write(id, message);
+    }
+
+    /**
+     * Message in memory with the time it has been stored.
+     */
+    private static final class StoredMessage {
+        private final Message message;
+        private final long storedAt;
+
+        StoredMessage(Message message, long storedAt) {
+            this.message = message;
+            this.storedAt = storedAt;
+        }
+    }
+
+    /**
+     * Append only log file holding compressed serialized messages. Index maps message names to record positions.
+     * Log is truncated when the index is empty and compacted when less than half of the file holds indexed records.
+     * Running the log closes and deletes the file.
+     */
+    private static final class SpillLog implements Runnable {
+        /** Minimum log file size before unused records are compacted */
+        private static final long COMPACT_MIN_LENGTH = 1024 * 1024;
+
+        private final Path path;
+        private final RandomAccessFile file;
+        private final Map<String, long[]> index = new HashMap<>();
+
+        /** Number of bytes held by indexed records */
+        private long liveLength;
+
+        SpillLog(File directory) {
+            try {
+                Files.createDirectories(directory.toPath());
+                this.path = Files.createTempFile(directory.toPath(), "citrus-messages-", ".log");
+                this.file = new RandomAccessFile(path.toFile(), "rw");
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to create message store log file in directory: " + directory, e);
+            }
+        }
+
+        synchronized void write(String id, Message message) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(new DeflaterOutputStream(bytes))) {
+                out.writeObject(message);
+            } catch (NotSerializableException e) {
+                LOG.warn(String.format("Discarding evicted message '%s' - message is not serializable: %s", id, e.getMessage()));
+                return;
+            } catch (IOException e) {
+                throw new CitrusRuntimeException(String.format("Failed to serialize message '%s'", id), e);
+            }
+
+            try {
+                remove(id);
+
+                long offset = file.length();
+                file.seek(offset);
+                file.write(bytes.toByteArray());
+                index.put(id, new long[] { offset, bytes.size() });
+                liveLength += bytes.size();
+            } catch (IOException e) {
+                throw new CitrusRuntimeException(String.format("Failed to write message '%s' to message store log file", id), e);
+            }
+        }
+
+        synchronized Message read(String id) {
+            long[] position = index.get(id);
+            if (position == null) {
+                return null;
+            }
+
+            byte[] record = new byte[(int) position[1]];
+            try {
+                file.seek(position[0]);
+                file.readFully(record);
+            } catch (IOException e) {
+                throw new CitrusRuntimeException(String.format("Failed to read message '%s' from message store log file", id), e);
+            }
+
+            try (ObjectInputStream in = new ObjectInputStream(new InflaterInputStream(new ByteArrayInputStream(record)))) {
+                return (Message) in.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw new CitrusRuntimeException(String.format("Failed to deserialize message '%s'", id), e);
+            }
+        }
+
+        synchronized void remove(String id) {
+            long[] position = index.remove(id);
+            if (position == null) {
+                return;
+            }
+
+            liveLength -= position[1];
+
+            try {
+                if (index.isEmpty()) {
+                    file.setLength(0L);
+                } else if (file.length() > COMPACT_MIN_LENGTH && liveLength < file.length() / 2) {
+                    compact();
+                }
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to compact message store log file: " + path, e);
+            }
+        }
+
+        /**
+         * Moves all indexed records to the beginning of the file in their current order and truncates the file.
+         * Records only move towards the file start so they can be copied in place.
+         * @throws IOException
+         */
+        private void compact() throws IOException {
+            List<long[]> positions = new ArrayList<>(index.values());
+            positions.sort(Comparator.comparingLong(position -> position[0]));
+
+            long offset = 0L;
+            for (long[] position : positions) {
+                if (position[0] != offset) {
+                    byte[] record = new byte[(int) position[1]];
+                    file.seek(position[0]);
+                    file.readFully(record);
+                    file.seek(offset);
+                    file.write(record);
+                    position[0] = offset;
+                }
+
+                offset += position[1];
+            }
+
+            file.setLength(offset);
+        }
+
+        synchronized int size() {
+            return index.size();
+        }
+
+        @Override
+        public synchronized void run() {
+            OPEN_LOGS.remove(this);
+
+            try {
+                file.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                LOG.warn("Failed to delete message store log file: " + path, e);
+            }
+        }
+    }
+}
@@ -16,8 +16,13 @@
 
 package com.consol.citrus.report;
 
+import java.time.Duration;
+
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.validation.MessageValidator;
+import com.consol.citrus.validation.context.ValidationContext;
 
 /**
  * @author Christoph Deppisch
@@ -41,4 +46,36 @@ public interface MessageListener {
      * @param context
      */
     void onOutboundMessage(Message message, TestContext context);
+
+    /**
+     * Invoked after a message has been sent via given endpoint. Duration is the time spent
+     * in the endpoint producer.
+     * @param message
+     * @param endpoint
+     * @param duration
+     * @param context
+     */
+    default void onMessageSent(Message message, Endpoint endpoint, Duration duration, TestContext context) {
+    }
+
+    /**
+     * Invoked after a message has been received via given endpoint. Duration is the time spent
+     * in the endpoint consumer including the time waiting for the message to arrive.
+     * @param message
+     * @param endpoint
+     * @param duration
+     * @param context
+     */
+    default void onMessageReceived(Message message, Endpoint endpoint, Duration duration, TestContext context) {
+    }
+
+    /**
+     * Invoked after given message validator has validated the received message.
+     * @param message
+     * @param validator
+     * @param duration
+     * @param context
+     */
+    default void onMessageValidated(Message message, MessageValidator<? extends ValidationContext> validator, Duration duration, TestContext context) {
+    }
 }
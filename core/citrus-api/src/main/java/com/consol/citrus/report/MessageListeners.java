@@ -16,12 +16,16 @@
 
 package com.consol.citrus.report;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.validation.MessageValidator;
+import com.consol.citrus.validation.context.ValidationContext;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -62,6 +66,48 @@ public class MessageListeners implements MessageListenerAware {
         }
     }
 
+    /**
+     * Delegate to all known message listener instances.
+     *
+     * @param message
+     * @param endpoint
+     * @param duration
+     * @param context
+     */
+    public void onMessageSent(Message message, Endpoint endpoint, Duration duration, TestContext context) {
+        for (MessageListener listener : messageListener) {
+            listener.onMessageSent(message, endpoint, duration, context);
+        }
+    }
+
+    /**
+     * Delegate to all known message listener instances.
+     *
+     * @param message
+     * @param endpoint
+     * @param duration
+     * @param context
+     */
+    public void onMessageReceived(Message message, Endpoint endpoint, Duration duration, TestContext context) {
+        for (MessageListener listener : messageListener) {
+            listener.onMessageReceived(message, endpoint, duration, context);
+        }
+    }
+
+    /**
+     * Delegate to all known message listener instances.
+     *
+     * @param message
+     * @param validator
+     * @param duration
+     * @param context
+     */
+    public void onMessageValidated(Message message, MessageValidator<? extends ValidationContext> validator, Duration duration, TestContext context) {
+        for (MessageListener listener : messageListener) {
+            listener.onMessageValidated(message, validator, duration, context);
+        }
+    }
+
     /**
      * Save check if message listeners are present.
      *
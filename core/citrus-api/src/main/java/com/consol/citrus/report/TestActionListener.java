@@ -16,6 +16,8 @@
 
 package com.consol.citrus.report;
 
+import java.time.Duration;
+
 import com.consol.citrus.TestAction;
 import com.consol.citrus.TestCase;
 
@@ -44,4 +46,14 @@ public interface TestActionListener {
      * @param testAction
      */
     void onTestActionSkipped(TestCase testCase, TestAction testAction);
+
+    /**
+     * Invoked when test action has been executed with success or failure. Duration is the
+     * overall execution time of the action including all nested actions in case of test action containers.
+     * @param testCase
+     * @param testAction
+     * @param duration
+     */
+    default void onTestActionDuration(TestCase testCase, TestAction testAction, Duration duration) {
+    }
 }
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.report;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -53,6 +54,12 @@ public class TestActionListeners implements TestActionListenerAware {
         }
     }
 
+    public void onTestActionDuration(TestCase testCase, TestAction testAction, Duration duration) {
+        for (TestActionListener listener : testActionListeners) {
+            listener.onTestActionDuration(testCase, testAction, duration);
+        }
+    }
+
     @Override
     public void addTestActionListener(TestActionListener listener) {
         this.testActionListeners.add(listener);
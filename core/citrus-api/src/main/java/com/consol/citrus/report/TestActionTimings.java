@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.TestAction;
+import com.consol.citrus.TestActionDuration;
+import com.consol.citrus.context.TestContext;
+
+/**
+ * Records execution times of all test actions executed in a test context, including actions nested in test action containers.
+ * Timings are kept in order of action start. Nested actions may run in other threads (e.g. in parallel containers), so the
+ * nesting level is derived from the running parent container instead of the current thread.
+ *
+ * Repeated executions of an action with the same name in the same parent (e.g. loop iterations) are aggregated into a single
+ * timing with the total execution time and the number of executions, so the number of timings is bounded by the test structure
+ * and does not grow with the number of iterations.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public class TestActionTimings {
+
+    /** Timings in order of first action start */
+    private final List<Timing> timings = new ArrayList<>();
+
+    /** Aggregated timings of actions executed by the test case by action name */
+    private final Map<String, Timing> topLevel = new HashMap<>();
+
+    /** Timings of currently running actions */
+    private final Map<TestAction, Timing> running = new IdentityHashMap<>();
+
+    /**
+     * Executes given action and records its execution time.
+     * @param parent the container executing the action or null for actions executed by the test case.
+     * @param action the action to execute.
+     * @param context the current test context.
+     */
+    public void execute(TestAction parent, TestAction action, TestContext context) {
+        Timing timing;
+        synchronized (this) {
+            Timing parentTiming = parent != null ? running.get(parent) : null;
+            Map<String, Timing> siblings = parentTiming != null ? parentTiming.children : topLevel;
+            int level = parentTiming != null ? parentTiming.level + 1 : 0;
+
+            timing = siblings.get(action.getName());
+            if (timing == null) {
+                timing = new Timing(action.getName(), level);
+                siblings.put(action.getName(), timing);
+                timings.add(timing);
+            }
+
+            running.put(action, timing);
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            action.execute(context);
+        } finally {
+            Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+            synchronized (this) {
+                timing.duration = timing.duration.plus(duration);
+                timing.count++;
+                running.remove(action);
+            }
+        }
+    }
+
+    /**
+     * Gets execution times of all finished actions in order of first action start.
+     * @return
+     */
+    public synchronized List<TestActionDuration> getDurations() {
+        return timings.stream()
+                .filter(timing -> timing.count > 0)
+                .map(timing -> new TestActionDuration(timing.name, timing.level, timing.duration, timing.count))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Aggregated timing of all executions of an action, duration and count are updated when an execution has finished.
+     */
+    private static final class Timing {
+        private final String name;
+        private final int level;
+        private final Map<String, Timing> children = new HashMap<>();
+        private Duration duration = Duration.ZERO;
+        private int count;
+
+        Timing(String name, int level) {
+            this.name = name;
+            this.level = level;
+        }
+    }
+}
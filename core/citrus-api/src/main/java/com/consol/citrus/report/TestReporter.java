@@ -16,6 +16,12 @@
 
 package com.consol.citrus.report;
 
+import java.util.Map;
+
+import com.consol.citrus.spi.ResourcePathTypeResolver;
+import com.consol.citrus.spi.TypeResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Interface for test reporters.
@@ -24,6 +30,30 @@ package com.consol.citrus.report;
  */
 public interface TestReporter {
 
+    /** Logger */
+    Logger LOG = LoggerFactory.getLogger(TestReporter.class);
+
+    /** Test reporter resource lookup path */
+    String RESOURCE_PATH = "META-INF/citrus/report/reporter";
+
+    /** Type resolver to find custom test reporters on classpath via resource path lookup */
+    TypeResolver TYPE_RESOLVER = new ResourcePathTypeResolver(RESOURCE_PATH);
+
+    /**
+     * Resolves all available test reporters from resource path lookup. Scans classpath for reporter meta information
+     * and instantiates those reporters.
+     * @return
+     */
+    static Map<String, TestReporter> lookup() {
+        Map<String, TestReporter> reporters = TYPE_RESOLVER.resolveAll("", TypeResolver.DEFAULT_TYPE_PROPERTY, "name");
+
+        if (LOG.isDebugEnabled()) {
+            reporters.forEach((k, v) -> LOG.debug(String.format("Found test reporter '%s' as %s", k, v.getClass())));
+        }
+
+        return reporters;
+    }
+
     /**
      * Test reporter generates a report for several test suite instances.
      */
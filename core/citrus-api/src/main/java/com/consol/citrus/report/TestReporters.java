@@ -1,9 +1,12 @@
 package com.consol.citrus.report;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
+import com.consol.citrus.TestActionDuration;
 import com.consol.citrus.TestCase;
 import com.consol.citrus.TestResult;
 
@@ -83,12 +86,16 @@ public class TestReporters implements TestListener, TestSuiteListener, TestRepor
 
     @Override
     public void onTestSuccess(TestCase test) {
-        testResults.addResult(TestResult.success(test.getName(), test.getTestClass().getName()));
+        testResults.addResult(TestResult.success(test.getName(), test.getTestClass().getName())
+                .withDuration(getDuration(test))
+                .withActionDurations(getActionDurations(test)));
     }
 
     @Override
     public void onTestFailure(TestCase test, Throwable cause) {
-        testResults.addResult(TestResult.failed(test.getName(), test.getTestClass().getName(), cause));
+        testResults.addResult(TestResult.failed(test.getName(), test.getTestClass().getName(), cause)
+                .withDuration(getDuration(test))
+                .withActionDurations(getActionDurations(test)));
     }
 
     @Override
@@ -96,6 +103,28 @@ public class TestReporters implements TestListener, TestSuiteListener, TestRepor
         testResults.addResult(TestResult.skipped(test.getName(), test.getTestClass().getName()));
     }
 
+    /**
+     * Gets execution time of given test from its test result if any.
+     * @param test
+     * @return
+     */
+    private Duration getDuration(TestCase test) {
+        return Optional.ofNullable(test.getTestResult())
+                .map(TestResult::getDuration)
+                .orElse(Duration.ZERO);
+    }
+
+    /**
+     * Gets test action execution times of given test from its test result if any.
+     * @param test
+     * @return
+     */
+    private List<TestActionDuration> getActionDurations(TestCase test) {
+        return Optional.ofNullable(test.getTestResult())
+                .map(TestResult::getActionDurations)
+                .orElse(Collections.emptyList());
+    }
+
     @Override
     public void addTestReporter(TestReporter testReporter) {
         this.testReporters.add(testReporter);
@@ -18,6 +18,7 @@ package com.consol.citrus.report;
 
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -155,6 +156,22 @@ public class TestResults {
         return results.size() > 0 ? decFormat.format((double)getSkipped() / (results.size())*100) : ZERO_PERCENTAGE;
     }
 
+    /**
+     * Gets the overall execution time of all tests.
+     * @return
+     */
+    public Duration getTotalDuration() {
+        Duration total = Duration.ZERO;
+
+        synchronized (results) {
+            for (TestResult testResult : results) {
+                total = total.plus(testResult.getDuration());
+            }
+        }
+
+        return total;
+    }
+
     /**
      * Callback interface for synchronized access to test results in iteration.
      */
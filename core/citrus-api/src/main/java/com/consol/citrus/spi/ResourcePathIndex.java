@@ -0,0 +1,216 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.spi;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+/**
+ * In memory index of resource path registrations in {@link #INDEXED_PATH}. The registration entries of each jar archive on the
+ * classpath are listed once and reused for all subsequent lookups instead of scanning the jar again for each resource path.
+ *
+ * Jar archives do not change while they are on the classpath. Classpath directories (e.g. in IDE or module builds) may change
+ * and are scanned as usual.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public final class ResourcePathIndex {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(ResourcePathIndex.class);
+
+    /** Base path of indexed resources */
+    public static final String INDEXED_PATH = "META-INF/citrus";
+
+    /** Enable/disable index lookup */
+    public static final String INDEX_ENABLED_PROPERTY = "citrus.spi.index.enabled";
+    public static final String INDEX_ENABLED_ENV = "CITRUS_SPI_INDEX_ENABLED";
+    public static final boolean INDEX_ENABLED = Boolean.parseBoolean(System.getProperty(INDEX_ENABLED_PROPERTY, System.getenv(INDEX_ENABLED_ENV) != null ?
+            System.getenv(INDEX_ENABLED_ENV) : Boolean.TRUE.toString()));
+
+    /** Loaded indexes per class loader */
+    private static final Map<ClassLoader, ResourcePathIndex> INSTANCES = new WeakHashMap<>();
+
+    /** Class loader used to lookup resources, weak reference so the index does not keep its own map key alive */
+    private final WeakReference<ClassLoader> classLoader;
+
+    /** Marks classpath roots that are not jar archives or whose jar entries could not be read */
+    private static final Set<String> NOT_INDEXED = Collections.unmodifiableSet(new LinkedHashSet<>());
+
+    /** Registration entries of jar archives by classpath root */
+    private final Map<String, Set<String>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor using the class loader to lookup resources.
+     * @param classLoader
+     */
+    ResourcePathIndex(ClassLoader classLoader) {
+        this.classLoader = new WeakReference<>(classLoader);
+    }
+
+    /**
+     * Gets the index for given class loader. Indexes are created once per class loader.
+     * @param classLoader
+     * @return
+     */
+    public static ResourcePathIndex getInstance(ClassLoader classLoader) {
+        synchronized (INSTANCES) {
+            return INSTANCES.computeIfAbsent(classLoader, ResourcePathIndex::new);
+        }
+    }
+
+    /**
+     * Gets all resources located directly in the given resource path on all classpath roots. Uses the cached entries for all
+     * jar archives and scans the remaining roots.
+     * @param path
+     * @return
+     * @throws IOException
+     */
+    public Resource[] getResources(String path) throws IOException {
+        ClassLoader classLoader = this.classLoader.get();
+        if (classLoader == null) {
+            // class loader has been garbage collected, nobody is able to load these resources anymore
+            return new Resource[0];
+        }
+
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+        if (!INDEX_ENABLED || !(path.equals(INDEXED_PATH) || path.startsWith(INDEXED_PATH + "/"))) {
+            return resolver.getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + path + "/*");
+        }
+
+        List<Resource> resources = new ArrayList<>();
+        Enumeration<URL> directories = classLoader.getResources(path);
+        while (directories.hasMoreElements()) {
+            String directory = directories.nextElement().toString();
+            if (directory.endsWith("/")) {
+                directory = directory.substring(0, directory.length() - 1);
+            }
+
+            String root = directory.endsWith(path) ? directory.substring(0, directory.length() - path.length()) : directory;
+            Set<String> rootEntries = getEntries(root);
+            if (rootEntries == null) {
+                resources.addAll(Arrays.asList(resolver.getResources(directory + "/*")));
+            } else {
+                resources.addAll(getIndexedResources(root, rootEntries, path));
+            }
+        }
+
+        return resources.toArray(new Resource[0]);
+    }
+
+    /**
+     * Gets indexed resources located directly in the given path of the classpath root.
+     * @param root
+     * @param rootEntries
+     * @param path
+     * @return
+     * @throws IOException
+     */
+    private List<Resource> getIndexedResources(String root, Set<String> rootEntries, String path) throws IOException {
+        List<Resource> resources = new ArrayList<>();
+        for (String entry : rootEntries) {
+            if (entry.startsWith(path + "/") && entry.indexOf('/', path.length() + 1) < 0) {
+                resources.add(new UrlResource(root + entry));
+            }
+        }
+
+        return resources;
+    }
+
+    /**
+     * Gets the registration entries of given classpath root. Jar entries are read once per classpath root.
+     * @param root
+     * @return entries or null when the root is not a jar archive or the jar entries could not be read.
+     */
+    private Set<String> getEntries(String root) {
+        if (!root.startsWith("jar:")) {
+            return null;
+        }
+
+        Set<String> rootEntries = entries.computeIfAbsent(root, this::readEntries);
+        return rootEntries == NOT_INDEXED ? null : rootEntries;
+    }
+
+    /**
+     * Reads all registration entries of the jar.
+     * @param root
+     * @return jar entries or {@link #NOT_INDEXED} when the jar entries could not be read.
+     */
+    private Set<String> readEntries(String root) {
+        Set<String> rootEntries = new LinkedHashSet<>();
+        try {
+            URLConnection connection = new URL(root).openConnection();
+            if (!(connection instanceof JarURLConnection)) {
+                return NOT_INDEXED;
+            }
+
+            JarURLConnection jarConnection = (JarURLConnection) connection;
+            JarFile jarFile = jarConnection.getJarFile();
+            try {
+                Enumeration<JarEntry> jarEntries = jarFile.entries();
+                while (jarEntries.hasMoreElements()) {
+                    String name = jarEntries.nextElement().getName();
+                    if (name.startsWith(INDEXED_PATH + "/") && !name.endsWith("/")) {
+                        rootEntries.add(name);
+                    }
+                }
+            } finally {
+                if (!jarConnection.getUseCaches()) {
+                    jarFile.close();
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn(String.format("Failed to read jar entries of %s - using classpath scanning", root), e);
+            return NOT_INDEXED;
+        }
+
+        return rootEntries;
+    }
+
+    /**
+     * Checks if entries of given classpath root have been cached.
+     * @param root
+     * @return
+     */
+    boolean isIndexed(String root) {
+        Set<String> rootEntries = entries.get(root);
+        return rootEntries != null && rootEntries != NOT_INDEXED;
+    }
+}
@@ -15,8 +15,6 @@ import java.util.stream.Stream;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
-import org.springframework.core.io.support.ResourcePatternResolver;
 
 /**
  * Type resolver resolves references via resource path lookup. Provided resource paths should point to a resource in classpath
@@ -28,6 +26,9 @@ import org.springframework.core.io.support.ResourcePatternResolver;
  * type=com.consol.citrus.MySpecialPojo
  *
  * Users can define custom property names to read instead of the default {@link TypeResolver#DEFAULT_TYPE_PROPERTY}.
+ *
+ * Resolving all resources in a resource path uses the {@link ResourcePathIndex} that caches the registration entries of
+ * jar archives.
  * @author Christoph Deppisch
  */
 public class ResourcePathTypeResolver implements TypeResolver {
@@ -41,6 +42,9 @@ public class ResourcePathTypeResolver implements TypeResolver {
     /** Base path for resources */
     private final String resourceBasePath;
 
+    /** Class loader used to read resources and load types */
+    private final ClassLoader classLoader;
+
     /**
      * Default constructor using META-INF resource base path.
      */
@@ -53,6 +57,17 @@ public class ResourcePathTypeResolver implements TypeResolver {
      * @param resourceBasePath
      */
     public ResourcePathTypeResolver(String resourceBasePath) {
+        this(resourceBasePath, ResourcePathTypeResolver.class.getClassLoader());
+    }
+
+    /**
+     * Constructor initializes with given resource path and class loader.
+     * @param resourceBasePath
+     * @param classLoader
+     */
+    public ResourcePathTypeResolver(String resourceBasePath, ClassLoader classLoader) {
+        this.classLoader = classLoader;
+
         if (resourceBasePath.endsWith("/")) {
             this.resourceBasePath = resourceBasePath.substring(0, resourceBasePath.length() -1);
         } else {
@@ -71,17 +86,17 @@ public class ResourcePathTypeResolver implements TypeResolver {
 
         try {
             if (initargs.length == 0) {
-                return (T) Class.forName(type).getDeclaredConstructor().newInstance();
+                return (T) Class.forName(type, true, classLoader).getDeclaredConstructor().newInstance();
             } else {
-                return (T) getConstructor(Class.forName(type), initargs).newInstance(initargs);
+                return (T) getConstructor(Class.forName(type, true, classLoader), initargs).newInstance(initargs);
             }
         } catch (ClassNotFoundException | IllegalAccessException | InstantiationException |
                 NoSuchMethodException | InvocationTargetException e) {
 
             try {
-                if (Arrays.stream(Class.forName(type).getFields()).anyMatch(f -> f.getName().equals(INSTANCE) &&
+                if (Arrays.stream(Class.forName(type, true, classLoader).getFields()).anyMatch(f -> f.getName().equals(INSTANCE) &&
                         Modifier.isStatic(f.getModifiers()))) {
-                    return (T) Class.forName(type).getField(INSTANCE).get(null);
+                    return (T) Class.forName(type, true, classLoader).getField(INSTANCE).get(null);
                 }
             } catch (IllegalAccessException | NoSuchFieldException | ClassNotFoundException e1) {
                 throw new CitrusRuntimeException(String.format("Failed to resolve classpath resource of type '%s'", type), e1);
@@ -99,7 +114,7 @@ public class ResourcePathTypeResolver implements TypeResolver {
         final String path = getFullResourcePath(resourcePath);
 
         try {
-            Stream.of(new PathMatchingResourcePatternResolver().getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + path + "/*"))
+            Stream.of(ResourcePathIndex.getInstance(classLoader).getResources(path))
                     .forEach(file -> {
                         Optional<String> resourceName = Optional.ofNullable(file.getFilename());
                         if (!resourceName.isPresent()) {
@@ -179,7 +194,7 @@ public class ResourcePathTypeResolver implements TypeResolver {
     private Properties readAsProperties(String resourcePath) {
         String path = getFullResourcePath(resourcePath);
 
-        InputStream in = ResourcePathTypeResolver.class.getClassLoader().getResourceAsStream(path);
+        InputStream in = classLoader.getResourceAsStream(path);
         if (in == null) {
             throw new CitrusRuntimeException(String.format("Failed to locate resource path '%s'", path));
         }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates executor services used by test action containers such as parallel, async, timer and wait to run actions
+ * in separate threads. Executor uses virtual threads when supported by the JVM (Java 21+) and a bounded thread pool otherwise.
+ *
+ * Thread pool reuses a bounded number of threads. When all pooled threads are busy the pool falls back to a dedicated
+ * thread for the task instead of queueing it, because tasks may block until other tasks have been started (e.g. receive
+ * and send actions in parallel branches).
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public final class TaskExecutors {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(TaskExecutors.class);
+
+    /** Executor mode: auto, virtual or pool */
+    public static final String EXECUTOR_MODE_PROPERTY = "citrus.executor.mode";
+    public static final String EXECUTOR_MODE_ENV = "CITRUS_EXECUTOR_MODE";
+    public static final String EXECUTOR_MODE = System.getProperty(EXECUTOR_MODE_PROPERTY, System.getenv(EXECUTOR_MODE_ENV) != null ?
+            System.getenv(EXECUTOR_MODE_ENV) : "auto");
+
+    /** Maximum number of pooled threads when virtual threads are not used */
+    public static final String EXECUTOR_POOL_SIZE_PROPERTY = "citrus.executor.pool.size";
+    public static final String EXECUTOR_POOL_SIZE_ENV = "CITRUS_EXECUTOR_POOL_SIZE";
+    public static final int EXECUTOR_POOL_SIZE = Integer.parseInt(System.getProperty(EXECUTOR_POOL_SIZE_PROPERTY, System.getenv(EXECUTOR_POOL_SIZE_ENV) != null ?
+            System.getenv(EXECUTOR_POOL_SIZE_ENV) : "64"));
+
+    /** Executor factory method available on Java 21+ */
+    private static final Method VIRTUAL_THREAD_EXECUTOR = lookupVirtualThreadExecutor();
+
+    /** Shared default executor service */
+    private static volatile ExecutorService defaultExecutorService;
+
+    /**
+     * Prevent instantiation.
+     */
+    private TaskExecutors() {
+    }
+
+    /**
+     * Gets the shared default executor service. The shared executor uses daemon threads and is never shut down.
+     * @return
+     */
+    public static ExecutorService getDefault() {
+        if (defaultExecutorService == null) {
+            synchronized (TaskExecutors.class) {
+                if (defaultExecutorService == null) {
+                    defaultExecutorService = newExecutorService();
+                }
+            }
+        }
+
+        return defaultExecutorService;
+    }
+
+    /**
+     * Creates new executor service according to the executor settings.
+     * @return
+     */
+    public static ExecutorService newExecutorService() {
+        return newExecutorService(EXECUTOR_MODE, EXECUTOR_POOL_SIZE);
+    }
+
+    /**
+     * Creates new executor service with given mode and pool size. Mode "auto" uses virtual threads if supported and
+     * a thread pool otherwise.
+     * @param mode
+     * @param poolSize
+     * @return
+     */
+    public static ExecutorService newExecutorService(String mode, int poolSize) {
+        switch (mode.toLowerCase()) {
+            case "virtual":
+                if (!isVirtualThreadSupported()) {
+                    throw new CitrusRuntimeException("Virtual threads are not supported by this JVM");
+                }
+
+                return newVirtualThreadExecutor();
+            case "pool":
+                return newThreadPool(poolSize);
+            case "auto":
+                return isVirtualThreadSupported() ? newVirtualThreadExecutor() : newThreadPool(poolSize);
+            default:
+                throw new CitrusRuntimeException(String.format("Unsupported executor mode '%s' - " +
+                        "please use one of 'auto', 'virtual' or 'pool'", mode));
+        }
+    }
+
+    /**
+     * Checks if the JVM supports virtual threads.
+     * @return
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Creates bounded thread pool with given maximum number of pooled threads.
+     * @param poolSize
+     * @return
+     */
+    private static ExecutorService newThreadPool(int poolSize) {
+        ThreadFactory threadFactory = new DaemonThreadFactory();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory,
+                (task, pool) -> {
+                    if (pool.isShutdown()) {
+                        throw new RejectedExecutionException("Executor has been shut down");
+                    }
+
+                    LOG.debug("All pooled threads are busy - running task in dedicated thread");
+                    threadFactory.newThread(task).start();
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates virtual thread per task executor.
+     * @return
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new CitrusRuntimeException("Failed to create virtual thread executor", e);
+        }
+    }
+
+    /**
+     * Looks up virtual thread executor factory method.
+     * @return the method or null when not supported.
+     */
+    private static Method lookupVirtualThreadExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates named daemon threads.
+     */
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "citrus-executor-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
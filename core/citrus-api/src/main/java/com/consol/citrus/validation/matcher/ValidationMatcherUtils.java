@@ -78,9 +78,7 @@ public final class ValidationMatcherUtils {
     private static List<String> replaceVariablesAndFunctionsInParameters(List<String> params, TestContext context) {
         List<String> replacedParams = new ArrayList<>(params.size());
         for (String param : params) {
-            String parsedVariablesParam = VariableUtils.replaceVariablesInString(param, context, false);
-            String parsedFunctionsParam = FunctionUtils.replaceFunctionsInString(parsedVariablesParam, context);
-            replacedParams.add(parsedFunctionsParam);
+            replacedParams.add(FunctionUtils.replaceVariablesAndFunctionsInString(param, context, false));
         }
         return replacedParams;
     }
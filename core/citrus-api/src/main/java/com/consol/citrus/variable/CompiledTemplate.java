@@ -0,0 +1,330 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.consol.citrus.CitrusSettings;
+
+/**
+ * Template string compiled into a list of literal parts and expression parts. Expressions are variable names or
+ * function expressions. Variable templates are cached per unresolved template string so the template is scanned only once
+ * no matter how often it is rendered with different variable values e.g. when sending messages in iterating containers.
+ *
+ * Cache is a bounded concurrent map. Templates exceeding the maximum cached template length are compiled on each call.
+ * Templates without any expression are static and render to the original template string without any work.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public final class CompiledTemplate {
+
+    /** Maximum number of compiled templates cached */
+    public static final String TEMPLATE_CACHE_SIZE_PROPERTY = "citrus.template.cache.size";
+    public static final String TEMPLATE_CACHE_SIZE_ENV = "CITRUS_TEMPLATE_CACHE_SIZE";
+    public static final int TEMPLATE_CACHE_SIZE = Integer.parseInt(System.getProperty(TEMPLATE_CACHE_SIZE_PROPERTY, System.getenv(TEMPLATE_CACHE_SIZE_ENV) != null ?
+            System.getenv(TEMPLATE_CACHE_SIZE_ENV) : "1024"));
+
+    /** Maximum length of template strings cached */
+    public static final String TEMPLATE_CACHE_MAX_LENGTH_PROPERTY = "citrus.template.cache.max.length";
+    public static final String TEMPLATE_CACHE_MAX_LENGTH_ENV = "CITRUS_TEMPLATE_CACHE_MAX_LENGTH";
+    public static final int TEMPLATE_CACHE_MAX_LENGTH = Integer.parseInt(System.getProperty(TEMPLATE_CACHE_MAX_LENGTH_PROPERTY, System.getenv(TEMPLATE_CACHE_MAX_LENGTH_ENV) != null ?
+            System.getenv(TEMPLATE_CACHE_MAX_LENGTH_ENV) : "16384"));
+
+    /** Compiled variable templates by template string */
+    private static final Map<String, CompiledTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    /** Original template string */
+    private final String template;
+
+    /** Literal parts, always one more than expressions */
+    private final String[] literals;
+
+    /** Expression parts located between literal parts */
+    private final String[] expressions;
+
+    /** Estimated rendered size */
+    private final int length;
+
+    /**
+     * Constructor using template and its parts.
+     * @param template
+     * @param parts
+     */
+    private CompiledTemplate(String template, Parts parts) {
+        this.template = template;
+        this.literals = parts.literals();
+        this.expressions = parts.expressions.toArray(new String[0]);
+        this.length = template.length();
+    }
+
+    /**
+     * Gets compiled template with variable expressions for given template string.
+     * @param template
+     * @return
+     */
+    public static CompiledTemplate variables(String template) {
+        if (!template.contains(CitrusSettings.VARIABLE_PREFIX)) {
+            return staticTemplate(template);
+        }
+
+        return cached(template);
+    }
+
+    /**
+     * Compiles template with function expressions using given function library prefix. Function templates usually
+     * are rendered strings that change with each variable value so these templates are not cached.
+     * @param template
+     * @param prefix
+     * @return
+     */
+    public static CompiledTemplate functions(String template, String prefix) {
+        if (!template.contains(prefix)) {
+            return staticTemplate(template);
+        }
+
+        Parts parts = new Parts();
+        scanFunctions(template, prefix, parts);
+        return new CompiledTemplate(template, parts);
+    }
+
+    /**
+     * Renders this template using given resolver for expressions. Resolved values are optionally enclosed in single quotes.
+     * @param resolver
+     * @param enableQuoting
+     * @return
+     */
+    public String render(Function<String, String> resolver, boolean enableQuoting) {
+        if (isStatic()) {
+            return template;
+        }
+
+        StringBuilder builder = new StringBuilder(length + 16 * expressions.length);
+        for (int i = 0; i < expressions.length; i++) {
+            builder.append(literals[i]);
+
+            String value = resolver.apply(expressions[i]);
+            if (enableQuoting) {
+                builder.append('\'').append(value).append('\'');
+            } else {
+                builder.append(value);
+            }
+        }
+        builder.append(literals[expressions.length]);
+
+        return builder.toString();
+    }
+
+    /**
+     * Checks if this template holds no expressions.
+     * @return
+     */
+    public boolean isStatic() {
+        return expressions.length == 0;
+    }
+
+    /**
+     * Gets the expressions.
+     * @return
+     */
+    public String[] getExpressions() {
+        return expressions.clone();
+    }
+
+    /**
+     * Removes all compiled templates from cache.
+     */
+    public static void clear() {
+        TEMPLATES.clear();
+    }
+
+    /**
+     * Gets compiled variable template from cache. Templates exceeding the maximum length are compiled without caching.
+     * When the cache is full an arbitrary entry is evicted.
+     * @param template
+     * @return
+     */
+    private static CompiledTemplate cached(String template) {
+        if (template.length() > TEMPLATE_CACHE_MAX_LENGTH) {
+            return compile(template);
+        }
+
+        CompiledTemplate compiled = TEMPLATES.get(template);
+        if (compiled != null) {
+            return compiled;
+        }
+
+        if (TEMPLATES.size() >= TEMPLATE_CACHE_SIZE) {
+            Iterator<String> keys = TEMPLATES.keySet().iterator();
+            if (keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+
+        compiled = compile(template);
+        TEMPLATES.putIfAbsent(template, compiled);
+        return compiled;
+    }
+
+    /**
+     * Creates static template.
+     * @param template
+     * @return
+     */
+    private static CompiledTemplate staticTemplate(String template) {
+        Parts parts = new Parts();
+        parts.literal(template);
+        return new CompiledTemplate(template, parts);
+    }
+
+    /**
+     * Compiles template with variable expressions.
+     * @param template
+     * @return
+     */
+    private static CompiledTemplate compile(String template) {
+        Parts parts = new Parts();
+        scanVariables(template, parts);
+        return new CompiledTemplate(template, parts);
+    }
+
+    /**
+     * Scans string for variable expressions.
+     * @param str
+     * @param parts
+     */
+    private static void scanVariables(String str, Parts parts) {
+        boolean isVarComplete;
+        StringBuilder variableNameBuf = new StringBuilder();
+
+        int startIndex = 0;
+        int curIndex;
+        int searchIndex;
+
+        while ((searchIndex = str.indexOf(CitrusSettings.VARIABLE_PREFIX, startIndex)) != -1) {
+            int control = 0;
+            isVarComplete = false;
+
+            curIndex = searchIndex + CitrusSettings.VARIABLE_PREFIX.length();
+
+            while (curIndex < str.length() && !isVarComplete) {
+                if (str.startsWith(CitrusSettings.VARIABLE_PREFIX, curIndex)) {
+                    control++;
+                }
+
+                if ((!Character.isJavaIdentifierPart(str.charAt(curIndex)) && (str.charAt(curIndex) == CitrusSettings.VARIABLE_SUFFIX.charAt(0))) || (curIndex + 1 == str.length())) {
+                    if (control == 0) {
+                        isVarComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                if (!isVarComplete) {
+                    variableNameBuf.append(str.charAt(curIndex));
+                }
+                ++curIndex;
+            }
+
+            parts.literal(str.substring(startIndex, searchIndex));
+            parts.expression(variableNameBuf.toString());
+
+            startIndex = curIndex;
+            variableNameBuf.setLength(0);
+        }
+
+        parts.literal(str.substring(startIndex));
+    }
+
+    /**
+     * Scans string for function expressions with given library prefix.
+     * @param str
+     * @param prefix
+     * @param parts
+     */
+    private static void scanFunctions(String str, String prefix, Parts parts) {
+        boolean isVarComplete;
+        StringBuilder functionBuf = new StringBuilder();
+
+        int startIndex = 0;
+        int curIndex;
+        int searchIndex;
+
+        while ((searchIndex = str.indexOf(prefix, startIndex)) != -1) {
+            int control = -1;
+            isVarComplete = false;
+
+            curIndex = searchIndex;
+
+            while (curIndex < str.length() && !isVarComplete) {
+                if (str.charAt(curIndex) == '(') {
+                    control++;
+                }
+
+                if (str.charAt(curIndex) == ')' || curIndex == str.length() - 1) {
+                    if (control == 0) {
+                        isVarComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                functionBuf.append(str.charAt(curIndex));
+                curIndex++;
+            }
+
+            parts.literal(str.substring(startIndex, searchIndex));
+            parts.expression(functionBuf.toString());
+
+            startIndex = curIndex;
+            functionBuf.setLength(0);
+        }
+
+        parts.literal(str.substring(startIndex));
+    }
+
+    /**
+     * Collects template parts merging adjacent literals.
+     */
+    private static final class Parts {
+        private final List<String> literals = new ArrayList<>();
+        private final List<String> expressions = new ArrayList<>();
+        private final StringBuilder literal = new StringBuilder();
+
+        void literal(String text) {
+            literal.append(text);
+        }
+
+        void expression(String expression) {
+            literals.add(literal.toString());
+            literal.setLength(0);
+            expressions.add(expression);
+        }
+
+        String[] literals() {
+            List<String> all = new ArrayList<>(literals);
+            all.add(literal.toString());
+            return all.toArray(new String[0]);
+        }
+    }
+}
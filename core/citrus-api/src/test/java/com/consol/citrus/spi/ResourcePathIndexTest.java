@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.spi;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileSystemUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class ResourcePathIndexTest {
+
+    @Test
+    public void testGetResources() throws IOException {
+        Path jar = Files.createTempFile("citrus-indexed", ".jar");
+        Path directory = Files.createTempDirectory("citrus-classes");
+
+        writeJar(jar, "META-INF/citrus/mocks/foo", "META-INF/citrus/mocks/nested/other", "META-INF/citrus/extra/baz");
+        Files.createDirectories(directory.resolve("META-INF/citrus/mocks"));
+        Files.write(directory.resolve("META-INF/citrus/mocks/bar"), "type=bar".getBytes(StandardCharsets.UTF_8));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toUri().toURL(), directory.toUri().toURL() }, null)) {
+            ResourcePathIndex index = new ResourcePathIndex(classLoader);
+            Assert.assertFalse(index.isIndexed("jar:" + jar.toUri().toURL() + "!/"));
+
+            Set<String> resources = Arrays.stream(index.getResources("META-INF/citrus/mocks"))
+                    .map(Resource::getFilename)
+                    .collect(Collectors.toSet());
+            Assert.assertEquals(resources, Set.of("foo", "bar"));
+
+            // jar entries are cached, directories are scanned
+            Assert.assertTrue(index.isIndexed("jar:" + jar.toUri().toURL() + "!/"));
+            Assert.assertFalse(index.isIndexed(directory.toUri().toURL().toString()));
+
+            Assert.assertEquals(index.getResources("META-INF/citrus/mocks/nested").length, 1L);
+            Assert.assertEquals(Arrays.stream(index.getResources("META-INF/citrus/extra"))
+                    .map(Resource::getFilename)
+                    .collect(Collectors.toList()), Collections.singletonList("baz"));
+            Assert.assertEquals(index.getResources("META-INF/citrus/unknown").length, 0L);
+        } finally {
+            Files.deleteIfExists(jar);
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    public void testResolveAll() throws IOException {
+        Path first = Files.createTempFile("citrus-first", ".jar");
+        Path second = Files.createTempFile("citrus-second", ".jar");
+
+        writeJar(first, "META-INF/citrus/other/foo", "META-INF/citrus/mocks/foo");
+        writeJar(second, "META-INF/citrus/mocks/bar");
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { first.toUri().toURL(), second.toUri().toURL() },
+                ResourcePathIndexTest.class.getClassLoader())) {
+            Map<String, String> resolved = new ResourcePathTypeResolver("META-INF/citrus", classLoader).resolveAll("mocks", "value");
+            Assert.assertEquals(resolved.keySet(), Set.of("foo", "bar"));
+        } finally {
+            Files.deleteIfExists(first);
+            Files.deleteIfExists(second);
+        }
+    }
+
+    /**
+     * Writes jar file with given entries.
+     * @param jar
+     * @param entries
+     * @throws IOException
+     */
+    private void writeJar(Path jar, String ... entries) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            Set<String> directories = new TreeSet<>();
+            for (String entry : entries) {
+                String path = entry;
+                while (path.lastIndexOf('/') > 0) {
+                    path = path.substring(0, path.lastIndexOf('/'));
+                    directories.add(path + "/");
+                }
+            }
+
+            for (String directory : directories) {
+                out.putNextEntry(new JarEntry(directory));
+                out.closeEntry();
+            }
+
+            for (String entry : entries) {
+                write(out, entry, "type=" + entry.substring(entry.lastIndexOf('/') + 1) + "\nvalue=java.lang.String");
+            }
+        }
+    }
+
+    private void write(JarOutputStream out, String name, String content) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        out.write(content.getBytes(StandardCharsets.UTF_8));
+        out.closeEntry();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class TaskExecutorsTest {
+
+    @Test
+    public void testDefaultExecutor() {
+        Assert.assertSame(TaskExecutors.getDefault(), TaskExecutors.getDefault());
+    }
+
+    @Test
+    public void testPoolExceedsPooledThreads() throws InterruptedException {
+        ExecutorService executor = TaskExecutors.newExecutorService("pool", 2);
+
+        int tasks = 10;
+        CountDownLatch started = new CountDownLatch(tasks);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < tasks; i++) {
+                executor.execute(() -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+
+        Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test(expectedExceptions = RejectedExecutionException.class)
+    public void testPoolShutdown() {
+        ExecutorService executor = TaskExecutors.newExecutorService("pool", 1);
+        executor.shutdown();
+        executor.execute(() -> {});
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        if (TaskExecutors.isVirtualThreadSupported()) {
+            ExecutorService executor = TaskExecutors.newExecutorService("virtual", 1);
+            Assert.assertTrue(executor.submit(() -> Thread.currentThread().toString().startsWith("VirtualThread")).get());
+            executor.shutdown();
+        } else {
+            Assert.assertThrows(CitrusRuntimeException.class, () -> TaskExecutors.newExecutorService("virtual", 1));
+        }
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnsupportedMode() {
+        TaskExecutors.newExecutorService("unknown", 1);
+    }
+}
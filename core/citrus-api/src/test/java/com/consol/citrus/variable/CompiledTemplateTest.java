@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class CompiledTemplateTest {
+
+    @Test
+    public void testVariables() {
+        String template = "Hello ${user}, your order ${order.id} is ${status}!";
+        Map<String, String> variables = Map.of("user", "Christoph", "order.id", "1001", "status", "ready");
+
+        CompiledTemplate compiled = CompiledTemplate.variables(template);
+        Assert.assertFalse(compiled.isStatic());
+        Assert.assertEquals(compiled.getExpressions(), new String[] { "user", "order.id", "status" });
+        Assert.assertSame(CompiledTemplate.variables(new String(template)), compiled);
+
+        Assert.assertEquals(compiled.render(variables::get, false), "Hello Christoph, your order 1001 is ready!");
+        Assert.assertEquals(compiled.render(variables::get, true), "Hello 'Christoph', your order '1001' is 'ready'!");
+    }
+
+    @Test
+    public void testNestedVariables() {
+        CompiledTemplate compiled = CompiledTemplate.variables("${a${b}}-${c}");
+        Assert.assertEquals(compiled.getExpressions(), new String[] { "a${b}", "c" });
+        Assert.assertEquals(compiled.render(name -> name.toUpperCase(), false), "A${B}-C");
+    }
+
+    @Test
+    public void testStaticTemplate() {
+        String template = "<Hello>No placeholders here</Hello>";
+
+        CompiledTemplate compiled = CompiledTemplate.variables(template);
+        Assert.assertTrue(compiled.isStatic());
+        Assert.assertSame(compiled.render(expression -> {
+            throw new AssertionError("Unexpected expression: " + expression);
+        }, false), template);
+
+        Assert.assertTrue(CompiledTemplate.functions(template, "citrus:").isStatic());
+    }
+
+    @Test
+    public void testFunctions() {
+        CompiledTemplate compiled = CompiledTemplate.functions("Today is citrus:concat('a', citrus:upperCase('b')) and citrus:randomNumber(3)!", "citrus:");
+        Assert.assertEquals(compiled.getExpressions(), new String[] { "citrus:concat('a', citrus:upperCase('b'))", "citrus:randomNumber(3)" });
+        Assert.assertEquals(compiled.render(function -> function.startsWith("citrus:concat") ? "aB" : "123", false), "Today is aB and 123!");
+        Assert.assertTrue(CompiledTemplate.functions("Today is citrus:currentDate()", "custom:").isStatic());
+    }
+
+    @Test
+    public void testFunctionsNotCached() {
+        String template = "Today is citrus:currentDate()";
+        Assert.assertNotSame(CompiledTemplate.functions(template, "citrus:"), CompiledTemplate.functions(template, "citrus:"));
+    }
+
+}
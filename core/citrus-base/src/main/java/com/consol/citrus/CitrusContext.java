@@ -2,6 +2,7 @@ package com.consol.citrus;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import com.consol.citrus.container.AfterSuite;
 import com.consol.citrus.container.BeforeSuite;
@@ -33,6 +34,7 @@ import com.consol.citrus.spi.ReferenceRegistry;
 import com.consol.citrus.spi.ReferenceResolver;
 import com.consol.citrus.spi.SimpleReferenceResolver;
 import com.consol.citrus.util.DefaultTypeConverter;
+import com.consol.citrus.util.TaskExecutors;
 import com.consol.citrus.util.TypeConverter;
 import com.consol.citrus.validation.DefaultMessageValidatorRegistry;
 import com.consol.citrus.validation.MessageValidatorRegistry;
@@ -69,6 +71,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
     private final MessageProcessors messageProcessors;
     private final NamespaceContextBuilder namespaceContextBuilder;
     private final TypeConverter typeConverter;
+    private final ExecutorService executorService;
 
     /**
      * Protected constructor using given builder to construct this instance.
@@ -93,6 +96,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         this.messageProcessors = builder.messageProcessors;
         this.namespaceContextBuilder = builder.namespaceContextBuilder;
         this.typeConverter = builder.typeConverter;
+        this.executorService = builder.executorService;
 
         this.testContextFactory = builder.testContextFactory;
     }
@@ -141,9 +145,12 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
     }
 
     /**
-     * Closes the context and all its components.
+     * Closes the context and all its components. Shuts down the executor service unless it is the shared default executor.
      */
     public void close() {
+        if (executorService != null && executorService != TaskExecutors.getDefault()) {
+            executorService.shutdown();
+        }
     }
 
     /**
@@ -267,6 +274,14 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         return typeConverter;
     }
 
+    /**
+     * Obtains the executorService.
+     * @return
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
     /**
      * Obtains the testContextFactory.
      * @return
@@ -305,6 +320,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         private MessageProcessors messageProcessors = new MessageProcessors();
         private NamespaceContextBuilder namespaceContextBuilder = new NamespaceContextBuilder();
         private TypeConverter typeConverter = new DefaultTypeConverter();
+        private ExecutorService executorService = TaskExecutors.getDefault();
 
         public static Builder defaultContext() {
             Builder builder = new Builder();
@@ -462,6 +478,11 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
             return this;
         }
 
+        public Builder executorService(ExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
         public CitrusContext build() {
             if (testContextFactory == null) {
                 testContextFactory = TestContextFactory.newInstance();
@@ -478,6 +499,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
                 testContextFactory.setReferenceResolver(this.referenceResolver);
                 testContextFactory.setNamespaceContextBuilder(this.namespaceContextBuilder);
                 testContextFactory.setTypeConverter(this.typeConverter);
+                testContextFactory.setExecutorService(this.executorService);
             }
 
             return new CitrusContext(this);
@@ -1,5 +1,6 @@
 package com.consol.citrus;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -52,8 +53,12 @@ public class DefaultTestCase extends AbstractActionContainer implements TestCase
     /** Time to wait for nested actions to finish */
     private long timeout = 10000L;
 
+    /** Start time of test execution in nanoseconds */
+    private long startTime = System.nanoTime();
+
     @Override
     public void start(final TestContext context) {
+        startTime = System.nanoTime();
         context.getTestListeners().onTestStart(this);
 
         try {
@@ -132,10 +137,7 @@ public class DefaultTestCase extends AbstractActionContainer implements TestCase
         try {
             if (!action.isDisabled(context)) {
                 setActiveAction(action);
-                context.getTestActionListeners().onTestActionStart(this, action);
-
-                action.execute(context);
-                context.getTestActionListeners().onTestActionFinish(this, action);
+                executeTimed(action, context);
             } else {
                 context.getTestActionListeners().onTestActionSkipped(this, action);
             }
@@ -178,6 +180,9 @@ public class DefaultTestCase extends AbstractActionContainer implements TestCase
             throw new TestCaseFailedException(e);
         } finally {
             if (testResult != null) {
+                testResult.setDuration(Duration.ofNanos(System.nanoTime() - startTime));
+                testResult.setActionDurations(context.getTestActionTimings().getDurations());
+
                 if (testResult.isSuccess()) {
                     context.getTestListeners().onTestSuccess(this);
                 } else {
@@ -189,6 +194,25 @@ public class DefaultTestCase extends AbstractActionContainer implements TestCase
         }
     }
 
+    /**
+     * Executes given action and informs test action listeners about action start, finish and execution time. The execution
+     * time is also recorded in the test context for the test result.
+     * @param action
+     * @param context
+     */
+    private void executeTimed(TestAction action, TestContext context) {
+        context.getTestActionListeners().onTestActionStart(this, action);
+
+        long actionStartTime = System.nanoTime();
+        try {
+            context.getTestActionTimings().execute(null, action, context);
+        } finally {
+            context.getTestActionListeners().onTestActionDuration(this, action, Duration.ofNanos(System.nanoTime() - actionStartTime));
+        }
+
+        context.getTestActionListeners().onTestActionFinish(this, action);
+    }
+
     /**
      * Run final test actions.
      * @param context
@@ -201,9 +225,7 @@ public class DefaultTestCase extends AbstractActionContainer implements TestCase
             for (final TestActionBuilder<?> actionBuilder : finalActions) {
                 TestAction action = actionBuilder.build();
                 if (!action.isDisabled(context)) {
-                    context.getTestActionListeners().onTestActionStart(this, action);
-                    action.execute(context);
-                    context.getTestActionListeners().onTestActionFinish(this, action);
+                    executeTimed(action, context);
                 } else {
                     context.getTestActionListeners().onTestActionSkipped(this, action);
                 }
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.actions;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -155,6 +156,7 @@ public class ReceiveMessageAction extends AbstractTestAction {
         String selector = MessageSelectorBuilder.build(messageSelector, messageSelectorMap, context);
 
         //receive message either selected or plain with message receiver
+        long start = System.nanoTime();
         if (StringUtils.hasText(selector)) {
             receivedMessage = receiveSelected(context, selector);
         } else {
@@ -165,6 +167,10 @@ public class ReceiveMessageAction extends AbstractTestAction {
             throw new CitrusRuntimeException("Failed to receive message - message is not available");
         }
 
+        if (context.getMessageListeners() != null) {
+            context.getMessageListeners().onMessageReceived(receivedMessage, getOrCreateEndpoint(context), Duration.ofNanos(System.nanoTime() - start), context);
+        }
+
         //validate the message
         validateMessage(receivedMessage, context);
     }
@@ -239,7 +245,7 @@ public class ReceiveMessageAction extends AbstractTestAction {
 
             if (!CollectionUtils.isEmpty(validators)) {
                 for (MessageValidator<? extends ValidationContext> messageValidator : validators) {
-                    messageValidator.validateMessage(message, controlMessage, context, validationContexts);
+                    validate(messageValidator, message, controlMessage, context);
                 }
 
                 if (validators.parallelStream()
@@ -247,7 +253,7 @@ public class ReceiveMessageAction extends AbstractTestAction {
                         .noneMatch(DefaultMessageHeaderValidator.class::isAssignableFrom)) {
                     MessageValidator<?extends ValidationContext> defaultMessageHeaderValidator = context.getMessageValidatorRegistry().getDefaultMessageHeaderValidator();
                     if (defaultMessageHeaderValidator != null) {
-                        defaultMessageHeaderValidator.validateMessage(message, controlMessage, context, validationContexts);
+                        validate(defaultMessageHeaderValidator, message, controlMessage, context);
                     }
                 }
             } else {
@@ -268,12 +274,28 @@ public class ReceiveMessageAction extends AbstractTestAction {
                 }
 
                 for (MessageValidator<? extends ValidationContext> messageValidator : validators) {
-                    messageValidator.validateMessage(message, controlMessage, context, validationContexts);
+                    validate(messageValidator, message, controlMessage, context);
                 }
             }
         }
     }
 
+    /**
+     * Validates message with given validator and informs message listeners about the time spent in validation.
+     * @param validator
+     * @param message
+     * @param controlMessage
+     * @param context
+     */
+    private void validate(MessageValidator<? extends ValidationContext> validator, Message message, Message controlMessage, TestContext context) {
+        long start = System.nanoTime();
+        validator.validateMessage(message, controlMessage, context, validationContexts);
+
+        if (context.getMessageListeners() != null) {
+            context.getMessageListeners().onMessageValidated(message, validator, Duration.ofNanos(System.nanoTime() - start), context);
+        }
+    }
+
     /**
      * Create control message that is expected. Apply global and local message processors and data dictionaries.
      * @param context
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.actions;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -37,7 +38,6 @@ import com.consol.citrus.variable.VariableExtractor;
 import com.consol.citrus.variable.dictionary.DataDictionary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.StringUtils;
 
 
@@ -123,10 +123,9 @@ public class SendMessageAction extends AbstractTestAction implements Completable
         if (forkMode) {
             LOG.debug("Forking message sending action ...");
 
-            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
-            taskExecutor.execute(() -> {
+            context.getExecutorService().execute(() -> {
                 try {
-                    messageEndpoint.createProducer().send(message, context);
+                    send(message, messageEndpoint, context);
                 } catch (Exception e) {
                     if (e instanceof CitrusRuntimeException) {
                         context.addException((CitrusRuntimeException) e);
@@ -139,13 +138,28 @@ public class SendMessageAction extends AbstractTestAction implements Completable
             });
         } else {
             try {
-                messageEndpoint.createProducer().send(message, context);
+                send(message, messageEndpoint, context);
             } finally {
                 finished.complete(null);
             }
         }
     }
 
+    /**
+     * Sends message via endpoint producer and informs message listeners about the time spent in the producer.
+     * @param message
+     * @param messageEndpoint
+     * @param context
+     */
+    private void send(Message message, Endpoint messageEndpoint, TestContext context) {
+        long start = System.nanoTime();
+        messageEndpoint.createProducer().send(message, context);
+
+        if (context.getMessageListeners() != null) {
+            context.getMessageListeners().onMessageSent(message, messageEndpoint, Duration.ofNanos(System.nanoTime() - start), context);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
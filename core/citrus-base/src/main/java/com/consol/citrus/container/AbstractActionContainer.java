@@ -77,6 +77,15 @@ public abstract class AbstractActionContainer extends AbstractTestAction impleme
         return this;
     }
 
+    /**
+     * Executes nested test action and records its execution time in the test context.
+     * @param action
+     * @param context
+     */
+    protected void executeNested(TestAction action, TestContext context) {
+        context.getTestActionTimings().execute(this, action, context);
+    }
+
     @Override
     public boolean isDone(TestContext context) {
         if (isDisabled(context)) {
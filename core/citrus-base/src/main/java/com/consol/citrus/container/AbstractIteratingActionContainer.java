@@ -79,7 +79,7 @@ public abstract class AbstractIteratingActionContainer extends AbstractActionCon
         for (TestActionBuilder<?> actionBuilder: actions) {
             TestAction action = actionBuilder.build();
             setActiveAction(action);
-            action.execute(context);
+            executeNested(action, context);
         }
     }
 
@@ -69,7 +69,7 @@ public class Assert extends AbstractActionContainer {
         try {
             TestAction action = this.action.build();
             setActiveAction(action);
-            action.execute(context);
+            executeNested(action, context);
         } catch (Exception e) {
             log.debug("Validating caught exception ...");
 
@@ -59,7 +59,7 @@ public class Async extends AbstractActionContainer {
                 for (TestActionBuilder<?> actionBuilder : actions) {
                     TestAction action = actionBuilder.build();
                     setActiveAction(action);
-                    action.execute(context);
+                    executeNested(action, context);
                 }
             }
 
@@ -68,7 +68,7 @@ public class Async extends AbstractActionContainer {
                 log.info("Apply error actions after async container ...");
                 for (TestActionBuilder<?> actionBuilder : errorActions) {
                     TestAction action = actionBuilder.build();
-                    action.execute(context);
+                    executeNested(action, context);
                 }
             }
 
@@ -77,7 +77,7 @@ public class Async extends AbstractActionContainer {
                 log.info("Apply success actions after async container ...");
                 for (TestActionBuilder<?> actionBuilder : successActions) {
                     TestAction action = actionBuilder.build();
-                    action.execute(context);
+                    executeNested(action, context);
                 }
             }
         };
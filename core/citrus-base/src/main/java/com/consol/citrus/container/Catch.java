@@ -55,7 +55,7 @@ public class Catch extends AbstractActionContainer {
             try {
                 TestAction action = actionBuilder.build();
                 setActiveAction(action);
-                action.execute(context);
+                executeNested(action, context);
             } catch (Exception e) {
                 if (exception != null && exception.equals(e.getClass().getName())) {
                     log.info("Caught exception " + e.getClass() + ": " + e.getLocalizedMessage());
@@ -61,7 +61,7 @@ public class Conditional extends AbstractActionContainer {
             for (TestActionBuilder<?> actionBuilder : actions) {
                 TestAction action = actionBuilder.build();
                 setActiveAction(action);
-                action.execute(context);
+                executeNested(action, context);
             }
         } else {
             log.debug("Condition [ {} ] evaluates to false, not executing nested actions", condition);
@@ -18,7 +18,8 @@ package com.consol.citrus.container;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Stack;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import com.consol.citrus.AbstractTestContainerBuilder;
 import com.consol.citrus.TestAction;
@@ -31,18 +32,12 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Test action will execute nested actions in parallel. Each action is executed in a
- * separate thread. Container joins all threads and waiting for them to end successfully.
+ * separate thread provided by the test context executor service. Container waits for all actions to end successfully.
  *
  * @author Christoph Deppisch
  */
 public class Parallel extends AbstractActionContainer {
 
-    /** Store created threads in stack */
-    private Stack<Thread> threads = new Stack<>();
-
-    /** Collect exceptions in list */
-    private List<CitrusRuntimeException> exceptions = new ArrayList<>();
-
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(Parallel.class);
 
@@ -55,51 +50,62 @@ public class Parallel extends AbstractActionContainer {
 
     @Override
     public void doExecute(TestContext context) {
+        List<CitrusRuntimeException> exceptions = new ArrayList<>();
+        List<Future<?>> tasks = new ArrayList<>();
+
         for (TestActionBuilder<?> actionBuilder : actions) {
             final TestAction action = actionBuilder.build();
-            Thread t = new Thread(new ActionRunner(action, context) {
+            tasks.add(context.getExecutorService().submit(new ActionRunner(this, action, context) {
                 @Override
                 public void exceptionCallback(CitrusRuntimeException e) {
-                    if (exceptions.isEmpty()) {
-                        setActiveAction(action);
-                    }
+                    synchronized (exceptions) {
+                        if (exceptions.isEmpty()) {
+                            setActiveAction(action);
+                        }
 
-                    exceptions.add(e);
+                        exceptions.add(e);
+                    }
                 }
-            });
-
-            threads.push(t);
-            t.start();
+            }));
         }
 
-        while (!threads.isEmpty()) {
+        for (Future<?> task : tasks) {
             try {
-                threads.pop().join();
+                task.get();
             } catch (InterruptedException e) {
-                log.error("Unable to join thread", e);
+                log.error("Interrupted while waiting for parallel action", e);
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                log.error("Unable to complete parallel action", e);
             }
         }
 
-        if (!exceptions.isEmpty()) {
-            if (exceptions.size() == 1) {
-                throw exceptions.get(0);
-            } else {
-                throw new ParallelContainerException(exceptions);
+        synchronized (exceptions) {
+            if (!exceptions.isEmpty()) {
+                if (exceptions.size() == 1) {
+                    throw exceptions.get(0);
+                } else {
+                    throw new ParallelContainerException(exceptions);
+                }
             }
         }
     }
 
     /**
-     * Runnable wrapper for executing an action in separate Thread.
+     * Runnable wrapper for executing an action in separate thread.
      */
     private abstract static class ActionRunner implements Runnable {
+        /** Parallel container */
+        private final Parallel container;
+
         /** Test action to execute */
         private final TestAction action;
 
         /** Test context */
         private final TestContext context;
 
-        public ActionRunner(TestAction action, TestContext context) {
+        public ActionRunner(Parallel container, TestAction action, TestContext context) {
+            this.container = container;
             this.action = action;
             this.context = context;
         }
@@ -109,7 +115,7 @@ public class Parallel extends AbstractActionContainer {
          */
         public void run() {
             try {
-                action.execute(context);
+                container.executeNested(action, context);
             } catch (CitrusRuntimeException e) {
                 log.error("Parallel test action raised error", e);
                 exceptionCallback(e);
@@ -46,7 +46,7 @@ public class Sequence extends AbstractActionContainer {
         for (TestActionBuilder<?> actionBuilder: actions) {
             TestAction action = actionBuilder.build();
             setActiveAction(action);
-            action.execute(context);
+            executeNested(action, context);
         }
 
         log.debug("Action sequence finished successfully");
@@ -50,7 +50,7 @@ public class SequenceAfterTest extends AbstractTestBoundaryActionContainer imple
 
         for (TestActionBuilder<?> actionBuilder : actions)  {
             TestAction action = actionBuilder.build();
-            action.execute(context);
+            executeNested(action, context);
         }
     }
 
@@ -50,7 +50,7 @@ public class SequenceBeforeTest extends AbstractTestBoundaryActionContainer impl
 
         for (TestActionBuilder<?> actionBuilder : actions)  {
             TestAction action = actionBuilder.build();
-            action.execute(context);
+            executeNested(action, context);
         }
     }
 
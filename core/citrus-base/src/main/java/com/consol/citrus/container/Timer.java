@@ -26,7 +26,6 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.StringUtils;
 
 /**
@@ -64,12 +63,7 @@ public class Timer extends AbstractActionContainer implements StopTimer {
     @Override
     public void doExecute(final TestContext context) {
         if (fork) {
-            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
-            taskExecutor.execute(new Runnable() {
-                public void run() {
-                    configureAndRunTimer(context);
-                }
-            });
+            context.getExecutorService().execute(() -> configureAndRunTimer(context));
         } else {
             configureAndRunTimer(context);
         }
@@ -93,7 +87,7 @@ public class Timer extends AbstractActionContainer implements StopTimer {
                     for (TestActionBuilder<?> actionBuilder : actions)  {
                         TestAction action = actionBuilder.build();
                         setActiveAction(action);
-                        action.execute(context);
+                        executeNested(action, context);
                     }
                     if (indexCount >= repeatCount) {
                         log.debug(String.format("Timer complete: %s iterations reached", repeatCount));
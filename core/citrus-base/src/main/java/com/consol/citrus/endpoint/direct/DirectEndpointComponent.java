@@ -6,16 +6,20 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpointComponent;
 import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.message.DefaultMessageQueue;
+import com.consol.citrus.message.SignalingMessageQueue;
 
 /**
  * Direct endpoint component creates synchronous or asynchronous channel endpoint and sets configuration properties
- * accordingly.
+ * accordingly. Queues not bound yet are created as {@link SignalingMessageQueue} when the signaling parameter is set,
+ * e.g. "direct:queueName?signaling=true".
  *
  * @author Christoph Deppisch
  * @since 3.0
  */
 public class DirectEndpointComponent extends AbstractEndpointComponent {
 
+    public static final String SIGNALING_QUEUE = "signaling";
+
     /**
      * Default constructor using the name for this component.
      */
@@ -37,8 +41,9 @@ public class DirectEndpointComponent extends AbstractEndpointComponent {
         }
 
         endpoint.getEndpointConfiguration().setQueueName(queueName);
+        boolean signaling = Boolean.parseBoolean(parameters.remove(SIGNALING_QUEUE));
         if (!context.getReferenceResolver().isResolvable(queueName)) {
-            context.getReferenceResolver().bind(queueName, new DefaultMessageQueue(queueName));
+            context.getReferenceResolver().bind(queueName, signaling ? new SignalingMessageQueue(queueName) : new DefaultMessageQueue(queueName));
         }
 
         enrichEndpointConfiguration(endpoint.getEndpointConfiguration(), parameters, context);
@@ -16,18 +16,109 @@
 
 package com.consol.citrus.main;
 
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.main.scan.ClassPathTestScanner;
+import com.consol.citrus.main.scan.JarFileTestScanner;
+import com.consol.citrus.main.scan.TestScanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
+ * Base test engine provides shared access to test classes. When tests are loaded from a test jar all test classes are loaded
+ * with a single class loader that is created once per engine. Test scanning is done with a single scanner instance that caches
+ * its results.
+ *
  * @author Christoph Deppisch
  * @since 2.7.4
  */
 public abstract class AbstractTestEngine implements TestEngine {
 
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractTestEngine.class);
+
     private final TestRunConfiguration configuration;
 
+    /** Class loader shared by all test classes loaded from test jar */
+    private URLClassLoader testJarClassLoader;
+
+    /** Test scanner used to find tests in packages */
+    private TestScanner testScanner;
+
     public AbstractTestEngine(TestRunConfiguration configuration) {
         this.configuration = configuration;
     }
 
+    /**
+     * Finds all tests in given package. Uses test jar or classpath scanner depending on the run configuration.
+     * @param packageName
+     * @param annotationType test annotation marking test classes and methods on the classpath.
+     * @return
+     */
+    protected synchronized List<TestClass> findTestClasses(String packageName, Class<? extends Annotation> annotationType) {
+        if (testScanner == null) {
+            if (configuration.getTestJar() != null) {
+                testScanner = new JarFileTestScanner(configuration.getTestJar(), configuration.getIncludes());
+            } else {
+                testScanner = new ClassPathTestScanner(annotationType, configuration.getIncludes());
+            }
+        }
+
+        return testScanner.findTestsInPackage(packageName);
+    }
+
+    /**
+     * Loads given test class either from test jar or from the classpath.
+     * @param testClass
+     * @return
+     * @throws ClassNotFoundException
+     */
+    protected Class<?> loadTestClass(TestClass testClass) throws ClassNotFoundException {
+        if (configuration.getTestJar() != null) {
+            return Class.forName(testClass.getName(), false, getTestJarClassLoader());
+        } else {
+            return Class.forName(testClass.getName());
+        }
+    }
+
+    /**
+     * Gets the class loader for the test jar. Class loader is created once and shared by all test classes.
+     * @return
+     */
+    protected synchronized ClassLoader getTestJarClassLoader() {
+        if (testJarClassLoader == null) {
+            try {
+                testJarClassLoader = new URLClassLoader(new URL[] { configuration.getTestJar().toURI().toURL() }, getClass().getClassLoader());
+            } catch (MalformedURLException e) {
+                throw new CitrusRuntimeException("Failed to access test jar: " + configuration.getTestJar(), e);
+            }
+        }
+
+        return testJarClassLoader;
+    }
+
+    /**
+     * Closes the test jar class loader once all tests have been executed.
+     */
+    protected synchronized void closeTestJarClassLoader() {
+        if (testJarClassLoader != null) {
+            try {
+                testJarClassLoader.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to close test jar class loader", e);
+            }
+
+            testJarClassLoader = null;
+        }
+    }
+
     /**
      * Gets the configuration.
      *
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -49,6 +51,9 @@ public class ClassPathTestScanner extends AbstractTestScanner {
     /** Test annotation marking test classes and methods */
     private final Class<? extends Annotation> annotationType;
 
+    /** Cached scan results per package */
+    private final Map<String, List<TestClass>> testsInPackage = new ConcurrentHashMap<>();
+
     /**
      * Default constructor using run configuration.
      * @param includes
@@ -60,6 +65,15 @@ public class ClassPathTestScanner extends AbstractTestScanner {
 
     @Override
     public List<TestClass> findTestsInPackage(String packageName) {
+        return new ArrayList<>(testsInPackage.computeIfAbsent(packageName, this::scanPackage));
+    }
+
+    /**
+     * Scans given package on the classpath for test classes.
+     * @param packageName
+     * @return
+     */
+    private List<TestClass> scanPackage(String packageName) {
         try {
             PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
 
@@ -43,6 +43,9 @@ public class JarFileTestScanner extends AbstractTestScanner {
     /** Jar file resource to search in */
     private final File artifact;
 
+    /** Cached jar file entry names read once on first scan */
+    private List<String> entries;
+
     public JarFileTestScanner(File artifact, String... includes) {
         super(includes);
         this.artifact = artifact;
@@ -51,21 +54,39 @@ public class JarFileTestScanner extends AbstractTestScanner {
     @Override
     public List<TestClass> findTestsInPackage(String packageToScan) {
         List<TestClass> testClasses = new ArrayList<>();
-        if (artifact != null && artifact.isFile()) {
-            try (JarFile jar = new JarFile(artifact)) {
-                for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
-                    JarEntry entry = entries.nextElement();
-                    String className = StringUtils.stripFilenameExtension(entry.getName()).replace( "/", "." );
-                    if (new AntPathMatcher().matchStart(packageToScan.replace( ".", "/" ), entry.getName()) && isIncluded(className)) {
-                        LOG.info("Found test class candidate in test jar file: " +  entry.getName());
-                        testClasses.add(new TestClass(className));
+        AntPathMatcher matcher = new AntPathMatcher();
+        String pattern = StringUtils.hasText(packageToScan) ? packageToScan.replace( ".", "/" ) + "/**/*.class" : "**/*.class";
+        for (String entry : getEntries()) {
+            String className = StringUtils.stripFilenameExtension(entry).replace( "/", "." );
+            if (matcher.match(pattern, entry) && isIncluded(className)) {
+                LOG.info("Found test class candidate in test jar file: " +  entry);
+                testClasses.add(new TestClass(className));
+            }
+        }
+
+        return testClasses;
+    }
+
+    /**
+     * Reads all entry names from the jar file artifact. Entries are read only once and cached for subsequent scans.
+     * @return
+     */
+    private synchronized List<String> getEntries() {
+        if (entries == null) {
+            List<String> entryNames = new ArrayList<>();
+            if (artifact != null && artifact.isFile()) {
+                try (JarFile jar = new JarFile(artifact)) {
+                    for (Enumeration<JarEntry> jarEntries = jar.entries(); jarEntries.hasMoreElements();) {
+                        entryNames.add(jarEntries.nextElement().getName());
                     }
+                } catch (IOException e) {
+                    throw new CitrusRuntimeException("Failed to access jar file artifact", e);
                 }
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Failed to access jar file artifact", e);
             }
+
+            entries = entryNames;
         }
 
-        return testClasses;
+        return entries;
     }
 }
@@ -16,12 +16,16 @@
 
 package com.consol.citrus.message;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -33,6 +37,15 @@ import org.springframework.util.CollectionUtils;
  * Default message implementation holds message payload and message headers. Also provides access methods for special
  * header elements such as unique message id and creation timestamp.
  *
+ * Payload conversions to immutable types such as String are cached so validators, variable extractors and listeners reading
+ * the same payload do not convert the payload over and over again. This also covers mutable payloads such as byte[] or DOM
+ * nodes, so a binary payload is decoded to text only once. The cache is bound to the payload instance and gets invalidated
+ * whenever a payload is set. Mutable payloads must therefore not be modified in place once they have been converted. Code that
+ * needs to change such a payload sets the changed payload again with {@link #setPayload(Object)}, which drops all cached
+ * conversions even when the very same payload instance is set.
+ *
+ * Payload may be a {@link LazyPayload} that gets loaded on first access.
+ *
  * @author Christoph Deppisch
  * @since 2.0
  */
@@ -41,8 +54,15 @@ public class DefaultMessage implements Message {
     /** Serial */
     private static final long serialVersionUID = 1904510540660648952L;
 
+    /** Payload conversion target types that are cached */
+    private static final Set<Class<?>> CACHED_PAYLOAD_TYPES = Set.of(String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
+
     /** Message payload object */
-    private Object payload;
+    private volatile Object payload;
+
+    /** Cached payload conversions */
+    private transient volatile ConvertedPayloads convertedPayloads;
 
     /** Optional list of header data */
     private final List<String> headerData = new ArrayList<>();
@@ -155,17 +175,80 @@ public class DefaultMessage implements Message {
 
     @Override
     public <T> T getPayload(Class<T> type) {
-        return TypeConversionUtils.convertIfNecessary(getPayload(), type);
+        Object payload = getPayload();
+
+        if (payload == null || type.isInstance(payload) || !CACHED_PAYLOAD_TYPES.contains(type)) {
+            return convertPayload(payload, type);
+        }
+
+        ConvertedPayloads cache = convertedPayloads;
+        if (cache == null || cache.payload != payload) {
+            cache = new ConvertedPayloads(payload);
+            convertedPayloads = cache;
+        }
+
+        Object converted = cache.values.get(type);
+        if (converted == null) {
+            converted = convertPayload(payload, type);
+
+            if (converted != null) {
+                cache.values.put(type, converted);
+            }
+        }
+
+        return type.cast(converted);
+    }
+
+    /**
+     * Converts given payload to the target type. Subclasses may customize conversions, results are cached
+     * according to the payload conversion cache.
+     * @param payload
+     * @param type
+     * @param <T>
+     * @return
+     */
+    protected <T> T convertPayload(Object payload, Class<T> type) {
+        return TypeConversionUtils.convertIfNecessary(payload, type);
+    }
+
+    /**
+     * Removes all cached payload conversions e.g. because conversion relevant settings such as the content charset have changed.
+     */
+    protected void clearConvertedPayloads() {
+        convertedPayloads = null;
     }
 
     @Override
     public Object getPayload() {
+        if (payload instanceof LazyPayload) {
+            synchronized (this) {
+                if (payload instanceof LazyPayload) {
+                    payload = ((LazyPayload) payload).load();
+                }
+            }
+        }
+
         return payload;
     }
 
+    /**
+     * Checks if the payload is available without loading a lazy payload.
+     * @return
+     */
+    public boolean isPayloadLoaded() {
+        return !(payload instanceof LazyPayload);
+    }
+
+    /**
+     * Sets the message payload and drops all cached payload conversions. Also call this method after a mutable payload
+     * has been modified in place.
+     * @param payload
+     * @return
+     */
     @Override
     public DefaultMessage setPayload(Object payload) {
         this.payload = payload;
+        this.convertedPayloads = null;
         return this;
     }
 
@@ -223,4 +306,26 @@ public class DefaultMessage implements Message {
 
         return type;
     }
+
+    /**
+     * Loads lazy payload before serialization.
+     * @param out
+     * @throws IOException
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getPayload();
+        out.defaultWriteObject();
+    }
+
+    /**
+     * Payload conversions bound to a payload instance.
+     */
+    private static final class ConvertedPayloads {
+        private final Object payload;
+        private final Map<Class<?>, Object> values = new ConcurrentHashMap<>(4);
+
+        ConvertedPayloads(Object payload) {
+            this.payload = payload;
+        }
+    }
 }
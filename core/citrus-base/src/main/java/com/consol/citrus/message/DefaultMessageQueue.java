@@ -110,6 +110,14 @@ public class DefaultMessageQueue implements MessageQueue {
         }
     }
 
+    /**
+     * Gets the number of messages currently queued.
+     * @return
+     */
+    public int getSize() {
+        return this.queue.size();
+    }
+
     /**
      * Gets the pollingInterval.
      * @return the pollingInterval the pollingInterval to get.
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.message;
+
+import java.io.Serializable;
+
+/**
+ * Payload that is loaded on first access. Message endpoints may set lazy payloads on a {@link DefaultMessage} in order to
+ * decode binary content only when someone actually reads the message payload. The message replaces the lazy payload with
+ * the loaded payload on first access so the payload is loaded at most once.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+@FunctionalInterface
+public interface LazyPayload extends Serializable {
+
+    /**
+     * Loads the actual message payload.
+     * @return
+     */
+    Object load();
+}
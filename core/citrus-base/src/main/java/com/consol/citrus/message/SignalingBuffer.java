@@ -0,0 +1,227 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread safe buffer of raw inbound items (e.g. records or frames not converted to messages yet) with selective receive.
+ * Consumers waiting for an item are woken up as soon as a new item arrives, see also {@link SignalingMessageQueue}.
+ *
+ * Selectors are evaluated outside of the buffer lock so expensive message conversion and selector evaluation do not block
+ * producers and other consumers. Each consumer converts items with its own test context. Waiting consumers only evaluate items
+ * that have arrived since their last scan, so each item is evaluated at most once per receive operation. An accepted item is
+ * removed by identity, items taken by a concurrent consumer in the meantime are skipped.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public class SignalingBuffer<T> {
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(SignalingBuffer.class);
+
+    /** Lock guarding buffered items */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Condition signalled on each new item arrival */
+    private final Condition itemArrived = lock.newCondition();
+
+    /** Buffered items in arrival order */
+    private final LinkedList<Entry<T>> entries = new LinkedList<>();
+
+    /** Arrival sequence counter */
+    private long sequence = 0L;
+
+    /**
+     * Adds new item to the buffer and signals waiting consumers.
+     * @param item
+     */
+    public void add(T item) {
+        lock.lock();
+        try {
+            entries.add(new Entry<>(++sequence, item));
+            itemArrived.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the first item accepted by given selector. Returns immediately with null when no such item is present.
+     * @param selector
+     * @return
+     */
+    public T poll(Predicate<T> selector) {
+        List<Entry<T>> candidates = new ArrayList<>();
+        snapshot(0L, candidates);
+        return select(candidates, selector);
+    }
+
+    /**
+     * Removes the first item accepted by given selector. Waits for the item to arrive until the timeout is reached.
+     * @param selector
+     * @param timeout
+     * @return the item or null on timeout or interruption.
+     */
+    public T poll(Predicate<T> selector, long timeout) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        List<Entry<T>> candidates = new ArrayList<>();
+        long lastSeen = 0L;
+
+        while (true) {
+            candidates.clear();
+            lastSeen = snapshot(lastSeen, candidates);
+
+            T item = select(candidates, selector);
+            if (item != null) {
+                return item;
+            }
+
+            lock.lock();
+            try {
+                while (sequence == lastSeen) {
+                    long nanosLeft = deadline - System.nanoTime();
+                    if (nanosLeft <= 0L) {
+                        return null;
+                    }
+
+                    itemArrived.awaitNanos(nanosLeft);
+                }
+            } catch (InterruptedException e) {
+                log.warn("Thread interrupted while waiting for item on buffer", e);
+                Thread.currentThread().interrupt();
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes all buffered items.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of buffered items.
+     * @return
+     */
+    public int getSize() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds all buffered items that have arrived after given sequence to the list of candidates in arrival order.
+     * @param lastSeen
+     * @param candidates
+     * @return the sequence of the most recent arrival.
+     */
+    private long snapshot(long lastSeen, List<Entry<T>> candidates) {
+        lock.lock();
+        try {
+            Iterator<Entry<T>> it = entries.descendingIterator();
+            while (it.hasNext()) {
+                Entry<T> candidate = it.next();
+                if (candidate.sequence <= lastSeen) {
+                    break;
+                }
+
+                candidates.add(candidate);
+            }
+
+            Collections.reverse(candidates);
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Evaluates selector on given candidates outside of the lock and removes the first accepted item that is still
+     * buffered.
+     * @param candidates
+     * @param selector
+     * @return
+     */
+    private T select(List<Entry<T>> candidates, Predicate<T> selector) {
+        for (Entry<T> candidate : candidates) {
+            if (selector.test(candidate.item) && remove(candidate)) {
+                return candidate.item;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes given entry from the buffer.
+     * @param entry
+     * @return false when the entry has already been removed by another consumer.
+     */
+    private boolean remove(Entry<T> entry) {
+        lock.lock();
+        try {
+            for (Iterator<Entry<T>> it = entries.iterator(); it.hasNext();) {
+                if (it.next() == entry) {
+                    it.remove();
+                    return true;
+                }
+            }
+
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Buffered item with its arrival sequence.
+     */
+    private static final class Entry<T> {
+        private final long sequence;
+        private final T item;
+
+        Entry(long sequence, T item) {
+            this.sequence = sequence;
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.consol.citrus.message.selector.DelegatingMessageSelector;
+import com.consol.citrus.message.selector.HeaderMatchingMessageSelector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Message queue implementation that signals waiting receivers as soon as a new message arrives instead of polling
+ * the queue in fixed intervals. Each waiting receiver only evaluates messages that have arrived since its last scan, so
+ * every message is checked at most once per receive operation.
+ *
+ * Pending messages are indexed by header values. Selectors matching exact header values (e.g. {@link HeaderMatchingMessageSelector}
+ * or a {@link DelegatingMessageSelector} using header expressions) are served from the index without scanning the whole queue.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public class SignalingMessageQueue implements MessageQueue {
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(SignalingMessageQueue.class);
+
+    /** Lock guarding pending messages and index */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Condition signalled on each new message arrival */
+    private final Condition messageArrived = lock.newCondition();
+
+    /** Pending messages ordered by arrival sequence */
+    private final NavigableMap<Long, Message> messages = new TreeMap<>();
+
+    /** Header index: header name to header value to message sequence numbers */
+    private final Map<String, Map<String, NavigableSet<Long>>> index = new HashMap<>();
+
+    /** Arrival sequence counter */
+    private long sequence = 0L;
+
+    private final String name;
+
+    public SignalingMessageQueue(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void send(Message message) {
+        lock.lock();
+        try {
+            long id = ++sequence;
+            messages.put(id, message);
+
+            for (Map.Entry<String, Object> header : getIndexedHeaders(message).entrySet()) {
+                index.computeIfAbsent(header.getKey(), k -> new HashMap<>())
+                     .computeIfAbsent(header.getValue().toString(), k -> new TreeSet<>())
+                     .add(id);
+            }
+
+            messageArrived.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Message receive(MessageSelector selector) {
+        lock.lock();
+        try {
+            return pollMatching(selector, 0L);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Message receive(MessageSelector selector, long timeout) {
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        lock.lock();
+        try {
+            long lastSeen = 0L;
+            while (true) {
+                Message message = pollMatching(selector, lastSeen);
+                if (message != null) {
+                    return message;
+                }
+
+                lastSeen = sequence;
+                if (nanosLeft <= 0L) {
+                    return null;
+                }
+
+                try {
+                    nanosLeft = messageArrived.awaitNanos(nanosLeft);
+                } catch (InterruptedException e) {
+                    log.warn("Thread interrupted while waiting for message on queue", e);
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void purge(MessageSelector selector) {
+        lock.lock();
+        try {
+            Iterator<Map.Entry<Long, Message>> pending = messages.entrySet().iterator();
+            while (pending.hasNext()) {
+                Map.Entry<Long, Message> entry = pending.next();
+                if (selector.accept(entry.getValue())) {
+                    pending.remove();
+                    removeFromIndex(entry.getKey(), entry.getValue());
+
+                    if (log.isDebugEnabled()) {
+                        log.debug(String.format("Purged message '%s' from in memory queue", entry.getValue().getId()));
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of messages currently queued.
+     * @return
+     */
+    public int getSize() {
+        lock.lock();
+        try {
+            return messages.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finds and removes the first message accepted by given selector. Only messages with a sequence number
+     * greater than the given last seen sequence are evaluated. Caller must hold the lock.
+     * @param selector
+     * @param lastSeen
+     * @return
+     */
+    private Message pollMatching(MessageSelector selector, long lastSeen) {
+        List<HeaderMatchingMessageSelector> indexed = getIndexedSelectors(selector);
+
+        Iterator<Long> candidates;
+        if (indexed.isEmpty()) {
+            candidates = messages.tailMap(lastSeen, false).keySet().iterator();
+        } else {
+            NavigableSet<Long> ids = null;
+            for (HeaderMatchingMessageSelector headerSelector : indexed) {
+                NavigableSet<Long> matching = index.getOrDefault(headerSelector.getSelectKey(), Collections.emptyMap())
+                                                   .get(headerSelector.getMatchingValue());
+                if (matching == null) {
+                    return null;
+                }
+
+                if (ids == null || matching.size() < ids.size()) {
+                    ids = matching;
+                }
+            }
+
+            candidates = ids.tailSet(lastSeen, false).iterator();
+        }
+
+        while (candidates.hasNext()) {
+            Long id = candidates.next();
+            Message message = messages.get(id);
+            if (message != null && selector.accept(message)) {
+                messages.remove(id);
+                removeFromIndex(id, message);
+                return message;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes message with given sequence number from header index. Caller must hold the lock.
+     * @param id
+     * @param message
+     */
+    private void removeFromIndex(Long id, Message message) {
+        for (Map.Entry<String, Object> header : getIndexedHeaders(message).entrySet()) {
+            Map<String, NavigableSet<Long>> values = index.get(header.getKey());
+            if (values == null) {
+                continue;
+            }
+
+            String value = header.getValue().toString();
+            NavigableSet<Long> ids = values.get(value);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    values.remove(value);
+                }
+            }
+
+            if (values.isEmpty()) {
+                index.remove(header.getKey());
+            }
+        }
+    }
+
+    /**
+     * Gets effective headers of given message the same way header matching selectors evaluate them. Nested message
+     * headers take precedence over headers on the outer message.
+     * @param message
+     * @return
+     */
+    private static Map<String, Object> getIndexedHeaders(Message message) {
+        Map<String, Object> headers = new HashMap<>();
+        message.getHeaders().forEach((key, value) -> {
+            if (value != null) {
+                headers.put(key, value);
+            }
+        });
+
+        if (message.getPayload() instanceof Message) {
+            ((Message) message.getPayload()).getHeaders().forEach((key, value) -> {
+                if (value != null) {
+                    headers.put(key, value);
+                } else {
+                    headers.remove(key);
+                }
+            });
+        }
+
+        return headers;
+    }
+
+    /**
+     * Gets all header selectors that evaluate exact header values and therefore can be served from the header index.
+     * @param selector
+     * @return
+     */
+    private static List<HeaderMatchingMessageSelector> getIndexedSelectors(MessageSelector selector) {
+        List<HeaderMatchingMessageSelector> indexed = new ArrayList<>();
+        if (selector instanceof HeaderMatchingMessageSelector) {
+            addIfExactMatch(indexed, selector);
+        } else if (selector instanceof DelegatingMessageSelector) {
+            ((DelegatingMessageSelector) selector).getDelegates().forEach(delegate -> addIfExactMatch(indexed, delegate));
+        }
+
+        return indexed;
+    }
+
+    private static void addIfExactMatch(List<HeaderMatchingMessageSelector> indexed, MessageSelector selector) {
+        if (selector instanceof HeaderMatchingMessageSelector && ((HeaderMatchingMessageSelector) selector).isExactMatch()) {
+            indexed.add((HeaderMatchingMessageSelector) selector);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message.correlation;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.PollableEndpointConfiguration;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Event driven correlation manager. Instead of polling the object store in fixed intervals each find operation registers
+ * a waiter future for the correlation key that is completed as soon as a matching object gets stored. Saving a correlation key
+ * signals all threads waiting for correlation keys to become available.
+ *
+ * Objects added to the object store directly (without using this manager) are still found as the waiter falls back
+ * to checking the store after each polling interval.
+ *
+ * Manager keeps track of wait times and of stored objects that have not been consumed by any find operation within the
+ * endpoint timeout (orphaned entries).
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public class SignalingCorrelationManager<T> extends PollingCorrelationManager<T> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(SignalingCorrelationManager.class);
+
+    /** Default timeout when waiting for correlation key to be saved */
+    private static final long CORRELATION_KEY_TIMEOUT = 1000L;
+
+    private final PollableEndpointConfiguration endpointConfiguration;
+
+    /** Waiters for stored objects by correlation key */
+    private final Map<String, CompletableFuture<T>> waiters = new ConcurrentHashMap<>();
+
+    /** Store timestamps of objects not consumed yet */
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+
+    /** Lock and condition signalled when new correlation key is saved */
+    private final ReentrantLock correlationKeyLock = new ReentrantLock();
+    private final Condition correlationKeySaved = correlationKeyLock.newCondition();
+
+    /** Wait time statistics */
+    private final AtomicLong waitCount = new AtomicLong();
+    private final AtomicLong totalWaitTime = new AtomicLong();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    /**
+     * Constructor using fields.
+     * @param endpointConfiguration
+     * @param retryLogMessage
+     */
+    public SignalingCorrelationManager(PollableEndpointConfiguration endpointConfiguration, String retryLogMessage) {
+        super(endpointConfiguration, retryLogMessage);
+        this.endpointConfiguration = endpointConfiguration;
+    }
+
+    @Override
+    public void saveCorrelationKey(String correlationKeyName, String correlationKey, TestContext context) {
+        super.saveCorrelationKey(correlationKeyName, correlationKey, context);
+
+        correlationKeyLock.lock();
+        try {
+            correlationKeySaved.signalAll();
+        } finally {
+            correlationKeyLock.unlock();
+        }
+    }
+
+    @Override
+    public String getCorrelationKey(String correlationKeyName, TestContext context) {
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Get correlation key for '%s'", correlationKeyName));
+        }
+
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(CORRELATION_KEY_TIMEOUT);
+
+        correlationKeyLock.lock();
+        try {
+            while (!context.getVariables().containsKey(correlationKeyName)) {
+                if (nanosLeft <= 0L) {
+                    throw new CitrusRuntimeException(String.format("Failed to get correlation key for '%s'", correlationKeyName));
+                }
+
+                nanosLeft = correlationKeySaved.awaitNanos(nanosLeft);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Interrupted while waiting for correlation key '%s'", correlationKeyName), e);
+        } finally {
+            correlationKeyLock.unlock();
+        }
+
+        return context.getVariable(correlationKeyName);
+    }
+
+    @Override
+    public void store(String correlationKey, T object) {
+        super.store(correlationKey, object);
+
+        if (object == null) {
+            return;
+        }
+
+        pending.put(correlationKey, System.currentTimeMillis());
+
+        CompletableFuture<T> waiter = waiters.get(correlationKey);
+        if (waiter != null) {
+            waiter.complete(object);
+        }
+    }
+
+    @Override
+    public T find(String correlationKey, long timeout) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        T stored = take(correlationKey);
+        while (stored == null) {
+            long nanosLeft = deadline - System.nanoTime();
+            if (nanosLeft <= 0L) {
+                break;
+            }
+
+            CompletableFuture<T> waiter = waiters.computeIfAbsent(correlationKey, key -> new CompletableFuture<>());
+            try {
+                stored = take(correlationKey);
+                if (stored != null) {
+                    break;
+                }
+
+                waiter.get(Math.min(nanosLeft, TimeUnit.MILLISECONDS.toNanos(endpointConfiguration.getPollingInterval())), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (log.isTraceEnabled()) {
+                    log.trace(String.format("%s - waiting for '%s'", getRetryLogMessage(), correlationKey));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Thread interrupted while waiting for correlated object", e);
+                break;
+            } catch (ExecutionException e) {
+                throw new CitrusRuntimeException(String.format("Failed to wait for correlated object '%s'", correlationKey), e);
+            } finally {
+                waiters.remove(correlationKey, waiter);
+            }
+
+            stored = take(correlationKey);
+        }
+
+        recordWaitTime(System.nanoTime() - start);
+        return stored;
+    }
+
+    /**
+     * Removes object with given correlation key from object store.
+     * @param correlationKey
+     * @return
+     */
+    private T take(String correlationKey) {
+        T stored = getObjectStore().remove(correlationKey);
+        if (stored != null) {
+            pending.remove(correlationKey);
+        }
+
+        return stored;
+    }
+
+    /**
+     * Adds wait time to statistics.
+     * @param nanos
+     */
+    private void recordWaitTime(long nanos) {
+        waitCount.incrementAndGet();
+        totalWaitTime.addAndGet(nanos);
+        maxWaitTime.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Gets the number of find operations performed on this manager.
+     * @return
+     */
+    public long getWaitCount() {
+        return waitCount.get();
+    }
+
+    /**
+     * Gets the total time in milliseconds find operations have been waiting for correlated objects.
+     * @return
+     */
+    public long getTotalWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitTime.get());
+    }
+
+    /**
+     * Gets the average time in milliseconds find operations have been waiting for correlated objects.
+     * @return
+     */
+    public double getAverageWaitTime() {
+        long count = waitCount.get();
+        return count > 0 ? (double) totalWaitTime.get() / count / TimeUnit.MILLISECONDS.toNanos(1L) : 0.0D;
+    }
+
+    /**
+     * Gets the maximum time in milliseconds a single find operation has been waiting for a correlated object.
+     * @return
+     */
+    public long getMaxWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitTime.get());
+    }
+
+    /**
+     * Gets the number of threads currently waiting for correlated objects.
+     * @return
+     */
+    public int getWaitingCount() {
+        return waiters.size();
+    }
+
+    /**
+     * Gets the number of stored objects that have not been consumed yet.
+     * @return
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Gets the number of stored objects that have not been consumed within the endpoint timeout. These entries
+     * are most likely never picked up by any find operation.
+     * @return
+     */
+    public long getOrphanedCount() {
+        long expired = System.currentTimeMillis() - endpointConfiguration.getTimeout();
+        return pending.values().stream().filter(storedAt -> storedAt < expired).count();
+    }
+}
@@ -77,4 +77,29 @@ public abstract class AbstractMessageSelector implements MessageSelector {
             return value.equals(matchingValue);
         }
     }
+
+    /**
+     * Checks if this selector matches on plain values only, meaning that no validation matcher
+     * expression is used as matching value.
+     * @return
+     */
+    public boolean isExactMatch() {
+        return matchingValue != null && !ValidationMatcherUtils.isValidationMatcherExpression(matchingValue);
+    }
+
+    /**
+     * Gets the selectKey.
+     * @return
+     */
+    public String getSelectKey() {
+        return selectKey;
+    }
+
+    /**
+     * Gets the matchingValue.
+     * @return
+     */
+    public String getMatchingValue() {
+        return matchingValue;
+    }
 }
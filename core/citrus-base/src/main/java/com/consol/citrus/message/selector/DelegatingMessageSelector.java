@@ -19,6 +19,7 @@ package com.consol.citrus.message.selector;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.Message;
@@ -44,6 +45,9 @@ public class DelegatingMessageSelector implements MessageSelector {
     /** Test context */
     private final TestContext context;
 
+    /** Delegate selectors created from matching headers and factories */
+    private volatile List<MessageSelector> delegates;
+
     /**
      * Default constructor using a selector string.
      */
@@ -64,14 +68,29 @@ public class DelegatingMessageSelector implements MessageSelector {
 
     @Override
     public boolean accept(Message message) {
-        return matchingHeaders.entrySet()
-                              .stream()
-                              .allMatch(entry -> factories.stream()
-                                                     .filter(factory -> factory.supports(entry.getKey()))
-                                                     .findAny()
-                                                     .orElse(new HeaderMatchingMessageSelector.Factory())
-                                                     .create(entry.getKey(), entry.getValue(), context)
-                                                     .accept(message));
+        return getDelegates().stream().allMatch(delegate -> delegate.accept(message));
+    }
+
+    /**
+     * Gets the delegate selectors for all matching headers. Delegates are created once with the
+     * first supporting factory and reused for subsequent message evaluation.
+     * @return
+     */
+    public List<MessageSelector> getDelegates() {
+        List<MessageSelector> selectors = delegates;
+        if (selectors == null) {
+            selectors = matchingHeaders.entrySet()
+                    .stream()
+                    .map(entry -> factories.stream()
+                            .filter(factory -> factory.supports(entry.getKey()))
+                            .findAny()
+                            .orElse(new HeaderMatchingMessageSelector.Factory())
+                            .create(entry.getKey(), entry.getValue(), context))
+                    .collect(Collectors.toList());
+            delegates = selectors;
+        }
+
+        return selectors;
     }
 
     /**
@@ -80,6 +99,7 @@ public class DelegatingMessageSelector implements MessageSelector {
      */
     public void addMessageSelectorFactory(MessageSelectorFactory factory) {
         this.factories.add(factory);
+        this.delegates = null;
     }
 
 }
@@ -16,6 +16,9 @@
 
 package com.consol.citrus.report;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +56,20 @@ public abstract class AbstractTestReporter implements TestReporter {
      */
     protected abstract void generate(TestResults testResults);
 
+    /**
+     * Formats given duration as seconds with millisecond precision (e.g. 1.234) as used in test reports.
+     * @param duration
+     * @return
+     */
+    protected static String formatDuration(Duration duration) {
+        BigDecimal seconds = BigDecimal.valueOf(duration.toMillis(), 3).stripTrailingZeros();
+        if (seconds.scale() < 1) {
+            seconds = seconds.setScale(1);
+        }
+
+        return seconds.toPlainString();
+    }
+
     /**
      * Gets the reportDirectory.
      * @return
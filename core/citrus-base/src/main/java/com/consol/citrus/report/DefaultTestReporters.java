@@ -17,5 +17,6 @@ public class DefaultTestReporters extends TestReporters {
 
     public DefaultTestReporters() {
         DEFAULT_REPORTERS.forEach(this::addTestReporter);
+        TestReporter.lookup().values().forEach(this::addTestReporter);
     }
 }
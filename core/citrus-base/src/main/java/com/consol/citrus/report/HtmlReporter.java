@@ -23,10 +23,12 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.text.DateFormat;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 
+import com.consol.citrus.TestActionDuration;
 import com.consol.citrus.TestCase;
 import com.consol.citrus.TestCaseMetaInfo;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -95,9 +97,14 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
                 detailProps.put("test.update.date", detail.getMetaInfo().getLastUpdatedOn() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getLastUpdatedOn()));
                 detailProps.put("test.description", !StringUtils.hasText(detail.getDescription()) ? emptyString : detail.getDescription());
                 detailProps.put("test.result", result.getResult());
+                detailProps.put("test.duration", formatDuration(result.getDuration()));
 
                 reportDetails.append(PropertyUtils.replacePropertiesInString(testDetails, detailProps));
 
+                if (!result.getActionDurations().isEmpty()) {
+                    reportDetails.append(getActionDurationsHtml(result.getActionDurations()));
+                }
+
                 if (result.isFailed() && result.getCause() != null) {
                     reportDetails.append(getStackTraceHtml(result.getCause()));
                 }
@@ -111,6 +118,7 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
             reportProps.put("failed.test.pct", testResults.getFailedPercentage());
             reportProps.put("success.test.cnt", Integer.toString(testResults.getSuccess()));
             reportProps.put("success.test.pct", testResults.getSuccessPercentage());
+            reportProps.put("test.duration", formatDuration(testResults.getTotalDuration()));
             reportProps.put("test.results", reportDetails.toString());
             reportProps.put("logo.data", getLogoImageData());
             return PropertyUtils.replacePropertiesInString(FileUtils.readToString(FileUtils.getFileResource(reportTemplate)), reportProps);
@@ -223,6 +231,29 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
         return codeSnippet.toString();
     }
 
+    /**
+     * Construct HTML code snippet listing execution times of all test actions.
+     * @param actionDurations the test action execution times.
+     * @return
+     */
+    private String getActionDurationsHtml(List<TestActionDuration> actionDurations) {
+        StringBuilder actionsBuilder = new StringBuilder();
+        for (TestActionDuration actionDuration : actionDurations) {
+            actionsBuilder.append("<tr><td style=\"padding-left: ")
+                    .append(actionDuration.getLevel() * 15)
+                    .append("px;\">")
+                    .append(actionDuration.getName().replaceAll(">", "&gt;").replaceAll("<", "&lt;"))
+                    .append(actionDuration.getCount() > 1 ? " [" + actionDuration.getCount() + "x]" : "")
+                    .append("</td><td>")
+                    .append(formatDuration(actionDuration.getDuration()))
+                    .append(" s</td></tr>");
+        }
+
+        return "<tr><td colspan=\"3\">" +
+                "<div class=\"action-durations\"><table>" + actionsBuilder.toString() +
+                "</table></div></td></tr>";
+    }
+
     /**
      * Construct HTML code snippet for stack trace information.
      * @param cause the causing error.
@@ -239,7 +270,7 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
             stackTraceBuilder.append(cause.getStackTrace()[i]);
         }
 
-        return "<tr><td colspan=\"2\">" +
+        return "<tr><td colspan=\"3\">" +
         		"<div class=\"error-detail\"><pre>" + stackTraceBuilder.toString() +
         		"</pre>" + getCodeSnippetHtml(cause) + "</div></td></tr>";
     }
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -113,7 +114,7 @@ public class JUnitReporter extends AbstractTestReporter {
             Properties detailProps = new Properties();
             detailProps.put("test.class", result.getClassName());
             detailProps.put("test.name", StringEscapeUtils.escapeXml(result.getTestName()));
-            detailProps.put("test.duration", "0.0");
+            detailProps.put("test.duration", formatDuration(result.getDuration()));
 
             if (result.isFailed()) {
                 detailProps.put("test.error.cause", Optional.ofNullable(result.getCause()).map(Object::getClass).map(Class::getName).orElse(Objects.toString(result.getFailureType(), "")));
@@ -140,7 +141,7 @@ public class JUnitReporter extends AbstractTestReporter {
         reportProps.put("test.failed.cnt", Long.toString(results.stream().filter(TestResult::isFailed).count()));
         reportProps.put("test.success.cnt", Long.toString(results.stream().filter(TestResult::isSuccess).count()));
         reportProps.put("test.error.cnt", "0");
-        reportProps.put("test.duration", "0.0");
+        reportProps.put("test.duration", formatDuration(results.stream().map(TestResult::getDuration).reduce(Duration.ZERO, Duration::plus)));
         reportProps.put("tests", reportDetails.toString());
         return PropertyUtils.replacePropertiesInString(templates.getReportTemplate(), reportProps);
     }
@@ -16,10 +16,12 @@
 
 package com.consol.citrus.report;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import com.consol.citrus.CitrusVersion;
 import com.consol.citrus.TestAction;
+import com.consol.citrus.TestActionDuration;
 import com.consol.citrus.TestCase;
 import com.consol.citrus.common.Described;
 import com.consol.citrus.container.TestActionContainer;
@@ -53,7 +55,7 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
         newLine();
 
         testResults.doWithResults(testResult -> {
-            info(testResult.toString());
+            info(testResult.toString() + (testResult.isSkipped() ? "" : " (" + formatDuration(testResult.getDuration()) + "s)"));
 
             if (testResult.isFailed()) {
                 info(Optional.ofNullable(testResult.getCause())
@@ -61,6 +63,14 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
                         .map(cause -> " FAILURE: Caused by: " + cause.getClass().getSimpleName() + ": " +  cause.getMessage())
                         .orElse(" FAILURE: Caused by: " + Optional.ofNullable(testResult.getErrorMessage()).orElse("Unknown error")));
             }
+
+            if (isDebugEnabled()) {
+                for (TestActionDuration actionDuration : testResult.getActionDurations()) {
+                    debug("  ".repeat(actionDuration.getLevel() + 1) + actionDuration.getName() +
+                            (actionDuration.getCount() > 1 ? " [" + actionDuration.getCount() + "x]" : "") +
+                            " (" + formatDuration(actionDuration.getDuration()) + "s)");
+                }
+            }
         });
 
         newLine();
@@ -71,6 +81,7 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
 
         info("FAILED:\t" + testResults.getFailed() + " (" + testResults.getFailedPercentage() + "%)");
         info("SUCCESS:\t" + testResults.getSuccess() + " (" + testResults.getSuccessPercentage() + "%)");
+        info("DURATION:\t" + formatDuration(testResults.getTotalDuration()) + "s");
         newLine();
 
         separator();
@@ -213,6 +224,13 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
         }
     }
 
+    @Override
+    public void onTestActionDuration(TestCase testCase, TestAction testAction, Duration duration) {
+        if (isDebugEnabled()) {
+            debug("TEST STEP " + (testCase.getActionIndex(testAction) + 1) + " DURATION: " + formatDuration(duration) + "s");
+        }
+    }
+
     @Override
     public void onTestActionSkipped(TestCase testCase, TestAction testAction) {
         if (isDebugEnabled()) {
@@ -16,20 +16,27 @@
 
 package com.consol.citrus;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import com.consol.citrus.actions.AbstractAsyncTestAction;
+import com.consol.citrus.actions.AbstractTestAction;
 import com.consol.citrus.actions.EchoAction;
 import com.consol.citrus.container.Async;
+import com.consol.citrus.container.Iterate;
+import com.consol.citrus.container.Sequence;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.TestCaseFailedException;
 import com.consol.citrus.functions.core.CurrentDateFunction;
+import com.consol.citrus.report.AbstractTestActionListener;
+import com.consol.citrus.report.TestActionListeners;
 import com.consol.citrus.util.TestUtils;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
@@ -49,6 +56,88 @@ public class TestCaseTest extends UnitTestSupport {
         testcase.execute(context);
     }
 
+    @Test
+    public void testExecutionDuration() {
+        final DefaultTestCase testcase = new DefaultTestCase();
+        testcase.setName("MyTestCase");
+
+        final TestAction sleep = new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                try {
+                    Thread.sleep(100L);
+                } catch (final InterruptedException e) {
+                    throw new CitrusRuntimeException(e);
+                }
+            }
+        };
+        testcase.addTestAction(new EchoAction.Builder().build());
+        testcase.addTestAction(sleep);
+
+        final Map<TestAction, Duration> durations = new LinkedHashMap<>();
+        context.setTestActionListeners(new TestActionListeners());
+        context.getTestActionListeners().addTestActionListener(new AbstractTestActionListener() {
+            @Override
+            public void onTestActionDuration(TestCase testCase, TestAction testAction, Duration duration) {
+                durations.put(testAction, duration);
+            }
+        });
+
+        testcase.execute(context);
+
+        Assert.assertEquals(durations.size(), 2L);
+        Assert.assertTrue(durations.get(sleep).toMillis() >= 100L);
+        Assert.assertTrue(testcase.getTestResult().isSuccess());
+        Assert.assertTrue(testcase.getTestResult().getDuration().compareTo(durations.get(sleep)) >= 0);
+    }
+
+    @Test
+    public void testNestedActionDurations() {
+        final DefaultTestCase testcase = new DefaultTestCase();
+        testcase.setName("MyTestCase");
+
+        testcase.addTestAction(new Sequence.Builder()
+                .actions(new EchoAction.Builder().message("Hello"), new EchoAction.Builder().message("Bye"))
+                .build());
+        testcase.addTestAction(new EchoAction.Builder().build());
+
+        testcase.execute(context);
+
+        final List<TestActionDuration> actionDurations = testcase.getTestResult().getActionDurations();
+        Assert.assertEquals(actionDurations.size(), 3L);
+        Assert.assertEquals(actionDurations.get(0).getName(), "sequential");
+        Assert.assertEquals(actionDurations.get(0).getLevel(), 0);
+        Assert.assertEquals(actionDurations.get(1).getName(), "echo");
+        Assert.assertEquals(actionDurations.get(1).getLevel(), 1);
+        Assert.assertEquals(actionDurations.get(1).getCount(), 2);
+        Assert.assertEquals(actionDurations.get(2).getLevel(), 0);
+        Assert.assertEquals(actionDurations.get(2).getCount(), 1);
+        Assert.assertTrue(actionDurations.get(0).getDuration().compareTo(actionDurations.get(1).getDuration()) >= 0);
+    }
+
+    @Test
+    public void testLoopActionDurationsAggregated() {
+        final DefaultTestCase testcase = new DefaultTestCase();
+        testcase.setName("MyTestCase");
+
+        testcase.addTestAction(new Iterate.Builder()
+                .condition("i lt= 100")
+                .index("i")
+                .actions(new Sequence.Builder().actions(new EchoAction.Builder().message("Hello")))
+                .build());
+
+        testcase.execute(context);
+
+        final List<TestActionDuration> actionDurations = testcase.getTestResult().getActionDurations();
+        Assert.assertEquals(actionDurations.size(), 3L);
+        Assert.assertEquals(actionDurations.get(0).getCount(), 1);
+        Assert.assertEquals(actionDurations.get(1).getName(), "sequential");
+        Assert.assertEquals(actionDurations.get(1).getCount(), 100);
+        Assert.assertEquals(actionDurations.get(2).getName(), "echo");
+        Assert.assertEquals(actionDurations.get(2).getLevel(), 2);
+        Assert.assertEquals(actionDurations.get(2).getCount(), 100);
+    }
+
     @Test
     public void testWaitForFinish() {
         final TestCase testcase = new DefaultTestCase();
@@ -16,15 +16,20 @@
 
 package com.consol.citrus.actions;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import com.consol.citrus.condition.Condition;
 import com.consol.citrus.container.Wait;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.TaskExecutors;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 /**
@@ -143,9 +148,40 @@ public class WaitTest {
         assertConditionExecutedWithinSeconds(seconds);
     }
 
+    @Test
+    public void shouldCancelConditionCheckOnTimeout() throws InterruptedException {
+        String seconds = "1";
+        String interval = "1000";
+
+        Wait testling = getWaitAction(seconds, interval);
+
+        CountDownLatch interrupted = new CountDownLatch(1);
+        reset(contextMock, conditionMock);
+        prepareContextMock("1000", interval);
+        when(conditionMock.getName()).thenReturn("check");
+        when(conditionMock.isSatisfied(contextMock)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10000L);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return Boolean.FALSE;
+        });
+        when(conditionMock.getErrorMessage(contextMock)).thenReturn("Condition failed!");
+        try {
+            testling.execute(contextMock);
+            fail("Was expecting CitrusRuntimeException to be thrown");
+        } catch (CitrusRuntimeException e) {
+            // expected
+        }
+
+        assertTrue(interrupted.await(1000L, TimeUnit.MILLISECONDS), "Expected condition check to be cancelled");
+    }
+
     private void prepareContextMock(String waitTime, String interval) {
         when(contextMock.replaceDynamicContentInString(waitTime)).thenReturn(waitTime);
         when(contextMock.replaceDynamicContentInString(interval)).thenReturn(interval);
+        when(contextMock.getExecutorService()).thenReturn(TaskExecutors.getDefault());
     }
 
     private Wait getWaitAction(String waitTimeSeconds, String interval) {
@@ -18,14 +18,18 @@ package com.consol.citrus.container;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import com.consol.citrus.TestAction;
 import com.consol.citrus.actions.EchoAction;
 import com.consol.citrus.actions.FailAction;
 import com.consol.citrus.actions.SleepAction;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ParallelContainerException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.reset;
@@ -150,4 +154,51 @@ public class ParallelTest extends AbstractTestNGUnitTest {
 
         verify(action).execute(context);
     }
+
+    @Test
+    public void testManyBlockingActions() {
+        Parallel parallelAction = new Parallel.Builder().build();
+
+        int branches = 500;
+        CountDownLatch latch = new CountDownLatch(branches);
+
+        List<TestAction> actionList = new ArrayList<>();
+        for (int i = 0; i < branches; i++) {
+            actionList.add(testContext -> {
+                latch.countDown();
+                try {
+                    // all branches must run concurrently to complete
+                    if (!latch.await(10, TimeUnit.SECONDS)) {
+                        throw new CitrusRuntimeException("Parallel branches did not run concurrently");
+                    }
+                } catch (InterruptedException e) {
+                    throw new CitrusRuntimeException(e);
+                }
+            });
+        }
+
+        parallelAction.setActions(actionList);
+        parallelAction.execute(context);
+
+        Assert.assertEquals(latch.getCount(), 0L);
+    }
+
+    @Test
+    public void testCollectAllFailingActions() {
+        Parallel parallelAction = new Parallel.Builder().build();
+
+        List<TestAction> actionList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            actionList.add(new FailAction.Builder().build());
+        }
+
+        parallelAction.setActions(actionList);
+
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing parallel container exception");
+        } catch (ParallelContainerException e) {
+            Assert.assertEquals(e.getMessage().split("\n\t\\+ ").length, 101);
+        }
+    }
 }
@@ -22,6 +22,7 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.endpoint.EndpointComponent;
+import com.consol.citrus.message.SignalingMessageQueue;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -78,6 +79,19 @@ public class DirectEndpointComponentTest {
         Assert.assertEquals(((DirectEndpoint) endpoint).getEndpointConfiguration().getTimeout(), 10000L);
     }
 
+    @Test
+    public void testCreateDirectEndpointWithSignalingQueue() throws Exception {
+        DirectEndpointComponent component = new DirectEndpointComponent();
+
+        Endpoint endpoint = component.createEndpoint("direct:signalingQueue?signaling=true&timeout=10000", context);
+
+        Assert.assertEquals(endpoint.getClass(), DirectEndpoint.class);
+
+        Assert.assertEquals(((DirectEndpoint)endpoint).getEndpointConfiguration().getQueueName(), "signalingQueue");
+        Assert.assertEquals(((DirectEndpoint) endpoint).getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertEquals(context.getReferenceResolver().resolve("signalingQueue").getClass(), SignalingMessageQueue.class);
+    }
+
     @Test
     public void testLookupAll() {
         Map<String, EndpointComponent> validators = EndpointComponent.lookup();
@@ -17,12 +17,14 @@
 package com.consol.citrus.functions;
 
 import java.util.Collections;
+import java.util.Map;
 
 import com.consol.citrus.UnitTestSupport;
 import com.consol.citrus.exceptions.InvalidFunctionUsageException;
 import com.consol.citrus.exceptions.NoSuchFunctionException;
 import com.consol.citrus.exceptions.NoSuchFunctionLibraryException;
 import com.consol.citrus.functions.core.CurrentDateFunction;
+import com.consol.citrus.variable.VariableUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -96,4 +98,56 @@ public class FunctionUtilsTest extends UnitTestSupport {
     public void testUnknownFunctionLibrary() {
         FunctionUtils.resolveFunction("doesnotexist:concat('Hello', ' TestFramework!')", context);
     }
+    @Test
+    public void testReplaceVariablesAndFunctions() {
+        context.setVariable("greeting", "Hello");
+        context.setVariable("function", "citrus:upperCase('yes')");
+
+        for (String name : new String[] { "Citrus", "Kafka" }) {
+            context.setVariable("name", name);
+            String template = "${greeting} citrus:upperCase('${name}') and ${function}";
+            Assert.assertEquals(FunctionUtils.replaceVariablesAndFunctionsInString(template, context, false),
+                    FunctionUtils.replaceFunctionsInString(VariableUtils.replaceVariablesInString(template, context, false), context, false));
+            Assert.assertEquals(FunctionUtils.replaceVariablesAndFunctionsInString(template, context, false), "Hello " + name.toUpperCase() + " and YES");
+            Assert.assertEquals(FunctionUtils.replaceVariablesAndFunctionsInString(template, context, true),
+                    FunctionUtils.replaceFunctionsInString(VariableUtils.replaceVariablesInString(template, context, true), context, true));
+        }
+
+        Assert.assertEquals(FunctionUtils.replaceVariablesAndFunctionsInString("${function}", context, false), "YES");
+        Assert.assertEquals(FunctionUtils.replaceVariablesAndFunctionsInString("No functions: here", context, false), "No functions: here");
+    }
+
+    @Test
+    public void testReplaceNestedFunctions() {
+        context.setVariable("name", "citrus");
+
+        Assert.assertEquals(FunctionUtils.replaceVariablesAndFunctionsInString("Hello citrus:concat('Mr. ', citrus:upperCase('${name}'))!", context, false), "Hello Mr. CITRUS!");
+        Assert.assertEquals(FunctionUtils.replaceVariablesAndFunctionsInString("citrus:upperCase('a') and citrus:concat('b', citrus:upperCase('c'))", context, true), "'A' and 'bC'");
+    }
+
+    @Test
+    public void testReplaceFunctionsOfMultipleLibraries() {
+        FunctionLibrary customLibrary = new FunctionLibrary();
+        customLibrary.setName("custom");
+        customLibrary.setPrefix("custom:");
+        customLibrary.setMembers(Map.of(
+                "greet", (parameterList, testContext) -> "Hello " + parameterList.get(0),
+                "wrap", (parameterList, testContext) -> "citrus:upperCase('" + parameterList.get(0) + "')"));
+
+        FunctionRegistry functionRegistry = new FunctionRegistry();
+        functionRegistry.addFunctionLibrary(customLibrary);
+        functionRegistry.addFunctionLibrary(new DefaultFunctionLibrary());
+        context.setFunctionRegistry(functionRegistry);
+
+        context.setVariable("function", "custom:greet('citrus')");
+
+        // function arguments of other libraries
+        Assert.assertEquals(FunctionUtils.replaceVariablesAndFunctionsInString("citrus:upperCase(custom:greet('citrus'))", context, false), "HELLO CITRUS");
+        Assert.assertEquals(FunctionUtils.replaceVariablesAndFunctionsInString("custom:greet(citrus:upperCase('citrus'))", context, false), "Hello CITRUS");
+
+        // function results and variable values are scanned for functions of subsequent libraries
+        Assert.assertEquals(FunctionUtils.replaceVariablesAndFunctionsInString("custom:wrap('citrus')!", context, false), "CITRUS!");
+        Assert.assertEquals(FunctionUtils.replaceVariablesAndFunctionsInString("${function} and citrus:upperCase('yes')", context, false), "Hello citrus and YES");
+    }
+
 }
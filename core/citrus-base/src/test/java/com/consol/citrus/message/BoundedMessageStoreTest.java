@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class BoundedMessageStoreTest {
+
+    private File spillDirectory;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        spillDirectory = Files.createTempDirectory("citrus-message-store").toFile();
+    }
+
+    @Test
+    public void testSizeEviction() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(2, 0L, spillDirectory.getAbsolutePath());
+
+        Message first = new DefaultMessage("Hello 1").setHeader("operation", "greet");
+        messageStore.storeMessage("first", first);
+        messageStore.storeMessage("second", new DefaultMessage("Hello 2"));
+        messageStore.storeMessage("third", new DefaultMessage("Hello 3"));
+
+        Assert.assertEquals(messageStore.getSize(), 2L);
+        Assert.assertEquals(messageStore.getSpilledSize(), 1L);
+        Assert.assertEquals(Objects.requireNonNull(spillDirectory.list()).length, 1L);
+
+        Message loaded = messageStore.getMessage("first");
+        Assert.assertNotSame(loaded, first);
+        Assert.assertEquals(loaded.getId(), first.getId());
+        Assert.assertEquals(loaded.getPayload(String.class), "Hello 1");
+        Assert.assertEquals(loaded.getHeader("operation"), "greet");
+
+        Assert.assertEquals(messageStore.getMessage("third").getPayload(String.class), "Hello 3");
+        Assert.assertNull(messageStore.getMessage("unknown"));
+    }
+
+    @Test
+    public void testStoreReplacesSpilledMessage() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(1, 0L, spillDirectory.getAbsolutePath());
+
+        messageStore.storeMessage("request", new DefaultMessage("Old request"));
+        messageStore.storeMessage("response", new DefaultMessage("Response"));
+        Assert.assertEquals(messageStore.getSpilledSize(), 1L);
+
+        messageStore.storeMessage("request", new DefaultMessage("New request"));
+        Assert.assertEquals(messageStore.getMessage("request").getPayload(String.class), "New request");
+        Assert.assertEquals(messageStore.getMessage("response").getPayload(String.class), "Response");
+        Assert.assertEquals(messageStore.getSpilledSize(), 1L);
+    }
+
+    @Test
+    public void testTruncateUnusedLog() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(1, 0L, spillDirectory.getAbsolutePath());
+
+        messageStore.storeMessage("request", new DefaultMessage("Hello"));
+        messageStore.storeMessage("response", new DefaultMessage("Hello"));
+        long recordLength = getSpillLogLength();
+
+        for (int i = 0; i < 50; i++) {
+            messageStore.storeMessage(i % 2 == 0 ? "request" : "response", new DefaultMessage("Hello"));
+        }
+
+        Assert.assertEquals(messageStore.getSpilledSize(), 1L);
+        Assert.assertTrue(getSpillLogLength() < 3 * recordLength);
+        Assert.assertEquals(messageStore.getMessage("request").getPayload(String.class), "Hello");
+    }
+
+    @Test
+    public void testCompactLog() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(1, 0L, spillDirectory.getAbsolutePath());
+
+        Random random = new Random(42L);
+        String[] ids = { "first", "second", "third" };
+        byte[][] payloads = new byte[ids.length][];
+        for (int i = 0; i < 100; i++) {
+            int index = i % ids.length;
+            payloads[index] = new byte[64 * 1024];
+            random.nextBytes(payloads[index]);
+            messageStore.storeMessage(ids[index], new DefaultMessage(payloads[index]));
+        }
+
+        Assert.assertEquals(messageStore.getSpilledSize(), 2L);
+        Assert.assertTrue(getSpillLogLength() < 2 * 1024 * 1024);
+
+        for (int i = 0; i < ids.length; i++) {
+            Assert.assertEquals(messageStore.getMessage(ids[i]).getPayload(byte[].class), payloads[i]);
+        }
+    }
+
+    @Test
+    public void testAgeEviction() throws InterruptedException {
+        BoundedMessageStore messageStore = new BoundedMessageStore(0, 50L, spillDirectory.getAbsolutePath());
+
+        messageStore.storeMessage("request", new DefaultMessage("Request"));
+        Thread.sleep(100L);
+
+        messageStore.storeMessage("response", new DefaultMessage("Response"));
+        Assert.assertEquals(messageStore.getSize(), 1L);
+        Assert.assertEquals(messageStore.getMessage("request").getPayload(String.class), "Request");
+    }
+
+    @Test
+    public void testEvictionWithoutSpillDirectory() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(1, 0L, "");
+
+        messageStore.storeMessage("request", new DefaultMessage("Request"));
+        messageStore.storeMessage("response", new DefaultMessage("Response"));
+
+        Assert.assertNull(messageStore.getMessage("request"));
+        Assert.assertEquals(messageStore.getSpilledSize(), 0L);
+    }
+
+    @Test
+    public void testNotSerializablePayload() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(1, 0L, spillDirectory.getAbsolutePath());
+
+        messageStore.storeMessage("request", new DefaultMessage(new Object()));
+        messageStore.storeMessage("response", new DefaultMessage("Response"));
+
+        Assert.assertNull(messageStore.getMessage("request"));
+        Assert.assertEquals(messageStore.getMessage("response").getPayload(String.class), "Response");
+    }
+
+    private long getSpillLogLength() {
+        File[] files = Objects.requireNonNull(spillDirectory.listFiles());
+        Assert.assertEquals(files.length, 1L);
+        return files[0].length();
+    }
+}
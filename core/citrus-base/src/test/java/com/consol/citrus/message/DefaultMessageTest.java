@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.message;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.util.TypeConversionUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class DefaultMessageTest {
+
+    @Test
+    public void testPayloadConversionCache() {
+        AtomicInteger conversions = new AtomicInteger();
+        DefaultMessage message = new DefaultMessage(new StringBuilder("Hello")) {
+            @Override
+            protected <T> T convertPayload(Object payload, Class<T> type) {
+                conversions.incrementAndGet();
+                return super.convertPayload(payload, type);
+            }
+        };
+
+        String payload = message.getPayload(String.class);
+        Assert.assertEquals(payload, "Hello");
+        Assert.assertSame(message.getPayload(String.class), payload);
+        Assert.assertEquals(conversions.get(), 1);
+
+        message.setPayload(new StringBuilder("Bye"));
+        Assert.assertEquals(message.getPayload(String.class), "Bye");
+        Assert.assertEquals(message.getPayload(String.class), "Bye");
+        Assert.assertEquals(conversions.get(), 2);
+    }
+
+    @Test
+    public void testPayloadConversionCacheModifiedInPlace() {
+        StringBuilder builder = new StringBuilder("Hello");
+        DefaultMessage message = new DefaultMessage(builder);
+        Assert.assertEquals(message.getPayload(String.class), "Hello");
+
+        builder.append(" World");
+        message.setPayload(builder);
+        Assert.assertEquals(message.getPayload(String.class), "Hello World");
+    }
+
+    @Test
+    public void testMutableConversionNotCached() {
+        DefaultMessage message = new DefaultMessage("Hello");
+
+        byte[] bytes = message.getPayload(byte[].class);
+        Assert.assertEquals(bytes, "Hello".getBytes());
+        Assert.assertNotSame(message.getPayload(byte[].class), bytes);
+    }
+
+    @Test
+    public void testLazyPayload() {
+        AtomicInteger loads = new AtomicInteger();
+        DefaultMessage message = new DefaultMessage((LazyPayload) () -> {
+            loads.incrementAndGet();
+            return "Hello".getBytes();
+        });
+
+        Assert.assertEquals(loads.get(), 0);
+        Assert.assertFalse(message.isPayloadLoaded());
+        Assert.assertEquals(message.getPayload(String.class), TypeConversionUtils.convertIfNecessary("Hello".getBytes(), String.class));
+        Assert.assertTrue(message.getPayload() instanceof byte[]);
+        Assert.assertTrue(message.isPayloadLoaded());
+        Assert.assertEquals(loads.get(), 1);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class SignalingBufferTest {
+
+    @Test
+    public void testSelectivePoll() {
+        SignalingBuffer<String> buffer = new SignalingBuffer<>();
+        buffer.add("a");
+        buffer.add("b");
+        buffer.add("c");
+
+        Assert.assertEquals(buffer.poll(item -> item.equals("b")), "b");
+        Assert.assertEquals(buffer.getSize(), 2);
+        Assert.assertEquals(buffer.poll(item -> true), "a");
+        Assert.assertEquals(buffer.poll(item -> true, 100L), "c");
+        Assert.assertNull(buffer.poll(item -> true, 100L));
+    }
+
+    @Test
+    public void testWaitingPollEvaluatesOnce() throws Exception {
+        SignalingBuffer<String> buffer = new SignalingBuffer<>();
+        AtomicInteger evaluations = new AtomicInteger();
+
+        buffer.add("a");
+
+        CompletableFuture<String> waiting = CompletableFuture.supplyAsync(() -> buffer.poll(item -> {
+            evaluations.incrementAndGet();
+            return item.equals("c");
+        }, 5000L));
+
+        buffer.add("b");
+        buffer.add("c");
+
+        Assert.assertEquals(waiting.get(5000L, TimeUnit.MILLISECONDS), "c");
+        Assert.assertEquals(evaluations.get(), 3);
+        Assert.assertEquals(buffer.getSize(), 2);
+
+        buffer.clear();
+        Assert.assertEquals(buffer.getSize(), 0);
+    }
+}
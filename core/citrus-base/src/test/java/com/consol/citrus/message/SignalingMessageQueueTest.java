@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.message.selector.DelegatingMessageSelector;
+import com.consol.citrus.message.selector.HeaderMatchingMessageSelector;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class SignalingMessageQueueTest extends UnitTestSupport {
+
+    @Test
+    public void testReceiveSelected() {
+        SignalingMessageQueue queue = new SignalingMessageQueue("testQueue");
+
+        queue.send(new DefaultMessage("OtherMessage").setHeader("foo", "other"));
+        queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar"));
+
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context);
+
+        Message receivedMessage = queue.receive(selector, 1000L);
+
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        Assert.assertEquals(receivedMessage.getHeaders().get("foo"), "bar");
+        Assert.assertEquals(queue.getSize(), 1);
+        Assert.assertNull(queue.receive(selector));
+        Assert.assertEquals(queue.receive().getPayload(), "OtherMessage");
+    }
+
+    @Test
+    public void testReceiveDelegatingSelector() {
+        SignalingMessageQueue queue = new SignalingMessageQueue("testQueue");
+
+        queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar").setHeader("operation", "foo"));
+        queue.send(new DefaultMessage("BarMessage").setHeader("foo", "bar").setHeader("operation", "bar"));
+
+        Message receivedMessage = queue.receive(new DelegatingMessageSelector("foo = 'bar' AND operation = 'bar'", context), 1000L);
+
+        Assert.assertEquals(receivedMessage.getPayload(), "BarMessage");
+
+        receivedMessage = queue.receive(new DelegatingMessageSelector("operation = '@startsWith(f)@'", context), 1000L);
+
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        Assert.assertEquals(queue.getSize(), 0);
+    }
+
+    @Test
+    public void testWakeUpOnArrival() {
+        SignalingMessageQueue queue = new SignalingMessageQueue("testQueue");
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            executor.schedule(() -> queue.send(new DefaultMessage("OtherMessage").setHeader("foo", "other")), 50L, TimeUnit.MILLISECONDS);
+            executor.schedule(() -> queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar")), 100L, TimeUnit.MILLISECONDS);
+
+            final AtomicLong evaluations = new AtomicLong();
+            MessageSelector selector = new MessageSelector() {
+                private final MessageSelector delegate = new HeaderMatchingMessageSelector("foo", "bar", context);
+
+                @Override
+                public boolean accept(Message message) {
+                    evaluations.incrementAndGet();
+                    return delegate.accept(message);
+                }
+            };
+
+            long start = System.currentTimeMillis();
+            Message receivedMessage = queue.receive(selector, 5000L);
+
+            Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+            Assert.assertTrue(System.currentTimeMillis() - start < 2500L);
+            Assert.assertEquals(evaluations.get(), 2L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReceiveTimeout() {
+        SignalingMessageQueue queue = new SignalingMessageQueue("testQueue");
+
+        queue.send(new DefaultMessage("FooMessage").setHeader("foos", "bars"));
+
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context);
+
+        Message receivedMessage = queue.receive(selector, 200L);
+
+        Assert.assertNull(receivedMessage);
+        Assert.assertEquals(queue.getSize(), 1);
+    }
+
+    @Test
+    public void testPurge() {
+        SignalingMessageQueue queue = new SignalingMessageQueue("testQueue");
+
+        queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar"));
+        queue.send(new DefaultMessage("BarMessage").setHeader("foo", "baz"));
+
+        queue.purge(new HeaderMatchingMessageSelector("foo", "bar", context));
+
+        Assert.assertEquals(queue.getSize(), 1);
+        Assert.assertNull(queue.receive(new HeaderMatchingMessageSelector("foo", "bar", context)));
+        Assert.assertEquals(queue.receive().getPayload(), "BarMessage");
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message.correlation;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.direct.DirectSyncEndpointConfiguration;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+public class SignalingCorrelationManagerTest {
+
+    private ObjectStore objectStore = Mockito.mock(ObjectStore.class);
+
+    @Test
+    public void testFind() {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        endpointConfiguration.setTimeout(500L);
+
+        SignalingCorrelationManager<String> correlationManager = new SignalingCorrelationManager<>(endpointConfiguration, "Try again");
+        Assert.assertNull(correlationManager.find(""));
+
+        correlationManager.store("foo", "bar");
+        Assert.assertEquals(correlationManager.getPendingCount(), 1);
+        Assert.assertNull(correlationManager.find("bar"));
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+        Assert.assertEquals(correlationManager.getPendingCount(), 0);
+
+        //2nd invocation with same correlation key
+        Assert.assertNull(correlationManager.find("foo"));
+
+        for (String key : new String[]{"1", "2", "3", "4", "5"}) {
+            correlationManager.store(key, "value" + key);
+        }
+
+        for (String key : new String[]{"1", "5", "3", "2", "4"}) {
+            Assert.assertEquals(correlationManager.find(key), "value" + key);
+        }
+
+        Assert.assertEquals(correlationManager.getWaitCount(), 9L);
+        Assert.assertEquals(correlationManager.getWaitingCount(), 0);
+    }
+
+    @Test
+    public void testFindSignaled() {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        endpointConfiguration.setPollingInterval(5000L);
+        endpointConfiguration.setTimeout(10000L);
+
+        SignalingCorrelationManager<String> correlationManager = new SignalingCorrelationManager<>(endpointConfiguration, "Try again");
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            executor.schedule(() -> correlationManager.store("foo", "bar"), 100L, TimeUnit.MILLISECONDS);
+
+            long start = System.currentTimeMillis();
+            Assert.assertEquals(correlationManager.find("foo"), "bar");
+            Assert.assertTrue(System.currentTimeMillis() - start < 4000L);
+            Assert.assertTrue(correlationManager.getMaxWaitTime() > 0L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFindFromObjectStore() {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        endpointConfiguration.setPollingInterval(100L);
+        endpointConfiguration.setTimeout(500L);
+
+        SignalingCorrelationManager<String> correlationManager = new SignalingCorrelationManager<>(endpointConfiguration, "Try again");
+        correlationManager.setObjectStore(objectStore);
+
+        reset(objectStore);
+        when(objectStore.remove("foo")).thenReturn(null).thenReturn(null).thenReturn("bar");
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+    }
+
+    @Test
+    public void testOrphanedEntries() throws InterruptedException {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        endpointConfiguration.setTimeout(100L);
+
+        SignalingCorrelationManager<String> correlationManager = new SignalingCorrelationManager<>(endpointConfiguration, "Try again");
+        correlationManager.store("foo", "bar");
+        Assert.assertEquals(correlationManager.getOrphanedCount(), 0L);
+
+        Thread.sleep(200L);
+        Assert.assertEquals(correlationManager.getOrphanedCount(), 1L);
+    }
+
+    @Test
+    public void testGetCorrelationKey() {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        SignalingCorrelationManager<String> correlationManager = new SignalingCorrelationManager<>(endpointConfiguration, "Try again");
+        TestContext context = new TestContext();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            executor.schedule(() -> correlationManager.saveCorrelationKey("correlationKey", "foo", context), 100L, TimeUnit.MILLISECONDS);
+            Assert.assertEquals(correlationManager.getCorrelationKey("correlationKey", context), "foo");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testMissingCorrelationKey() {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        SignalingCorrelationManager<String> correlationManager = new SignalingCorrelationManager<>(endpointConfiguration, "Try again");
+
+        correlationManager.getCorrelationKey("correlationKey", new TestContext());
+    }
+}
@@ -17,6 +17,7 @@
 package com.consol.citrus.report;
 
 import java.io.File;
+import java.time.Duration;
 
 import com.consol.citrus.TestResult;
 import com.consol.citrus.util.FileUtils;
@@ -92,6 +93,22 @@ public class JUnitReporterTest {
         Assert.assertTrue(testSuiteFile.contains("<failure type=\"java.lang.NullPointerException\" message=\"Something went wrong!\">"));
     }
 
+    @Test
+    public void testGenerateTestResultsWithDuration() throws Exception {
+        TestResults testResults = new TestResults();
+        testResults.addResult(TestResult.success("fooTest", JUnitReporterTest.class.getName()).withDuration(Duration.ofMillis(1500)));
+        testResults.addResult(TestResult.success("barTest", JUnitReporterTest.class.getName()).withDuration(Duration.ofNanos(2_345_678_901L)));
+        reporter.generate(testResults);
+
+        String reportFile = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + reporter.getOutputDirectory() + File.separator + String.format(reporter.getReportFileNamePattern(), JUnitReporterTest.class.getName())));
+
+        Assert.assertEquals(reportFile, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + System.lineSeparator() +
+                "<testsuite name=\"com.consol.citrus.report.JUnitReporterTest\" time=\"3.845\" tests=\"2\" errors=\"0\" skipped=\"0\" failures=\"0\">" + System.lineSeparator() +
+                "    <testcase name=\"fooTest\" classname=\"com.consol.citrus.report.JUnitReporterTest\" time=\"1.5\"/>" + System.lineSeparator() +
+                "    <testcase name=\"barTest\" classname=\"com.consol.citrus.report.JUnitReporterTest\" time=\"2.345\"/>" + System.lineSeparator() +
+                "</testsuite>");
+    }
+
     @Test
     public void testGenerateTestResultsWithSkippedTests() throws Exception {
         TestResults testResults = new TestResults();
@@ -55,6 +55,8 @@ public class CitrusSpringContext extends CitrusContext {
                 ((ConfigurableApplicationContext) applicationContext).close();
             }
         }
+
+        super.close();
     }
 
     /**
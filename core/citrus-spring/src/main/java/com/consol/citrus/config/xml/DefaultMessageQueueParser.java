@@ -18,6 +18,7 @@ package com.consol.citrus.config.xml;
 
 import com.consol.citrus.config.util.BeanDefinitionParserUtils;
 import com.consol.citrus.message.DefaultMessageQueue;
+import com.consol.citrus.message.SignalingMessageQueue;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.xml.BeanDefinitionParser;
@@ -25,7 +26,8 @@ import org.springframework.beans.factory.xml.ParserContext;
 import org.w3c.dom.Element;
 
 /**
- * Bean definition parser for special message queue configuration
+ * Bean definition parser for special message queue configuration. Creates a {@link SignalingMessageQueue}
+ * when signaling is enabled on the queue element.
  *
  * @author Christoph Deppisch
  */
@@ -33,11 +35,16 @@ public class DefaultMessageQueueParser implements BeanDefinitionParser {
 
     @Override
     public BeanDefinition parse(Element element, ParserContext parserContext) {
-        BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(DefaultMessageQueue.class);
+        BeanDefinitionBuilder builder;
+        if (Boolean.parseBoolean(element.getAttribute("signaling"))) {
+            builder = BeanDefinitionBuilder.rootBeanDefinition(SignalingMessageQueue.class);
+        } else {
+            builder = BeanDefinitionBuilder.rootBeanDefinition(DefaultMessageQueue.class);
 
-        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("logging"), "loggingEnabled");
+            BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("logging"), "loggingEnabled");
 
-        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("polling-interval"), "pollingInterval");
+            BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("polling-interval"), "pollingInterval");
+        }
 
         builder.addConstructorArgValue(element.getAttribute("id"));
 
@@ -16,18 +16,22 @@
 
 package com.consol.citrus.http.message;
 
+import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.util.StringUtils;
 
 import javax.servlet.http.Cookie;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -280,11 +284,36 @@ public class HttpMessage extends DefaultMessage {
      * @return The altered HttpMessage
      */
     public HttpMessage header(final String headerName, final Object headerValue) {
-        return (HttpMessage) super.setHeader(headerName, headerValue);
+        return setHeader(headerName, headerValue);
+    }
+
+    /**
+     * Decodes binary payloads to text using the content type charset.
+     *
+     * @param payload The payload to convert
+     * @param type The target payload type
+     * @return The converted payload
+     */
+    @Override
+    protected <T> T convertPayload(final Object payload, final Class<T> type) {
+        if (String.class.equals(type) && payload instanceof byte[]) {
+            return type.cast(new String((byte[]) payload, getCharset()));
+        }
+
+        return super.convertPayload(payload, type);
+    }
+
+    @Override
+    public HttpMessage setPayload(final Object payload) {
+        return (HttpMessage) super.setPayload(payload);
     }
 
     @Override
     public HttpMessage setHeader(final String headerName, final Object headerValue) {
+        if (HttpMessageHeaders.HTTP_CONTENT_TYPE.equals(headerName)) {
+            clearConvertedPayloads();
+        }
+
         return (HttpMessage) super.setHeader(headerName, headerValue);
     }
 
@@ -353,6 +382,29 @@ public class HttpMessage extends DefaultMessage {
         return null;
     }
 
+    /**
+     * Gets the charset of the Http content type header. Falls back to default Citrus file encoding when
+     * content type header is not set or does not specify a charset.
+     *
+     * @return the content charset
+     */
+    private Charset getCharset() {
+        final String contentType = getContentType();
+
+        if (StringUtils.hasText(contentType)) {
+            try {
+                final Charset charset = MediaType.parseMediaType(contentType).getCharset();
+                if (charset != null) {
+                    return charset;
+                }
+            } catch (final InvalidMediaTypeException e) {
+                // ignore and use default charset
+            }
+        }
+
+        return Charset.forName(CitrusSettings.CITRUS_FILE_ENCODING);
+    }
+
     /**
      * Gets the accept header.
      *
@@ -20,8 +20,8 @@ import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
@@ -36,19 +36,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
-import org.springframework.util.FileCopyUtils;
+import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.RequestMethod;
 
 /**
- * Caching wrapper saves request body data to cache when read.
+ * Caching wrapper saves request body data to cache when read. Cached body is kept in pooled memory chunks and written
+ * to a temporary file when exceeding the memory threshold. Cached body should be released once the request has been processed.
  */
 public class CachingHttpServletRequestWrapper extends HttpServletRequestWrapper {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(CachingHttpServletRequestWrapper.class);
 
     /** Cached request data initialized when first read from input stream */
-    private byte[] body;
+    private RequestBodyBuffer body;
+
+    /** Maximum number of body bytes cached in memory */
+    private final long memoryThreshold;
 
     /**
      * Default constructor using initial servlet request.
@@ -56,7 +60,17 @@ public class CachingHttpServletRequestWrapper extends HttpServletRequestWrapper
      */
     @SuppressWarnings("WeakerAccess")
     public CachingHttpServletRequestWrapper(final HttpServletRequest request) {
+        this(request, RequestBodyBuffer.MEMORY_THRESHOLD);
+    }
+
+    /**
+     * Constructor using initial servlet request and maximum number of body bytes cached in memory.
+     * @param request The request to wrap
+     * @param memoryThreshold The maximum body size kept in memory
+     */
+    public CachingHttpServletRequestWrapper(final HttpServletRequest request, final long memoryThreshold) {
         super(request);
+        this.memoryThreshold = memoryThreshold;
     }
 
     @Override
@@ -81,7 +95,7 @@ public class CachingHttpServletRequestWrapper extends HttpServletRequestWrapper
         if (RequestMethod.POST.name().equals(getMethod()) || RequestMethod.PUT.name().equals(getMethod())) {
             if (new MediaType(contentType.getType(), contentType.getSubtype()).equals(MediaType.APPLICATION_FORM_URLENCODED)) {
                 try {
-                    fillParams(params, new String(FileCopyUtils.copyToByteArray(getInputStream()), charset), charset);
+                    fillParams(params, StreamUtils.copyToString(getInputStream(), charset), charset);
                 } catch (IOException e) {
                     throw new CitrusRuntimeException("Failed to read request body", e);
                 }
@@ -97,12 +111,21 @@ public class CachingHttpServletRequestWrapper extends HttpServletRequestWrapper
     public ServletInputStream getInputStream() throws IOException {
         if (body == null) {
             if (super.getInputStream() != null) {
-                body = FileCopyUtils.copyToByteArray(super.getInputStream());
+                body = RequestBodyBuffer.read(super.getInputStream(), memoryThreshold);
             } else {
-                body = new byte[] {};
+                body = RequestBodyBuffer.empty();
             }
         }
-        return new RequestCachingInputStream();
+        return new RequestCachingInputStream(body.openStream());
+    }
+
+    /**
+     * Releases cached request body data. Body must not be read after it has been released.
+     */
+    public void release() {
+        if (body != null) {
+            body.release();
+        }
     }
 
     /**
@@ -143,16 +166,20 @@ public class CachingHttpServletRequestWrapper extends HttpServletRequestWrapper
     }
 
     /** Input stream uses cached request data */
-    private final class RequestCachingInputStream extends ServletInputStream {
-        private final ByteArrayInputStream is;
+    private static final class RequestCachingInputStream extends ServletInputStream {
+        private final InputStream is;
 
-        private RequestCachingInputStream() {
-            this.is = new ByteArrayInputStream(body);
+        private RequestCachingInputStream(InputStream is) {
+            this.is = is;
         }
 
         @Override
         public boolean isFinished() {
-            return is.available() == 0;
+            try {
+                return is.available() == 0;
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to check request body availability", e);
+            }
         }
 
         @Override
@@ -166,9 +193,29 @@ public class CachingHttpServletRequestWrapper extends HttpServletRequestWrapper
         }
 
         @Override
-        public int read() {
+        public int read() throws IOException {
             return is.read();
         }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return is.read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return is.skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return is.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            is.close();
+        }
     }
 
 }
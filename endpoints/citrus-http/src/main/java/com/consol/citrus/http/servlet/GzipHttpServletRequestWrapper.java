@@ -23,7 +23,9 @@ import javax.servlet.ServletInputStream;
 import javax.servlet.ServletRequest;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -35,6 +37,9 @@ import java.util.zip.GZIPInputStream;
  */
 public class GzipHttpServletRequestWrapper extends HttpServletRequestWrapper {
 
+    /** Buffer size used for reading compressed data and for buffering decompressed data */
+    private static final int BUFFER_SIZE = 8192;
+
     /**
      * Constructs a request adaptor wrapping the given request.
      *
@@ -51,10 +56,10 @@ public class GzipHttpServletRequestWrapper extends HttpServletRequestWrapper {
     }
 
     /**
-     * Gzip enabled servlet input stream.
+     * Gzip enabled servlet input stream. Decompressed data is buffered so single byte reads do not inflate byte by byte.
      */
-    private class GzipServletInputStream extends ServletInputStream {
-        private final GZIPInputStream gzipStream;
+    private static class GzipServletInputStream extends ServletInputStream {
+        private final InputStream gzipStream;
 
         /**
          * Default constructor using wrapped input stream.
@@ -63,7 +68,7 @@ public class GzipHttpServletRequestWrapper extends HttpServletRequestWrapper {
          */
         public GzipServletInputStream(ServletRequest request) throws IOException {
             super();
-            gzipStream = new GZIPInputStream(request.getInputStream());
+            gzipStream = new BufferedInputStream(new GZIPInputStream(request.getInputStream(), BUFFER_SIZE), BUFFER_SIZE);
         }
 
         @Override
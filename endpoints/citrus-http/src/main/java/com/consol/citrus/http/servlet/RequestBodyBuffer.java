@@ -0,0 +1,310 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.http.servlet;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Buffer holding a request body that can be read multiple times. Body data is kept in fixed size chunks taken from a shared pool
+ * so no single large array is allocated and grown. Bodies exceeding the memory threshold are written to a temporary file instead.
+ * Buffer must be released when the request has been processed in order to return the chunks to the pool and delete the temporary file.
+ * Temporary files live in a shared temporary directory that is removed on JVM shutdown in case a buffer has not been released.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+final class RequestBodyBuffer {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(RequestBodyBuffer.class);
+
+    /** Maximum number of body bytes kept in memory before the body is written to a temporary file */
+    public static final String MEMORY_THRESHOLD_PROPERTY = "citrus.http.request.body.memory.threshold";
+    public static final String MEMORY_THRESHOLD_ENV = "CITRUS_HTTP_REQUEST_BODY_MEMORY_THRESHOLD";
+    public static final long MEMORY_THRESHOLD = Long.parseLong(System.getProperty(MEMORY_THRESHOLD_PROPERTY, System.getenv(MEMORY_THRESHOLD_ENV) != null ?
+            System.getenv(MEMORY_THRESHOLD_ENV) : String.valueOf(1024 * 1024)));
+
+    /** Size of body chunks */
+    static final int CHUNK_SIZE = 8192;
+
+    /** Maximum number of pooled chunks */
+    private static final int MAX_POOLED_CHUNKS = 256;
+
+    /** Pooled chunks */
+    private static final Queue<byte[]> POOL = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger POOL_SIZE = new AtomicInteger();
+
+    /** Body chunks, all but the last one are completely filled */
+    private final List<byte[]> chunks = new ArrayList<>();
+
+    /** Temporary file holding the body when exceeding memory threshold */
+    private Path file;
+
+    /** Number of body bytes */
+    private long size;
+
+    /**
+     * Prevent direct instantiation.
+     */
+    private RequestBodyBuffer() {
+    }
+
+    /**
+     * Creates empty body buffer.
+     * @return
+     */
+    static RequestBodyBuffer empty() {
+        return new RequestBodyBuffer();
+    }
+
+    /**
+     * Reads given input stream into a new body buffer.
+     * @param in
+     * @param threshold maximum number of bytes kept in memory.
+     * @return
+     * @throws IOException
+     */
+    static RequestBodyBuffer read(InputStream in, long threshold) throws IOException {
+        RequestBodyBuffer buffer = new RequestBodyBuffer();
+
+        try {
+            while (true) {
+                byte[] chunk = acquire();
+                int filled = fill(in, chunk);
+                if (filled == 0) {
+                    release(chunk);
+                    return buffer;
+                }
+
+                buffer.chunks.add(chunk);
+                buffer.size += filled;
+
+                if (filled < CHUNK_SIZE) {
+                    return buffer;
+                }
+
+                if (buffer.size > threshold) {
+                    buffer.spill(in);
+                    return buffer;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            buffer.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens new input stream reading the body from the beginning.
+     * @return
+     * @throws IOException
+     */
+    InputStream openStream() throws IOException {
+        if (file != null) {
+            return new BufferedInputStream(Files.newInputStream(file), CHUNK_SIZE);
+        }
+
+        return new ChunkInputStream();
+    }
+
+    /**
+     * Gets the number of body bytes.
+     * @return
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Checks if the body has been written to a temporary file.
+     * @return
+     */
+    boolean isSpilled() {
+        return file != null;
+    }
+
+    /**
+     * Returns chunks to the pool and deletes the temporary file. Buffer is empty afterwards.
+     */
+    void release() {
+        chunks.forEach(RequestBodyBuffer::release);
+        chunks.clear();
+        size = 0L;
+
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOG.warn("Failed to delete request body file: " + file, e);
+            }
+            file = null;
+        }
+    }
+
+    /**
+     * Writes buffered chunks and the remaining input stream to a temporary file.
+     * @param in
+     * @throws IOException
+     */
+    private void spill(InputStream in) throws IOException {
+        file = Files.createTempFile(SpillDirectory.get(), "citrus-request-body-", ".tmp");
+
+        try (OutputStream out = Files.newOutputStream(file)) {
+            for (byte[] chunk : chunks) {
+                out.write(chunk);
+            }
+
+            byte[] transfer = chunks.get(0);
+            int read;
+            while ((read = in.read(transfer)) != -1) {
+                out.write(transfer, 0, read);
+                size += read;
+            }
+        }
+
+        chunks.forEach(RequestBodyBuffer::release);
+        chunks.clear();
+    }
+
+    /**
+     * Fills given chunk with data from input stream.
+     * @param in
+     * @param chunk
+     * @return number of bytes read, less than chunk size only when stream has ended.
+     * @throws IOException
+     */
+    private static int fill(InputStream in, byte[] chunk) throws IOException {
+        int filled = 0;
+        while (filled < chunk.length) {
+            int read = in.read(chunk, filled, chunk.length - filled);
+            if (read == -1) {
+                break;
+            }
+            filled += read;
+        }
+
+        return filled;
+    }
+
+    private static byte[] acquire() {
+        byte[] chunk = POOL.poll();
+        if (chunk != null) {
+            POOL_SIZE.decrementAndGet();
+            return chunk;
+        }
+
+        return new byte[CHUNK_SIZE];
+    }
+
+    private static void release(byte[] chunk) {
+        if (POOL_SIZE.incrementAndGet() <= MAX_POOLED_CHUNKS) {
+            POOL.offer(chunk);
+        } else {
+            POOL_SIZE.decrementAndGet();
+        }
+    }
+
+    /**
+     * Lazily creates the temporary directory holding spilled request bodies. Directory is deleted with all remaining files
+     * on JVM shutdown.
+     */
+    private static final class SpillDirectory {
+        private static Path directory;
+
+        private static synchronized Path get() throws IOException {
+            if (directory == null || !Files.isDirectory(directory)) {
+                Path created = Files.createTempDirectory("citrus-request-body-");
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        FileSystemUtils.deleteRecursively(created);
+                    } catch (IOException e) {
+                        LOG.warn("Failed to delete request body directory: " + created, e);
+                    }
+                }, "citrus-request-body-cleanup"));
+                directory = created;
+            }
+
+            return directory;
+        }
+    }
+
+    /**
+     * Input stream reading body chunks.
+     */
+    private final class ChunkInputStream extends InputStream {
+        private long position;
+
+        @Override
+        public int read() {
+            if (position >= size) {
+                return -1;
+            }
+
+            int b = chunks.get((int) (position / CHUNK_SIZE))[(int) (position % CHUNK_SIZE)] & 0xFF;
+            position++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+
+            if (position >= size) {
+                return -1;
+            }
+
+            int total = 0;
+            while (total < len && position < size) {
+                int offset = (int) (position % CHUNK_SIZE);
+                int count = (int) Math.min(Math.min(len - total, CHUNK_SIZE - offset), size - position);
+                System.arraycopy(chunks.get((int) (position / CHUNK_SIZE)), offset, b, off + total, count);
+                total += count;
+                position += count;
+            }
+
+            return total;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(Math.min(n, size - position), 0L);
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(size - position, Integer.MAX_VALUE);
+        }
+    }
+}
@@ -29,6 +29,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * 
  * For logging and tracing reasons we introduce a servlet request wrapper caching 
  * the request data.
+ *
+ * Cached request data is released once the filter chain has been processed. In case the request has been put into
+ * asynchronous mode the data is released when the asynchronous processing has finished.
  * 
  * @author Christoph Deppisch
  * @since 1.2
@@ -38,7 +41,48 @@ public class RequestCachingServletFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
             FilterChain filterChain) throws ServletException, IOException {
-        filterChain.doFilter(new CachingHttpServletRequestWrapper(request), response);
+        CachingHttpServletRequestWrapper cachingRequest = new CachingHttpServletRequestWrapper(request);
+        boolean async = false;
+        try {
+            filterChain.doFilter(cachingRequest, response);
+
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(cachingRequest));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                cachingRequest.release();
+            }
+        }
+    }
+
+    /**
+     * Async listener releases cached request data when asynchronous request processing has finished.
+     */
+    private static class ReleasingAsyncListener implements AsyncListener {
+        private final CachingHttpServletRequestWrapper cachingRequest;
+
+        ReleasingAsyncListener(CachingHttpServletRequestWrapper cachingRequest) {
+            this.cachingRequest = cachingRequest;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            cachingRequest.release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            cachingRequest.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
     }
-    
 }
@@ -22,12 +22,14 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import javax.servlet.http.Cookie;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Map;
 
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class HttpMessageTest {
@@ -290,4 +292,25 @@ public class HttpMessageTest {
         //THEN
         assertEquals(resultMessage.getHeader(EndpointUriResolver.QUERY_PARAM_HEADER_NAME), expectedHeaderValue);
     }
+
+    @Test
+    public void testBinaryPayloadAsText() {
+
+        //GIVEN
+        httpMessage.setPayload("<TestMessage>Hello</TestMessage>".getBytes(StandardCharsets.UTF_8));
+
+        //WHEN
+        final String payload = httpMessage.getPayload(String.class);
+
+        //THEN
+        assertEquals(payload, "<TestMessage>Hello</TestMessage>");
+        assertSame(httpMessage.getPayload(String.class), payload);
+
+        httpMessage.setPayload("<TestMessage>Bye</TestMessage>".getBytes(StandardCharsets.UTF_8));
+        assertEquals(httpMessage.getPayload(String.class), "<TestMessage>Bye</TestMessage>");
+
+        httpMessage.contentType("text/plain;charset=UTF-16");
+        httpMessage.setPayload("Grüße".getBytes(StandardCharsets.UTF_16));
+        assertEquals(httpMessage.getPayload(String.class), "Grüße");
+    }
 }
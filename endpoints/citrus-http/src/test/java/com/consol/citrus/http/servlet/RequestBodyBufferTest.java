@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.http.servlet;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.springframework.util.StreamUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class RequestBodyBufferTest {
+
+    @Test
+    public void testReadInMemory() throws IOException {
+        byte[] body = randomBytes(3 * RequestBodyBuffer.CHUNK_SIZE + 17);
+
+        RequestBodyBuffer buffer = RequestBodyBuffer.read(new ByteArrayInputStream(body), RequestBodyBuffer.MEMORY_THRESHOLD);
+        Assert.assertFalse(buffer.isSpilled());
+        Assert.assertEquals(buffer.size(), body.length);
+
+        Assert.assertEquals(readAll(buffer), body);
+        Assert.assertEquals(readAll(buffer), body);
+
+        try (InputStream in = buffer.openStream()) {
+            Assert.assertEquals(in.available(), body.length);
+            Assert.assertEquals(in.skip(RequestBodyBuffer.CHUNK_SIZE + 1), RequestBodyBuffer.CHUNK_SIZE + 1);
+            Assert.assertEquals(in.read(), body[RequestBodyBuffer.CHUNK_SIZE + 1] & 0xFF);
+        }
+
+        buffer.release();
+        Assert.assertEquals(buffer.size(), 0L);
+    }
+
+    @Test
+    public void testReadSpilled() throws IOException {
+        byte[] body = randomBytes(5 * RequestBodyBuffer.CHUNK_SIZE);
+
+        RequestBodyBuffer buffer = RequestBodyBuffer.read(new ByteArrayInputStream(body), RequestBodyBuffer.CHUNK_SIZE);
+        Assert.assertTrue(buffer.isSpilled());
+        Assert.assertEquals(buffer.size(), body.length);
+
+        Assert.assertEquals(readAll(buffer), body);
+        Assert.assertEquals(readAll(buffer), body);
+
+        buffer.release();
+        Assert.assertFalse(buffer.isSpilled());
+        Assert.assertEquals(buffer.size(), 0L);
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        RequestBodyBuffer buffer = RequestBodyBuffer.read(new ByteArrayInputStream(new byte[0]), RequestBodyBuffer.MEMORY_THRESHOLD);
+        Assert.assertEquals(buffer.size(), 0L);
+        Assert.assertEquals(readAll(buffer), new byte[0]);
+        Assert.assertEquals(readAll(RequestBodyBuffer.empty()), new byte[0]);
+    }
+
+    private byte[] readAll(RequestBodyBuffer buffer) throws IOException {
+        try (InputStream in = buffer.openStream()) {
+            return StreamUtils.copyToByteArray(in);
+        }
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
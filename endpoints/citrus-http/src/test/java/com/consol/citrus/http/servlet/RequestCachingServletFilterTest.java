@@ -31,6 +31,7 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
@@ -111,4 +112,25 @@ public class RequestCachingServletFilterTest {
         filterChain.doFilter(request, response);
     }
 
+    @Test
+    public void testDoFilterAsync() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(HttpMethod.POST.name(), "http://localhost:8080/cache");
+        request.setAsyncSupported(true);
+        request.setContent("Some content".getBytes());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServletRequest[] cachingRequest = new HttpServletRequest[1];
+        new RequestCachingServletFilter().doFilter(request, response, (filterRequest, filterResponse) -> {
+            cachingRequest[0] = (HttpServletRequest) filterRequest;
+            filterRequest.startAsync();
+        });
+
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        Assert.assertEquals(asyncContext.getListeners().size(), 1L);
+
+        // cached body is still available for asynchronous processing
+        Assert.assertEquals(StreamUtils.copyToString(cachingRequest[0].getInputStream(), StandardCharsets.UTF_8), "Some content");
+        asyncContext.complete();
+    }
+
 }
@@ -104,6 +104,12 @@ public @interface JmsSyncEndpointConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Pooled sessions and shared reply destination.
+     * @return
+     */
+    boolean pooled() default false;
+
     /**
      * Message correlator.
      * @return
@@ -111,6 +111,7 @@ public class JmsSyncEndpointConfigParser implements AnnotationConfigParser<JmsSy
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.pooled(annotation.pooled());
 
         return builder.initialize().build();
     }
@@ -160,6 +160,16 @@ public class JmsSyncEndpointBuilder extends AbstractEndpointBuilder<JmsSyncEndpo
         return this;
     }
 
+    /**
+     * Enables pooled sessions and shared reply destination.
+     * @param pooled
+     * @return
+     */
+    public JmsSyncEndpointBuilder pooled(boolean pooled) {
+        endpoint.getEndpointConfiguration().setPooled(pooled);
+        return this;
+    }
+
     /**
      * Sets the message correlator.
      * @param correlator
@@ -43,6 +43,14 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500L;
 
+    /**
+     * Pooled mode reuses sessions, message producers and a shared reply destination for all requests. Reply messages are
+     * correlated by JMS correlation id so the replying party must set the reply JMSCorrelationID to the JMSMessageID of the
+     * request. Citrus server endpoints need to set the correlation id header explicitly on the reply message. Pooled mode
+     * always uses a temporary reply destination and is not used when a reply destination is set.
+     */
+    private boolean pooled = false;
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -107,4 +115,19 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
         this.pollingInterval = pollingInterval;
     }
 
+    /**
+     * Gets the pooled.
+     * @return the pooled
+     */
+    public boolean isPooled() {
+        return pooled;
+    }
+
+    /**
+     * Sets the pooled.
+     * @param pooled the pooled to set
+     */
+    public void setPooled(boolean pooled) {
+        this.pooled = pooled;
+    }
 }
@@ -20,6 +20,7 @@ import javax.jms.Connection;
 import javax.jms.Destination;
 import javax.jms.JMSException;
 import javax.jms.MessageConsumer;
+import javax.jms.MessageListener;
 import javax.jms.MessageProducer;
 import javax.jms.Queue;
 import javax.jms.QueueConnection;
@@ -31,7 +32,16 @@ import javax.jms.Topic;
 import javax.jms.TopicConnection;
 import javax.jms.TopicConnectionFactory;
 import javax.jms.TopicSession;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -40,6 +50,7 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageHeaders;
 import com.consol.citrus.message.correlation.CorrelationManager;
 import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.SignalingCorrelationManager;
 import com.consol.citrus.messaging.ReplyConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +61,19 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
+ * Synchronous JMS producer sends request messages and waits for the reply message on a reply destination. By default each
+ * send operation creates its own message producer and reply consumer and uses a new temporary reply destination
+ * unless a reply destination is set on the endpoint.
+ *
+ * In pooled mode sessions and message producers are kept open and reused by subsequent send operations. All requests share
+ * a single reply destination with a single message listener that hands over reply messages to the waiting send operation
+ * by the reply JMS correlation id. Concurrent send operations (e.g. in parallel containers) each use their own session
+ * from the pool. Replies must therefore carry the JMS message id of the request as JMS correlation id. Replies with unknown
+ * correlation id (e.g. late replies after timeout) are logged and dropped. The shared reply destination is always a temporary
+ * destination owned by this producer. When a reply destination is set on the endpoint pooled mode is not used, as a shared
+ * consumer on that destination would also receive replies meant for other clients. The producer then falls back to the
+ * default reply consumer that selects the reply by JMS correlation id.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
@@ -67,6 +91,23 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     /** Endpoint configuration */
     private final JmsSyncEndpointConfiguration endpointConfiguration;
 
+    /** Use pooled sessions and shared temporary reply destination */
+    private final boolean pooled;
+
+    /** Idle sessions and message producers in pooled mode */
+    private final ConcurrentLinkedQueue<PooledSession> sessionPool = new ConcurrentLinkedQueue<>();
+
+    /** Shared reply destination, session and consumer in pooled mode */
+    private Destination sharedReplyDestination;
+    private Session replySession;
+    private MessageConsumer replyConsumer;
+
+    /** Pending reply messages by JMS correlation id in pooled mode */
+    private final Map<String, CompletableFuture<javax.jms.Message>> replies = new ConcurrentHashMap<>();
+
+    /** Send operations register their pending reply under the read lock, reply listener looks up replies under the write lock */
+    private final ReadWriteLock repliesLock = new ReentrantReadWriteLock();
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JmsSyncProducer.class);
 
@@ -79,7 +120,18 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         super(name, endpointConfiguration);
         this.endpointConfiguration = endpointConfiguration;
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        boolean hasReplyDestination = endpointConfiguration.getReplyDestination() != null || StringUtils.hasText(endpointConfiguration.getReplyDestinationName());
+        if (endpointConfiguration.isPooled() && hasReplyDestination) {
+            log.warn("Pooled mode is not supported with reply destination set on endpoint '{}' - " +
+                    "using reply consumer with JMS correlation id selector instead", name);
+        }
+        this.pooled = endpointConfiguration.isPooled() && !hasReplyDestination;
+
+        if (pooled) {
+            this.correlationManager = new SignalingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        } else {
+            this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        }
     }
 
     @Override
@@ -92,6 +144,11 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
         context.onOutboundMessage(message);
 
+        if (pooled && message.getHeader(org.springframework.messaging.MessageHeaders.REPLY_CHANNEL) == null) {
+            sendPooled(message, correlationKeyName, correlationKey, context);
+            return;
+        }
+
         MessageProducer messageProducer = null;
         MessageConsumer messageConsumer = null;
         Destination replyToDestination = null;
@@ -103,30 +160,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
             javax.jms.Message jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, session, endpointConfiguration, context);
             endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
 
-            Destination destination;
-            if (endpointConfiguration.getDestination() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getDestination()) + "'");
-                }
-
-                destination = endpointConfiguration.getDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
-                if (endpointConfiguration.getDestinationNameResolver() != null) {
-                    destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationNameResolver().resolveEndpointUri(message, endpointConfiguration.getDestinationName())));
-                } else {
-                    destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()));
-                }
-            } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getJmsTemplate().getDefaultDestination()) + "'");
-                }
-
-                destination = endpointConfiguration.getJmsTemplate().getDefaultDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
-                destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()));
-            } else {
-                throw new CitrusRuntimeException("Unable to send message - JMS destination not set");
-            }
+            Destination destination = getDestination(message, session, context);
 
             messageProducer = session.createProducer(destination);
 
@@ -168,6 +202,121 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         }
     }
 
+    /**
+     * Sends message using a pooled session and message producer. Waits for the reply message to arrive on the
+     * shared reply destination.
+     * @param message
+     * @param correlationKeyName
+     * @param correlationKey
+     * @param context
+     */
+    private void sendPooled(Message message, String correlationKeyName, String correlationKey, TestContext context) {
+        PooledSession pooledSession = null;
+        String messageId = null;
+
+        try {
+            createConnection();
+            pooledSession = borrowSession();
+
+            javax.jms.Message jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, pooledSession.session, endpointConfiguration, context);
+            endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
+
+            Destination destination = getDestination(message, pooledSession.session, context);
+            Destination replyToDestination = getSharedReplyDestination();
+            context.setVariable(MessageHeaders.MESSAGE_REPLY_TO + "_" + correlationKeyName, replyToDestination);
+
+            jmsRequest.setJMSReplyTo(replyToDestination);
+
+            // message id is known only after the message has been sent - keep the reply listener from looking up
+            // the reply before it has been registered
+            CompletableFuture<javax.jms.Message> reply = new CompletableFuture<>();
+            repliesLock.readLock().lock();
+            try {
+                pooledSession.producer.send(destination, jmsRequest);
+                messageId = jmsRequest.getJMSMessageID();
+                replies.put(messageId, reply);
+            } finally {
+                repliesLock.readLock().unlock();
+            }
+
+            log.info("Message was sent to JMS destination: '{}'", endpointConfiguration.getDestinationName(destination));
+            log.debug("Receiving reply message on destination: '{}'", replyToDestination);
+
+            javax.jms.Message jmsReplyMessage;
+            try {
+                jmsReplyMessage = (endpointConfiguration.getTimeout() >= 0) ? reply.get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS) : reply.get();
+            } catch (TimeoutException e) {
+                throw new ReplyMessageTimeoutException(endpointConfiguration.getTimeout(), Objects.toString(replyToDestination));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for reply message", e);
+            } catch (ExecutionException e) {
+                throw new CitrusRuntimeException("Failed to receive reply message", e.getCause());
+            }
+
+            Message responseMessage = endpointConfiguration.getMessageConverter().convertInbound(jmsReplyMessage, endpointConfiguration, context);
+
+            log.info("Received reply message on JMS destination: '{}'", replyToDestination);
+
+            context.onInboundMessage(responseMessage);
+
+            correlationManager.store(correlationKey, responseMessage);
+        } catch (JMSException e) {
+            JmsUtils.closeMessageProducer(pooledSession != null ? pooledSession.producer : null);
+            JmsUtils.closeSession(pooledSession != null ? pooledSession.session : null);
+            pooledSession = null;
+            throw new CitrusRuntimeException(e);
+        } finally {
+            if (messageId != null) {
+                replies.remove(messageId);
+            }
+
+            if (pooledSession != null) {
+                sessionPool.offer(pooledSession);
+            }
+        }
+    }
+
+    /**
+     * Gets idle session from pool or creates a new session with unbound message producer.
+     * @return
+     * @throws JMSException
+     */
+    private PooledSession borrowSession() throws JMSException {
+        PooledSession pooledSession = sessionPool.poll();
+        if (pooledSession == null) {
+            Session pooled = newSession(connection);
+            pooledSession = new PooledSession(pooled, pooled.createProducer(null));
+        }
+
+        return pooledSession;
+    }
+
+    /**
+     * Gets the shared reply destination used in pooled mode. Creates the reply destination and the reply message listener
+     * on first access. Shared reply destination is a temporary destination that lives as long as this producer.
+     * @return
+     * @throws JMSException
+     */
+    private synchronized Destination getSharedReplyDestination() throws JMSException {
+        if (sharedReplyDestination == null) {
+            replySession = newSession(connection);
+
+            Destination replyToDestination;
+            if (endpointConfiguration.isPubSubDomain() && replySession instanceof TopicSession) {
+                replyToDestination = replySession.createTemporaryTopic();
+            } else {
+                replyToDestination = replySession.createTemporaryQueue();
+            }
+
+            replyConsumer = replySession.createConsumer(replyToDestination);
+            replyConsumer.setMessageListener(new ReplyMessageListener());
+            sharedReplyDestination = replyToDestination;
+        }
+
+        return sharedReplyDestination;
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -208,7 +357,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      * @return connection
      * @throws JMSException
      */
-    protected void createConnection() throws JMSException {
+    protected synchronized void createConnection() throws JMSException {
         if (connection == null) {
             if (!endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof QueueConnectionFactory) {
                 connection = ((QueueConnectionFactory) endpointConfiguration.getConnectionFactory()).createQueueConnection();
@@ -234,16 +383,26 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      */
     protected void createSession(Connection connection) throws JMSException {
         if (session == null) {
-            if (!endpointConfiguration.isPubSubDomain() && connection instanceof QueueConnection) {
-                session = ((QueueConnection) connection).createQueueSession(false, Session.AUTO_ACKNOWLEDGE);
-            } else if (endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof TopicConnectionFactory) {
-                session = ((TopicConnection) connection).createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
-            } else {
-                log.warn("Not able to create a session with connection factory '" + endpointConfiguration.getConnectionFactory() + "'" +
-                        " when using setting 'publish-subscribe-domain' (=" + endpointConfiguration.isPubSubDomain() + ")");
+            session = newSession(connection);
+        }
+    }
 
-                session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-            }
+    /**
+     * Creates new JMS session on given connection.
+     * @param connection to use for session creation.
+     * @return session.
+     * @throws JMSException
+     */
+    private Session newSession(Connection connection) throws JMSException {
+        if (!endpointConfiguration.isPubSubDomain() && connection instanceof QueueConnection) {
+            return ((QueueConnection) connection).createQueueSession(false, Session.AUTO_ACKNOWLEDGE);
+        } else if (endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof TopicConnectionFactory) {
+            return ((TopicConnection) connection).createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
+        } else {
+            log.warn("Not able to create a session with connection factory '" + endpointConfiguration.getConnectionFactory() + "'" +
+                    " when using setting 'publish-subscribe-domain' (=" + endpointConfiguration.isPubSubDomain() + ")");
+
+            return connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
         }
     }
 
@@ -317,13 +476,48 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         }
     }
 
+    /**
+     * Gets the request destination from endpoint configuration or JMS template settings.
+     * @param message
+     * @param session
+     * @param context
+     * @return
+     * @throws JMSException
+     */
+    private Destination getDestination(Message message, Session session, TestContext context) throws JMSException {
+        if (endpointConfiguration.getDestination() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getDestination()) + "'");
+            }
+
+            return endpointConfiguration.getDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            if (endpointConfiguration.getDestinationNameResolver() != null) {
+                return resolveDestination(session, context.replaceDynamicContentInString(endpointConfiguration.getDestinationNameResolver().resolveEndpointUri(message, endpointConfiguration.getDestinationName())));
+            } else {
+                return resolveDestination(session, context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()));
+            }
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getJmsTemplate().getDefaultDestination()) + "'");
+            }
+
+            return endpointConfiguration.getJmsTemplate().getDefaultDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            return resolveDestination(session, context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()));
+        } else {
+            throw new CitrusRuntimeException("Unable to send message - JMS destination not set");
+        }
+    }
+
     /**
      * Resolve destination from given name.
+     * @param session
      * @param destinationName
      * @return
      * @throws JMSException
      */
-    private Destination resolveDestination(String destinationName) throws JMSException {
+    private Destination resolveDestination(Session session, String destinationName) throws JMSException {
         if (log.isDebugEnabled()) {
             log.debug("Sending JMS message to destination: '" + destinationName + "'");
         }
@@ -351,6 +545,21 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     public void destroy() {
         JmsUtils.closeSession(session);
 
+        PooledSession pooledSession;
+        while ((pooledSession = sessionPool.poll()) != null) {
+            JmsUtils.closeMessageProducer(pooledSession.producer);
+            JmsUtils.closeSession(pooledSession.session);
+        }
+
+        synchronized (this) {
+            if (sharedReplyDestination != null) {
+                JmsUtils.closeMessageConsumer(replyConsumer);
+                deleteTemporaryDestination(sharedReplyDestination);
+                JmsUtils.closeSession(replySession);
+                sharedReplyDestination = null;
+            }
+        }
+
         if (connection != null) {
             ConnectionFactoryUtils.releaseConnection(connection, endpointConfiguration.getConnectionFactory(), true);
         }
@@ -371,4 +580,51 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     public void setCorrelationManager(CorrelationManager<Message> correlationManager) {
         this.correlationManager = correlationManager;
     }
+
+    /**
+     * Message listener on shared reply destination completes the pending reply by JMS correlation id.
+     */
+    private class ReplyMessageListener implements MessageListener {
+        @Override
+        public void onMessage(javax.jms.Message jmsMessage) {
+            try {
+                String correlationId = jmsMessage.getJMSCorrelationID();
+                if (!StringUtils.hasText(correlationId)) {
+                    log.warn("Ignoring reply message without JMS correlation id on shared reply destination: '{}'", sharedReplyDestination);
+                    return;
+                }
+
+                CompletableFuture<javax.jms.Message> reply;
+                repliesLock.writeLock().lock();
+                try {
+                    reply = replies.get(correlationId);
+                } finally {
+                    repliesLock.writeLock().unlock();
+                }
+
+                if (reply == null) {
+                    log.warn("Ignoring reply message with unknown JMS correlation id '{}' on shared reply destination: '{}' - " +
+                            "no pending request or request has already timed out", correlationId, sharedReplyDestination);
+                    return;
+                }
+
+                reply.complete(jmsMessage);
+            } catch (JMSException e) {
+                log.error("Failed to read JMS correlation id of reply message", e);
+            }
+        }
+    }
+
+    /**
+     * Session with unbound message producer kept open in pooled mode.
+     */
+    private static class PooledSession {
+        private final Session session;
+        private final MessageProducer producer;
+
+        PooledSession(Session session, MessageProducer producer) {
+            this.session = session;
+            this.producer = producer;
+        }
+    }
 }
@@ -45,6 +45,7 @@ public class JmsSyncEndpointParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertNull(jmsSyncEndpoint.getEndpointConfiguration().getDestination());
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
+        Assert.assertFalse(jmsSyncEndpoint.getEndpointConfiguration().isPooled());
 
         // 2nd message receiver
         jmsSyncEndpoint = endpoints.get("jmsSyncEndpoint2");
@@ -114,6 +115,7 @@ public class JmsSyncEndpointParserTest extends AbstractBeanDefinitionParserTest
         jmsSyncEndpoint = endpoints.get("jmsSyncEndpoint4");
         Assert.assertNotNull(jmsSyncEndpoint.getEndpointConfiguration().getPollingInterval());
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertTrue(jmsSyncEndpoint.getEndpointConfiguration().isPooled());
         Assert.assertNotNull(jmsSyncEndpoint.getActor());
         Assert.assertEquals(jmsSyncEndpoint.getActor(), beanDefinitionContext.getBean("testActor", TestActor.class));
     }
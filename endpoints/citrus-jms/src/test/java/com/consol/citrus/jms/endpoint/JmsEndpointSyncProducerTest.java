@@ -29,6 +29,8 @@ import org.testng.annotations.Test;
 import javax.jms.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.mockito.Mockito.*;
 
@@ -151,6 +153,101 @@ public class JmsEndpointSyncProducerTest extends AbstractTestNGUnitTest {
         verify(tempReplyQueue).delete();
     }
 
+    @Test
+    public void testSendMessagePooled() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setPooled(true);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()) {
+            @Override
+            public String getJMSCorrelationID() {
+                return "123456789";
+            }
+        };
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+
+        AtomicReference<MessageListener> replyListener = new AtomicReference<>();
+        doAnswer(invocation -> {
+            replyListener.set(invocation.getArgument(0));
+            return null;
+        }).when(messageConsumer).setMessageListener(any(MessageListener.class));
+
+        when(session.createProducer(null)).thenReturn(messageProducer);
+        doAnswer(invocation -> {
+            // reply listener is called by the JMS provider on another thread
+            CompletableFuture.runAsync(() -> replyListener.get().onMessage(jmsResponse));
+            return null;
+        }).when(messageProducer).send(eq(destination), any(TextMessage.class));
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenReturn(
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()));
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        producer.send(message, context);
+        Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+
+        producer.send(message, context);
+        Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+
+        verify(connection).start();
+        verify(connection, times(2)).createSession(anyBoolean(), anyInt());
+        verify(session).createTemporaryQueue();
+        verify(session).createProducer(null);
+        verify(messageProducer, times(2)).send(eq(destination), any(TextMessage.class));
+        verify(tempReplyQueue, never()).delete();
+
+        endpoint.destroy();
+        verify(tempReplyQueue).delete();
+        verify(messageProducer).close();
+    }
+
+    @Test
+    public void testSendMessagePooledWithReplyDestination() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setReplyDestination(replyDestinationQueue);
+        endpoint.getEndpointConfiguration().setPooled(true);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        Map<String, Object> responseHeaders = new HashMap<String, Object>();
+        TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", responseHeaders);
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createConsumer(replyDestinationQueue, "JMSCorrelationID = '123456789'")).thenReturn(messageConsumer);
+        when(messageConsumer.receive(anyLong())).thenReturn(jmsResponse);
+
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenReturn(
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()));
+
+        endpoint.createProducer().send(message, context);
+
+        verify(messageProducer).send((TextMessage)any());
+        verify(session, never()).createConsumer(replyDestinationQueue);
+        verify(messageConsumer, never()).setMessageListener(any(MessageListener.class));
+        verify(connection).start();
+    }
+
     @Test
     @SuppressWarnings("rawtypes")
     public void testSendMessageWithReplyHandler() throws JMSException {
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.endpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.jms.message.JmsMessage;
+import com.consol.citrus.jms.message.JmsMessageHeaders;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.command.ActiveMQQueue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Pooled synchronous producer talking to a Citrus server endpoint on an embedded broker.
+ *
+ * @author Christoph Deppisch
+ */
+public class JmsSyncPooledEndpointTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testPooledRequestReply() throws Exception {
+        ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory("vm://pooled?broker.persistent=false&broker.useJmx=false");
+        ActiveMQQueue destination = new ActiveMQQueue("pooled.request");
+
+        JmsSyncEndpoint client = new JmsSyncEndpoint();
+        client.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        client.getEndpointConfiguration().setDestination(destination);
+        client.getEndpointConfiguration().setPooled(true);
+        client.getEndpointConfiguration().setTimeout(5000L);
+
+        JmsSyncEndpoint server = new JmsSyncEndpoint();
+        server.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        server.getEndpointConfiguration().setDestination(destination);
+        server.getEndpointConfiguration().setTimeout(5000L);
+
+        try {
+            CompletableFuture<Void> serverResponses = CompletableFuture.runAsync(() -> {
+                TestContext serverContext = createTestContext();
+                for (int i = 0; i < 3; i++) {
+                    Message request = server.createConsumer().receive(serverContext, 5000L);
+
+                    // pooled client correlates replies by JMS correlation id
+                    server.createProducer().send(new JmsMessage("Reply to " + request.getPayload(String.class))
+                            .correlationId(request.getHeader(JmsMessageHeaders.MESSAGE_ID).toString()), serverContext);
+                }
+            });
+
+            List<String> replies = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                client.createProducer().send(new DefaultMessage("Request " + i), context);
+                replies.add(client.createConsumer().receive(context, 5000L).getPayload(String.class));
+            }
+
+            serverResponses.get(5000L, TimeUnit.MILLISECONDS);
+            Assert.assertEquals(replies.size(), 3);
+            for (int i = 0; i < 3; i++) {
+                Assert.assertEquals(replies.get(i), "Reply to Request " + i);
+            }
+        } finally {
+            client.destroy();
+            server.destroy();
+        }
+    }
+}
@@ -73,6 +73,36 @@ public @interface KafkaEndpointConfig {
      */
     int partition() default 0;
 
+    /**
+     * Consumer batch mode.
+     * @return
+     */
+    boolean batchMode() default false;
+
+    /**
+     * Max records per poll in batch mode.
+     * @return
+     */
+    int maxPollRecords() default 500;
+
+    /**
+     * Consumer buffer size.
+     * @return
+     */
+    int bufferSize() default 10000;
+
+    /**
+     * Producer async send mode.
+     * @return
+     */
+    boolean asyncSend() default false;
+
+    /**
+     * Max in flight records in async send mode.
+     * @return
+     */
+    int maxInFlight() default 1000;
+
     /**
      * Message converter reference.
      * @return
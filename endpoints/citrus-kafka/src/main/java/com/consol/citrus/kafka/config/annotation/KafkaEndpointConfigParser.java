@@ -52,6 +52,13 @@ public class KafkaEndpointConfigParser implements AnnotationConfigParser<KafkaEn
         builder.autoCommitInterval(annotation.autoCommitInterval());
         builder.offsetReset(annotation.offsetReset());
 
+        builder.batchMode(annotation.batchMode());
+        builder.maxPollRecords(annotation.maxPollRecords());
+        builder.bufferSize(annotation.bufferSize());
+
+        builder.asyncSend(annotation.asyncSend());
+        builder.maxInFlight(annotation.maxInFlight());
+
         if (StringUtils.hasText(annotation.clientId())) {
             builder.clientId(annotation.clientId());
         }
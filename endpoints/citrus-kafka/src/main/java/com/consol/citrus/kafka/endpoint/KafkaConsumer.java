@@ -18,29 +18,51 @@ package com.consol.citrus.kafka.endpoint;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.kafka.message.KafkaMessageHeaders;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.messaging.AbstractMessageConsumer;
+import com.consol.citrus.message.MessageSelector;
+import com.consol.citrus.message.SignalingBuffer;
+import com.consol.citrus.message.selector.DelegatingMessageSelector;
+import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
+ * Kafka consumer receives records from a topic. By default each receive operation polls a single record from the topic.
+ *
+ * In batch mode the consumer polls multiple records at once and buffers them in memory. Receive operations are served from
+ * the buffer and only poll the topic in case no matching record is buffered. Buffered records are kept as raw consumer records
+ * and converted with the test context of the receive operation that evaluates them, so message selectors are evaluated on
+ * messages built with the receiving test's variables and message listeners. The buffer never holds more than the configured
+ * buffer size; records beyond that capacity are fetched again with a later poll.
+ *
+ * Without auto commit offsets are committed asynchronously once a record has been handed out to a receive operation. The
+ * committed offset of a partition never passes a record that is still buffered, so buffered records are delivered again
+ * (at least once) after a restart.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
-public class KafkaConsumer extends AbstractMessageConsumer {
+public class KafkaConsumer extends AbstractSelectiveMessageConsumer {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(KafkaConsumer.class);
@@ -51,6 +73,16 @@ public class KafkaConsumer extends AbstractMessageConsumer {
     /** Kafka consumer */
     private org.apache.kafka.clients.consumer.KafkaConsumer<Object, Object> consumer;
 
+    /** Buffer of received records not consumed yet */
+    private final SignalingBuffer<ConsumerRecord<Object, Object>> buffer = new SignalingBuffer<>();
+
+    /** Offsets of buffered records per topic partition */
+    private final Map<TopicPartition, TreeSet<Long>> pendingOffsets = new HashMap<>();
+
+    /** Next offset to fetch and last committed offset per topic partition */
+    private final Map<TopicPartition, Long> fetchedOffsets = new HashMap<>();
+    private final Map<TopicPartition, Long> committedOffsets = new HashMap<>();
+
     /**
      * Default constructor using endpoint.
      * @param name
@@ -63,7 +95,7 @@ public class KafkaConsumer extends AbstractMessageConsumer {
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
+    public Message receive(String selector, TestContext context, long timeout) {
         String topic = context.replaceDynamicContentInString(Optional.ofNullable(endpointConfiguration.getTopic())
                                                                      .orElseThrow(() -> new CitrusRuntimeException("Missing Kafka topic to receive messages from - add topic to endpoint configuration")));
 
@@ -75,6 +107,10 @@ public class KafkaConsumer extends AbstractMessageConsumer {
             consumer.subscribe(Arrays.asList(StringUtils.commaDelimitedListToStringArray(topic)));
         }
 
+        if (endpointConfiguration.isBatchMode() || StringUtils.hasText(selector) || buffer.getSize() > 0) {
+            return receiveBuffered(topic, selector, context, timeout);
+        }
+
         ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofMillis(timeout));
 
         if (records.isEmpty()) {
@@ -95,6 +131,108 @@ public class KafkaConsumer extends AbstractMessageConsumer {
         return received;
     }
 
+    /**
+     * Receive message from buffered records. Polls new records from the topic in case no matching message is buffered. Records
+     * are converted with the given test context, each record at most once per receive operation.
+     * @param topic
+     * @param selector
+     * @param context
+     * @param timeout
+     * @return
+     */
+    private Message receiveBuffered(String topic, String selector, TestContext context, long timeout) {
+        MessageSelector messageSelector = StringUtils.hasText(selector) ?
+                new DelegatingMessageSelector(selector, context) : new MessageSelector.AllAcceptingMessageSelector();
+
+        Map<ConsumerRecord<Object, Object>, Message> converted = new IdentityHashMap<>();
+        Predicate<ConsumerRecord<Object, Object>> recordSelector = record -> messageSelector.accept(converted.computeIfAbsent(record,
+                key -> endpointConfiguration.getMessageConverter().convertInbound(key, endpointConfiguration, context)));
+
+        long deadline = System.currentTimeMillis() + timeout;
+        ConsumerRecord<Object, Object> record = buffer.poll(recordSelector);
+        while (record == null) {
+            long timeLeft = deadline - System.currentTimeMillis();
+            if (timeLeft <= 0) {
+                throw new MessageTimeoutException(timeout, StringUtils.hasText(selector) ? topic + "(" + selector + ")" : topic);
+            }
+
+            if (buffer.getSize() >= endpointConfiguration.getBufferSize()) {
+                throw new CitrusRuntimeException(String.format("Failed to receive message on topic '%s' - " +
+                        "consumer buffer is full with %s records not matching the message selector", topic, buffer.getSize()));
+            }
+
+            bufferRecords(consumer.poll(Duration.ofMillis(timeLeft)));
+            record = buffer.poll(recordSelector);
+        }
+
+        commitReceived(topic, record);
+
+        Message received = converted.get(record);
+        context.onInboundMessage(received);
+
+        log.info("Received Kafka message on topic: '" + topic);
+        return received;
+    }
+
+    /**
+     * Buffers polled records up to the configured buffer size. Consumer seeks back to the first record that did
+     * not fit into the buffer on each partition so these records are fetched again with the next poll.
+     * @param records
+     */
+    private void bufferRecords(ConsumerRecords<Object, Object> records) {
+        int capacity = endpointConfiguration.getBufferSize() - buffer.getSize();
+        for (TopicPartition partition : records.partitions()) {
+            for (ConsumerRecord<Object, Object> record : records.records(partition)) {
+                if (capacity <= 0) {
+                    consumer.seek(partition, record.offset());
+                    break;
+                }
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Received message: (" + record.key() + ", " + record.value() + ") at offset " + record.offset());
+                }
+
+                pendingOffsets.computeIfAbsent(partition, key -> new TreeSet<>()).add(record.offset());
+                fetchedOffsets.put(partition, record.offset() + 1);
+                committedOffsets.putIfAbsent(partition, record.offset());
+                buffer.add(record);
+                capacity--;
+            }
+        }
+    }
+
+    /**
+     * Commits offsets for the record that has been handed out of the buffer. Committed offset is the offset of the
+     * oldest record still buffered on the partition or the next offset to fetch in case no record is buffered any more.
+     * @param topic
+     * @param record
+     */
+    private void commitReceived(String topic, ConsumerRecord<Object, Object> record) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        TreeSet<Long> pending = pendingOffsets.get(partition);
+        pending.remove(record.offset());
+
+        long offset = pending.isEmpty() ? fetchedOffsets.get(partition) : pending.first();
+        if (endpointConfiguration.isAutoCommit() || offset <= committedOffsets.get(partition)) {
+            return;
+        }
+
+        committedOffsets.put(partition, offset);
+        consumer.commitAsync(Collections.singletonMap(partition, new OffsetAndMetadata(offset)), (offsets, e) -> {
+            if (e != null) {
+                log.warn("Failed to commit offsets on Kafka topic: '" + topic + "'", e);
+            }
+        });
+    }
+
+    /**
+     * Gets the number of records currently buffered on this consumer.
+     * @return
+     */
+    public int getBufferedCount() {
+        return buffer.getSize();
+    }
+
     /**
      * Stop message listener container.
      */
@@ -117,7 +255,8 @@ public class KafkaConsumer extends AbstractMessageConsumer {
         consumerProps.put(ConsumerConfig.CLIENT_ID_CONFIG, Optional.ofNullable(endpointConfiguration.getClientId()).orElse(KafkaMessageHeaders.KAFKA_PREFIX + "consumer_" + UUID.randomUUID().toString()));
         consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, endpointConfiguration.getConsumerGroup());
         consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, Optional.ofNullable(endpointConfiguration.getServer()).orElse("localhost:9092"));
-        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1);
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, endpointConfiguration.isBatchMode() ?
+                Math.min(endpointConfiguration.getMaxPollRecords(), endpointConfiguration.getBufferSize()) : 1);
         consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, endpointConfiguration.isAutoCommit());
         consumerProps.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, endpointConfiguration.getAutoCommitInterval());
         consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, endpointConfiguration.getOffsetReset());
@@ -68,6 +68,56 @@ public class KafkaEndpointBuilder extends AbstractEndpointBuilder<KafkaEndpoint>
         return this;
     }
 
+    /**
+     * Enables batch mode on the consumer.
+     * @param batchMode
+     * @return
+     */
+    public KafkaEndpointBuilder batchMode(boolean batchMode) {
+        endpoint.getEndpointConfiguration().setBatchMode(batchMode);
+        return this;
+    }
+
+    /**
+     * Sets the maxPollRecords property.
+     * @param maxPollRecords
+     * @return
+     */
+    public KafkaEndpointBuilder maxPollRecords(int maxPollRecords) {
+        endpoint.getEndpointConfiguration().setMaxPollRecords(maxPollRecords);
+        return this;
+    }
+
+    /**
+     * Sets the consumer bufferSize property.
+     * @param bufferSize
+     * @return
+     */
+    public KafkaEndpointBuilder bufferSize(int bufferSize) {
+        endpoint.getEndpointConfiguration().setBufferSize(bufferSize);
+        return this;
+    }
+
+    /**
+     * Enables async send mode on the producer.
+     * @param asyncSend
+     * @return
+     */
+    public KafkaEndpointBuilder asyncSend(boolean asyncSend) {
+        endpoint.getEndpointConfiguration().setAsyncSend(asyncSend);
+        return this;
+    }
+
+    /**
+     * Sets the producer maxInFlight property.
+     * @param maxInFlight
+     * @return
+     */
+    public KafkaEndpointBuilder maxInFlight(int maxInFlight) {
+        endpoint.getEndpointConfiguration().setMaxInFlight(maxInFlight);
+        return this;
+    }
+
     /**
      * Sets the autoCommit property.
      * @param autoCommit
@@ -69,6 +69,21 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Topic partition */
     private int partition = 0;
 
+    /** Batch mode polls multiple records at once and buffers them for subsequent receive operations */
+    private boolean batchMode = false;
+
+    /** Maximum number of records returned in a single poll when batch mode is enabled */
+    private int maxPollRecords = 500;
+
+    /** Maximum number of records buffered on the consumer */
+    private int bufferSize = 10000;
+
+    /** Async send mode does not wait for the broker acknowledgement of each record */
+    private boolean asyncSend = false;
+
+    /** Maximum number of records sent but not acknowledged yet when async send mode is enabled */
+    private int maxInFlight = 1000;
+
     /**
      * Gets the topic name.
      * @return the topic
@@ -352,4 +367,94 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setPartition(int partition) {
         this.partition = partition;
     }
+
+    /**
+     * Gets the batchMode.
+     *
+     * @return
+     */
+    public boolean isBatchMode() {
+        return batchMode;
+    }
+
+    /**
+     * Sets the batchMode.
+     *
+     * @param batchMode
+     */
+    public void setBatchMode(boolean batchMode) {
+        this.batchMode = batchMode;
+    }
+
+    /**
+     * Gets the maxPollRecords.
+     *
+     * @return
+     */
+    public int getMaxPollRecords() {
+        return maxPollRecords;
+    }
+
+    /**
+     * Sets the maxPollRecords.
+     *
+     * @param maxPollRecords
+     */
+    public void setMaxPollRecords(int maxPollRecords) {
+        this.maxPollRecords = maxPollRecords;
+    }
+
+    /**
+     * Gets the bufferSize.
+     *
+     * @return
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the bufferSize.
+     *
+     * @param bufferSize
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Gets the asyncSend.
+     *
+     * @return
+     */
+    public boolean isAsyncSend() {
+        return asyncSend;
+    }
+
+    /**
+     * Sets the asyncSend.
+     *
+     * @param asyncSend
+     */
+    public void setAsyncSend(boolean asyncSend) {
+        this.asyncSend = asyncSend;
+    }
+
+    /**
+     * Gets the maxInFlight.
+     *
+     * @return
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Sets the maxInFlight.
+     *
+     * @param maxInFlight
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
 }
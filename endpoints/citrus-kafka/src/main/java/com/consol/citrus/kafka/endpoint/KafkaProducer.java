@@ -16,19 +16,26 @@
 
 package com.consol.citrus.kafka.endpoint;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import com.consol.citrus.TestCase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.kafka.message.KafkaMessageHeaders;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.Producer;
+import com.consol.citrus.report.AbstractTestListener;
+import com.consol.citrus.report.TestListeners;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
@@ -37,6 +44,12 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
+ * Producer sends messages to a Kafka topic. By default each send operation waits for the broker acknowledgement.
+ * In async send mode the producer returns right after handing over the record to the Kafka client and allows a maximum number
+ * of records in flight. Send failures are added to the test context of the send operation so the test fails with the next
+ * test action. Records still in flight are flushed when the test finishes so failures are reported before the test result
+ * is determined.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
@@ -54,6 +67,12 @@ public class KafkaProducer implements Producer {
     /** Kafka producer */
     private org.apache.kafka.clients.producer.KafkaProducer<Object, Object> producer;
 
+    /** Permits for records in flight when async send mode is enabled */
+    private Semaphore inFlight;
+
+    /** Test listeners this producer has registered its flush listener with */
+    private final Set<TestListeners> flushListeners = Collections.newSetFromMap(new IdentityHashMap<>());
+
     /**
      * Default constructor using endpoint configuration.
      * @param name
@@ -62,7 +81,7 @@ public class KafkaProducer implements Producer {
     public KafkaProducer(String name, KafkaEndpointConfiguration endpointConfiguration) {
         this.name = name;
         this.endpointConfiguration = endpointConfiguration;
-        this. producer = createKafkaProducer();
+        this.producer = createKafkaProducer();
     }
 
     @Override
@@ -82,6 +101,11 @@ public class KafkaProducer implements Producer {
             log.debug("Sending Kafka stream message to topic: '" + topic + "'");
         }
 
+        if (endpointConfiguration.isAsyncSend()) {
+            sendAsync(message, topic, context);
+            return;
+        }
+
         try {
             ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
             producer.send(producerRecord).get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
@@ -95,6 +119,100 @@ public class KafkaProducer implements Producer {
         context.onOutboundMessage(message);
     }
 
+    /**
+     * Sends message without waiting for the broker acknowledgement. Blocks when the maximum number of records in flight is reached.
+     * Raises failures of previous async send operations first.
+     * @param message
+     * @param topic
+     * @param context
+     */
+    private void sendAsync(final Message message, final String topic, final TestContext context) {
+        registerFlushListener(context);
+
+        ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
+
+        Semaphore permits = getInFlight();
+        try {
+            if (!permits.tryAcquire(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS)) {
+                throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s' - " +
+                        "timeout after %s milliseconds waiting for %s records in flight", topic, endpointConfiguration.getTimeout(), endpointConfiguration.getMaxInFlight()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), e);
+        }
+
+        try {
+            producer.send(producerRecord, (metadata, exception) -> {
+                permits.release();
+
+                if (exception != null) {
+                    context.addException(new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), exception));
+                } else if (log.isDebugEnabled()) {
+                    log.debug("Message was acknowledged on Kafka stream topic: '" + topic + "'");
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), e);
+        }
+
+        log.info("Message was sent asynchronously to Kafka stream topic: '" + topic + "'");
+        context.onOutboundMessage(message);
+    }
+
+    /**
+     * Waits for all records in flight to be acknowledged. Send failures are added to the test context of the respective
+     * send operation.
+     */
+    public void flush() {
+        producer.flush();
+    }
+
+    /**
+     * Registers test listener that flushes records in flight when a test finishes. Test listeners are shared by all tests
+     * so the listener is registered only once.
+     * @param context
+     */
+    private void registerFlushListener(TestContext context) {
+        TestListeners testListeners = context.getTestListeners();
+        synchronized (flushListeners) {
+            if (testListeners == null || !flushListeners.add(testListeners)) {
+                return;
+            }
+        }
+
+        testListeners.addTestListener(new AbstractTestListener() {
+            @Override
+            public void onTestFinish(TestCase test) {
+                if (getInFlightCount() > 0) {
+                    log.debug("Flushing Kafka records in flight on test finish");
+                    flush();
+                }
+            }
+        });
+    }
+
+    /**
+     * Gets the number of records sent in async send mode that have not been acknowledged yet.
+     * @return
+     */
+    public int getInFlightCount() {
+        return inFlight != null ? endpointConfiguration.getMaxInFlight() - inFlight.availablePermits() : 0;
+    }
+
+    /**
+     * Lazy initialize in flight permits as the endpoint configuration may change after the producer has been created.
+     * @return
+     */
+    private synchronized Semaphore getInFlight() {
+        if (inFlight == null) {
+            inFlight = new Semaphore(endpointConfiguration.getMaxInFlight());
+        }
+
+        return inFlight;
+    }
+
     /**
      * Creates default KafkaTemplate instance from endpoint configuration.
      */
@@ -58,6 +58,8 @@ public class KafkaEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getOffsetReset(), "earliest");
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getTopic(), "test");
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getPartition(), 0);
+        Assert.assertFalse(kafkaEndpoint.getEndpointConfiguration().isBatchMode());
+        Assert.assertFalse(kafkaEndpoint.getEndpointConfiguration().isAsyncSend());
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getConsumerGroup(), KafkaMessageHeaders.KAFKA_PREFIX + "group");
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getConsumerProperties().size(), 0);
@@ -80,6 +82,11 @@ public class KafkaEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getOffsetReset(), "latest");
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getTopic(), "test");
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getPartition(), 1);
+        Assert.assertTrue(kafkaEndpoint.getEndpointConfiguration().isBatchMode());
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getMaxPollRecords(), 100);
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getBufferSize(), 5000);
+        Assert.assertTrue(kafkaEndpoint.getEndpointConfiguration().isAsyncSend());
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getMaxInFlight(), 200);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getConsumerGroup(), "citrus_group");
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getTimeout(), 10000L);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getKeySerializer(), IntegerSerializer.class);
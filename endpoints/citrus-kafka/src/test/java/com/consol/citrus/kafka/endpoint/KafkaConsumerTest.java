@@ -17,27 +17,38 @@
 package com.consol.citrus.kafka.endpoint;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.kafka.message.KafkaMessageConverter;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -159,4 +170,231 @@ public class KafkaConsumerTest extends AbstractTestNGUnitTest {
         Assert.assertNotNull(receivedMessage.getHeader("Operation"));
         Assert.assertTrue(receivedMessage.getHeader("Operation").equals("sayHello"));
     }
+
+    @Test
+    public void testReceiveBatch() {
+        String topic = "batch";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setBatchMode(true);
+        endpoint.getEndpointConfiguration().setAutoCommit(false);
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        List<ConsumerRecord<Object, Object>> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            batch.add(new ConsumerRecord<>(topic, 0, i, i, "Message" + i));
+        }
+
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, batch));
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(records).thenReturn(ConsumerRecords.EMPTY);
+
+        for (int i = 0; i < 3; i++) {
+            Message receivedMessage = endpoint.createConsumer().receive(context);
+            Assert.assertEquals(receivedMessage.getPayload(), "Message" + i);
+        }
+
+        verify(kafkaConsumer, times(1)).poll(any(Duration.class));
+        for (int i = 1; i <= 3; i++) {
+            verify(kafkaConsumer).commitAsync(eq(Collections.singletonMap(partition, new OffsetAndMetadata(i))), any(OffsetCommitCallback.class));
+        }
+    }
+
+    @Test
+    public void testReceiveSelectedCommitsHandedOutRecords() {
+        String topic = "selective-commit";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setBatchMode(true);
+        endpoint.getEndpointConfiguration().setAutoCommit(false);
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        List<ConsumerRecord<Object, Object>> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ConsumerRecord<Object, Object> consumerRecord = new ConsumerRecord<>(topic, 0, i, i, "Message" + i);
+            consumerRecord.headers().add(new RecordHeader("Operation", ("operation" + i).getBytes()));
+            batch.add(consumerRecord);
+        }
+
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, batch));
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(records).thenReturn(ConsumerRecords.EMPTY);
+
+        com.consol.citrus.kafka.endpoint.KafkaConsumer consumer = endpoint.createConsumer();
+        Assert.assertEquals(consumer.receive("Operation = 'operation2'", context, 1000L).getPayload(), "Message2");
+        verify(kafkaConsumer, never()).commitAsync(anyMap(), any(OffsetCommitCallback.class));
+
+        Assert.assertEquals(consumer.receive("Operation = 'operation1'", context, 1000L).getPayload(), "Message1");
+        verify(kafkaConsumer, never()).commitAsync(anyMap(), any(OffsetCommitCallback.class));
+
+        Assert.assertEquals(consumer.receive("Operation = 'operation0'", context, 1000L).getPayload(), "Message0");
+        verify(kafkaConsumer).commitAsync(eq(Collections.singletonMap(partition, new OffsetAndMetadata(3L))), any(OffsetCommitCallback.class));
+    }
+
+    @Test
+    public void testReceiveDrainsBufferFirst() {
+        String topic = "drain";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setAutoCommit(false);
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        List<ConsumerRecord<Object, Object>> batch = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            ConsumerRecord<Object, Object> consumerRecord = new ConsumerRecord<>(topic, 0, i, i, "Message" + i);
+            consumerRecord.headers().add(new RecordHeader("Operation", ("operation" + i).getBytes()));
+            batch.add(consumerRecord);
+        }
+
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, batch));
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(records).thenReturn(ConsumerRecords.EMPTY);
+
+        com.consol.citrus.kafka.endpoint.KafkaConsumer consumer = endpoint.createConsumer();
+        Assert.assertEquals(consumer.receive("Operation = 'operation1'", context, 1000L).getPayload(), "Message1");
+        Assert.assertEquals(consumer.getBufferedCount(), 1);
+
+        Assert.assertEquals(consumer.receive(context, 1000L).getPayload(), "Message0");
+        Assert.assertEquals(consumer.getBufferedCount(), 0);
+
+        verify(kafkaConsumer, times(1)).poll(any(Duration.class));
+        verify(kafkaConsumer, never()).commitSync(any(Duration.class));
+        verify(kafkaConsumer).commitAsync(eq(Collections.singletonMap(partition, new OffsetAndMetadata(2L))), any(OffsetCommitCallback.class));
+    }
+
+    @Test
+    public void testReceiveBatchLimitedToBufferSize() {
+        String topic = "limited";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setBatchMode(true);
+        endpoint.getEndpointConfiguration().setBufferSize(2);
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        List<ConsumerRecord<Object, Object>> batch = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            ConsumerRecord<Object, Object> consumerRecord = new ConsumerRecord<>(topic, 0, i, i, "Message" + i);
+            consumerRecord.headers().add(new RecordHeader("Operation", ("operation" + i).getBytes()));
+            batch.add(consumerRecord);
+        }
+
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, batch));
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(records).thenReturn(ConsumerRecords.EMPTY);
+
+        com.consol.citrus.kafka.endpoint.KafkaConsumer consumer = endpoint.createConsumer();
+        Assert.assertEquals(consumer.receive("Operation = 'operation1'", context, 1000L).getPayload(), "Message1");
+        Assert.assertEquals(consumer.getBufferedCount(), 1);
+
+        verify(kafkaConsumer).seek(partition, 2L);
+    }
+
+    @Test
+    public void testReceiveBufferedWithReceiveContext() {
+        String topic = "context";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setBatchMode(true);
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+
+        List<TestContext> conversionContexts = new ArrayList<>();
+        endpoint.getEndpointConfiguration().setMessageConverter(new KafkaMessageConverter() {
+            @Override
+            public Message convertInbound(ConsumerRecord<Object, Object> consumerRecord, KafkaEndpointConfiguration endpointConfiguration, TestContext context) {
+                conversionContexts.add(context);
+                return super.convertInbound(consumerRecord, endpointConfiguration, context);
+            }
+        });
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        List<ConsumerRecord<Object, Object>> batch = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            batch.add(new ConsumerRecord<>(topic, 0, i, i, "Message" + i));
+        }
+
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, batch));
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(records).thenReturn(ConsumerRecords.EMPTY);
+
+        com.consol.citrus.kafka.endpoint.KafkaConsumer consumer = endpoint.createConsumer();
+        Assert.assertEquals(consumer.receive(context, 1000L).getPayload(), "Message0");
+        Assert.assertEquals(consumer.getBufferedCount(), 1);
+
+        TestContext otherContext = createTestContext();
+        conversionContexts.clear();
+        Assert.assertEquals(consumer.receive(otherContext, 1000L).getPayload(), "Message1");
+        Assert.assertEquals(conversionContexts, Collections.singletonList(otherContext));
+    }
+
+    @Test
+    public void testReceiveSelected() {
+        String topic = "selective";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setBatchMode(true);
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        List<ConsumerRecord<Object, Object>> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ConsumerRecord<Object, Object> consumerRecord = new ConsumerRecord<>(topic, 0, i, i, "Message" + i);
+            consumerRecord.headers().add(new RecordHeader("Operation", ("operation" + i).getBytes()));
+            batch.add(consumerRecord);
+        }
+
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, batch));
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(records).thenReturn(ConsumerRecords.EMPTY);
+
+        com.consol.citrus.kafka.endpoint.KafkaConsumer consumer = endpoint.createConsumer();
+        Message receivedMessage = consumer.receive("Operation = 'operation2'", context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Message2");
+        Assert.assertEquals(consumer.getBufferedCount(), 2);
+
+        receivedMessage = consumer.receive("Operation = 'operation0'", context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Message0");
+
+        try {
+            consumer.receive("Operation = 'unknown'", context, 100L);
+            Assert.fail("Missing " + ActionTimeoutException.class + " because of receiving message timeout");
+        } catch(ActionTimeoutException e) {
+            Assert.assertEquals(consumer.getBufferedCount(), 1);
+        }
+
+        verify(kafkaConsumer, never()).commitAsync(anyMap(), any(OffsetCommitCallback.class));
+    }
 }
@@ -16,13 +16,18 @@
 
 package com.consol.citrus.kafka.endpoint;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Future;
 
+import com.consol.citrus.TestCase;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.kafka.message.KafkaMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
@@ -30,6 +35,7 @@ import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.clients.producer.internals.FutureRecordMetadata;
 import org.apache.kafka.clients.producer.internals.ProduceRequestResult;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RecordTooLargeException;
 import org.apache.kafka.common.utils.Time;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
@@ -38,7 +44,9 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -147,4 +155,135 @@ public class KafkaProducerTest extends AbstractTestNGUnitTest {
         Assert.fail("Missing " + CitrusRuntimeException.class + " because of sending empty message");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsync() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setTopic("default");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+        endpoint.getEndpointConfiguration().setMaxInFlight(10);
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        final Message message = new KafkaMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")
+                .messageKey(1);
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer((Answer<Future<RecordMetadata>>) invocation -> {
+            ProducerRecord producerRecord = invocation.getArgument(0);
+            Assert.assertEquals(producerRecord.topic(), "default");
+            Assert.assertEquals(producerRecord.value(), message.getPayload());
+
+            Callback callback = invocation.getArgument(1);
+            callback.onCompletion(new RecordMetadata(new TopicPartition("default", 0), 0L, 0L, System.currentTimeMillis(), 0L, 1, 1), null);
+            return null;
+        });
+
+        for (int i = 0; i < 20; i++) {
+            endpoint.createProducer().send(message, context);
+        }
+
+        endpoint.createProducer().flush();
+
+        Assert.assertEquals(endpoint.createProducer().getInFlightCount(), 0);
+        Assert.assertFalse(context.hasExceptions());
+        verify(kafkaProducer, times(20)).send(any(ProducerRecord.class), any(Callback.class));
+        verify(kafkaProducer).flush();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsyncFailure() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setTopic("default");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer((Answer<Future<RecordMetadata>>) invocation -> {
+            Callback callback = invocation.getArgument(1);
+            callback.onCompletion(null, new RecordTooLargeException("Too large"));
+            return null;
+        });
+
+        endpoint.createProducer().send(new KafkaMessage("foo"), context);
+        Assert.assertEquals(endpoint.createProducer().getInFlightCount(), 0);
+
+        // failure is reported once on the test context
+        endpoint.createProducer().flush();
+        Assert.assertEquals(context.getExceptions().size(), 1);
+        Assert.assertEquals(context.getExceptions().get(0).getMessage(), "Failed to send message to Kafka topic 'default'");
+        Assert.assertEquals(context.getExceptions().get(0).getCause().getClass(), RecordTooLargeException.class);
+
+        // failures are not carried over to other tests
+        TestContext otherContext = createTestContext();
+        endpoint.createProducer().send(new KafkaMessage("bar"), otherContext);
+        Assert.assertEquals(otherContext.getExceptions().size(), 1);
+        Assert.assertEquals(context.getExceptions().size(), 1);
+        context.getExceptions().clear();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsyncFlushOnTestFinish() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setTopic("default");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        reset(kafkaProducer);
+
+        List<Callback> callbacks = new ArrayList<>();
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer((Answer<Future<RecordMetadata>>) invocation -> {
+            callbacks.add(invocation.getArgument(1));
+            return null;
+        });
+        doAnswer(invocation -> {
+            callbacks.forEach(callback -> callback.onCompletion(null, new RecordTooLargeException("Too large")));
+            callbacks.clear();
+            return null;
+        }).when(kafkaProducer).flush();
+
+        endpoint.createProducer().send(new KafkaMessage("foo"), context);
+        endpoint.createProducer().send(new KafkaMessage("bar"), context);
+        Assert.assertEquals(endpoint.createProducer().getInFlightCount(), 2);
+        Assert.assertFalse(context.hasExceptions());
+
+        context.getTestListeners().onTestFinish(Mockito.mock(TestCase.class));
+        Assert.assertEquals(endpoint.createProducer().getInFlightCount(), 0);
+        Assert.assertEquals(context.getExceptions().size(), 2);
+
+        // no records in flight - nothing to flush
+        context.getTestListeners().onTestFinish(Mockito.mock(TestCase.class));
+        verify(kafkaProducer, times(1)).flush();
+        context.getExceptions().clear();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsyncMaxInFlight() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setTopic("default");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+        endpoint.getEndpointConfiguration().setMaxInFlight(2);
+        endpoint.getEndpointConfiguration().setTimeout(200L);
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        reset(kafkaProducer);
+
+        // never acknowledge records
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenReturn(null);
+
+        endpoint.createProducer().send(new KafkaMessage("foo"), context);
+        endpoint.createProducer().send(new KafkaMessage("bar"), context);
+        Assert.assertEquals(endpoint.createProducer().getInFlightCount(), 2);
+
+        try {
+            endpoint.createProducer().send(new KafkaMessage("baz"), context);
+            Assert.fail("Missing " + CitrusRuntimeException.class + " because of max in flight records");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("waiting for 2 records in flight"));
+        }
+    }
 }
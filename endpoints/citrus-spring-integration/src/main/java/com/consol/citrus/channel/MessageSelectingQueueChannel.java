@@ -15,9 +15,26 @@
  */
 package com.consol.citrus.channel;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
+import com.consol.citrus.message.selector.HeaderMatchingMessageSelector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.integration.channel.QueueChannel;
@@ -28,6 +45,12 @@ import org.springframework.util.Assert;
 /**
  * Added selective consumption of messages according to a message selector implementation.
  *
+ * Receivers waiting for a selected message are signalled as soon as a new message is sent to the channel and only evaluate
+ * the messages that have arrived since their last scan. Pending messages are indexed by header values so a
+ * {@link DispatchingMessageSelector} matching exact header values is served from the index without scanning the whole queue.
+ * Messages are indexed before they become visible on the queue so non selective receivers always find them in the index.
+ * All pending messages are evaluated again after each polling interval for selectors that do not only depend on the message content.
+ *
  * @author Christoph Deppisch
  */
 public class MessageSelectingQueueChannel extends QueueChannel {
@@ -37,9 +60,30 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     /** Blocking in memory message store */
     private final BlockingQueue<Message<?>> queue;
 
-    /** Polling interval when waiting for synchronous reply message to arrive */
+    /** Polling interval after which all pending messages are evaluated again */
     private long pollingInterval = 500;
 
+    /** Lock guarding the message index */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Condition signalled on each new message arrival */
+    private final Condition messageArrived = lock.newCondition();
+
+    /** Condition signalled each time a message has been removed from the queue */
+    private final Condition messageRemoved = lock.newCondition();
+
+    /** Pending messages ordered by arrival sequence */
+    private final NavigableMap<Long, Message<?>> pending = new TreeMap<>();
+
+    /** Arrival sequence of pending messages */
+    private final Map<Message<?>, Long> sequences = new IdentityHashMap<>();
+
+    /** Header index: header name to header value to message sequence numbers */
+    private final Map<String, Map<String, NavigableSet<Long>>> index = new HashMap<>();
+
+    /** Arrival sequence counter */
+    private long sequence = 0L;
+
     /**
      * Create a channel with the specified queue.
      */
@@ -48,6 +92,8 @@ public class MessageSelectingQueueChannel extends QueueChannel {
 
         this.setLoggingEnabled(false);
         this.queue = queue;
+
+        queue.forEach(this::addToIndex);
     }
 
     /**
@@ -67,6 +113,93 @@ public class MessageSelectingQueueChannel extends QueueChannel {
         this(new LinkedBlockingQueue<>());
     }
 
+    /**
+     * Adds the message to the queue and the index in one step while holding the lock. Senders waiting for free capacity
+     * on the queue do not hold the lock so receivers are able to remove messages in the meantime.
+     * @param message
+     * @param timeout
+     * @return
+     */
+    @Override
+    protected boolean doSend(Message<?> message, long timeout) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        lock.lock();
+        try {
+            while (!super.doSend(message, 0L)) {
+                if (timeout == 0L) {
+                    return false;
+                }
+
+                if (timeout < 0L) {
+                    messageRemoved.await();
+                } else {
+                    long nanosLeft = deadline - System.nanoTime();
+                    if (nanosLeft <= 0L) {
+                        return false;
+                    }
+
+                    messageRemoved.awaitNanos(nanosLeft);
+                }
+            }
+
+            addToIndex(message);
+            messageArrived.signalAll();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected Message<?> doReceive(long timeout) {
+        Message<?> message = super.doReceive(timeout);
+        if (message != null) {
+            lock.lock();
+            try {
+                removeFromIndex(message);
+                messageRemoved.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        return message;
+    }
+
+    @Override
+    public List<Message<?>> clear() {
+        List<Message<?>> removed = super.clear();
+
+        lock.lock();
+        try {
+            removed.forEach(this::removeFromIndex);
+            messageRemoved.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        return removed;
+    }
+
+    @Override
+    public List<Message<?>> purge(MessageSelector selector) {
+        List<Message<?>> removed = super.purge(selector);
+
+        lock.lock();
+        try {
+            removed.forEach(this::removeFromIndex);
+            messageRemoved.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        return removed;
+    }
+
     /**
      * Supports selective consumption of messages on the channel. The first message
      * to be accepted by given message selector is returned as result.
@@ -75,46 +208,203 @@ public class MessageSelectingQueueChannel extends QueueChannel {
      * @return
      */
     public Message<?> receive(MessageSelector selector) {
-        Object[] array = this.queue.toArray();
-        for (Object o : array) {
-            Message<?> message = (Message<?>) o;
-            if (selector.accept(message) && this.queue.remove(message)) {
-                return message;
-            }
+        lock.lock();
+        try {
+            return pollMatching(selector, 0L);
+        } finally {
+            lock.unlock();
         }
-
-        return null;
     }
 
     /**
-     * Consume messages on the channel via message selector. Timeout forces several retries
-     * with polling interval setting.
+     * Consume messages on the channel via message selector. Waits for new messages to arrive on the channel until
+     * the given timeout is exceeded.
      *
      * @param selector
      * @param timeout
      * @return
      */
     public Message<?> receive(MessageSelector selector, long timeout) {
-        long timeLeft = timeout;
-        Message<?> message = receive(selector);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        lock.lock();
+        try {
+            long lastSeen = 0L;
+            while (true) {
+                Message<?> message = pollMatching(selector, lastSeen);
+                if (message != null) {
+                    return message;
+                }
+
+                long nanosLeft = deadline - System.nanoTime();
+                if (nanosLeft <= 0L) {
+                    return null;
+                }
 
-        while (message == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
+                long waitNanos = Math.min(nanosLeft, TimeUnit.MILLISECONDS.toNanos(pollingInterval));
+                if (RETRY_LOG.isDebugEnabled()) {
+                    RETRY_LOG.debug("No message received with message selector - waiting for next message up to " +
+                            TimeUnit.NANOSECONDS.toMillis(waitNanos) + "ms");
+                }
 
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("No message received with message selector - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+                long seen = sequence;
+                try {
+                    // evaluate only new messages when signalled, all pending messages when polling interval has elapsed
+                    lastSeen = messageArrived.awaitNanos(waitNanos) > 0L ? seen : 0L;
+                } catch (InterruptedException e) {
+                    RETRY_LOG.warn("Thread interrupted while waiting for message on channel", e);
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
             }
+        } finally {
+            lock.unlock();
+        }
+    }
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+    /**
+     * Finds and removes the first message accepted by given selector. Only messages with a sequence number
+     * greater than the given last seen sequence are evaluated. Caller must hold the lock.
+     * @param selector
+     * @param lastSeen
+     * @return
+     */
+    private Message<?> pollMatching(MessageSelector selector, long lastSeen) {
+        List<HeaderMatchingMessageSelector> indexed = getIndexedSelectors(selector);
+
+        Iterator<Long> candidates;
+        if (indexed.isEmpty()) {
+            candidates = pending.tailMap(lastSeen, false).keySet().iterator();
+        } else {
+            NavigableSet<Long> ids = null;
+            for (HeaderMatchingMessageSelector headerSelector : indexed) {
+                NavigableSet<Long> matching = index.getOrDefault(headerSelector.getSelectKey(), Collections.emptyMap())
+                                                   .get(headerSelector.getMatchingValue());
+                if (matching == null) {
+                    return null;
+                }
+
+                if (ids == null || matching.size() < ids.size()) {
+                    ids = matching;
+                }
             }
 
-            message = receive(selector);
+            candidates = ids.tailSet(lastSeen, false).iterator();
         }
 
-        return message;
+        List<Message<?>> consumed = new ArrayList<>();
+        Message<?> selected = null;
+        while (candidates.hasNext()) {
+            Message<?> message = pending.get(candidates.next());
+            if (message != null && selector.accept(message)) {
+                if (queue.remove(message)) {
+                    selected = message;
+                    break;
+                }
+
+                // message has been consumed in the meantime by a non selective receiver
+                consumed.add(message);
+            }
+        }
+
+        consumed.forEach(this::removeFromIndex);
+        if (selected != null) {
+            removeFromIndex(selected);
+            messageRemoved.signalAll();
+        }
+
+        return selected;
+    }
+
+    /**
+     * Adds message to the pending messages and header index. Caller must hold the lock.
+     * @param message
+     */
+    private void addToIndex(Message<?> message) {
+        long id = ++sequence;
+        pending.put(id, message);
+        sequences.put(message, id);
+
+        for (Map.Entry<String, Object> header : getIndexedHeaders(message).entrySet()) {
+            index.computeIfAbsent(header.getKey(), k -> new HashMap<>())
+                 .computeIfAbsent(header.getValue().toString(), k -> new TreeSet<>())
+                 .add(id);
+        }
+    }
+
+    /**
+     * Removes message from pending messages and header index. Caller must hold the lock.
+     * @param message
+     */
+    private void removeFromIndex(Message<?> message) {
+        Long id = sequences.remove(message);
+        if (id == null) {
+            return;
+        }
+
+        pending.remove(id);
+        for (Map.Entry<String, Object> header : getIndexedHeaders(message).entrySet()) {
+            Map<String, NavigableSet<Long>> values = index.get(header.getKey());
+            if (values == null) {
+                continue;
+            }
+
+            String value = header.getValue().toString();
+            NavigableSet<Long> ids = values.get(value);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    values.remove(value);
+                }
+            }
+
+            if (values.isEmpty()) {
+                index.remove(header.getKey());
+            }
+        }
+    }
+
+    /**
+     * Gets effective headers of given message the same way header matching selectors evaluate them. Nested Citrus message
+     * headers take precedence over headers on the outer message.
+     * @param message
+     * @return
+     */
+    private static Map<String, Object> getIndexedHeaders(Message<?> message) {
+        Map<String, Object> headers = new HashMap<>();
+        message.getHeaders().forEach((key, value) -> {
+            if (value != null) {
+                headers.put(key, value);
+            }
+        });
+
+        if (message.getPayload() instanceof com.consol.citrus.message.Message) {
+            ((com.consol.citrus.message.Message) message.getPayload()).getHeaders().forEach((key, value) -> {
+                if (value != null) {
+                    headers.put(key, value);
+                } else {
+                    headers.remove(key);
+                }
+            });
+        }
+
+        return headers;
+    }
+
+    /**
+     * Gets all header selectors that evaluate exact header values and therefore can be served from the header index.
+     * @param selector
+     * @return
+     */
+    private static List<HeaderMatchingMessageSelector> getIndexedSelectors(MessageSelector selector) {
+        if (selector instanceof DispatchingMessageSelector) {
+            return ((DispatchingMessageSelector) selector).getHeaderMatchingSelectors()
+                    .stream()
+                    .filter(HeaderMatchingMessageSelector::isExactMatch)
+                    .collect(Collectors.toList());
+        }
+
+        return Collections.emptyList();
     }
 
     /**
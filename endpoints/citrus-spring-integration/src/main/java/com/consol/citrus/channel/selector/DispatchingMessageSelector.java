@@ -26,6 +26,7 @@ import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Message selector dispatches incoming messages to several other selector implementations
@@ -81,14 +82,37 @@ public class DispatchingMessageSelector implements MessageSelector {
     public boolean accept(Message<?> message) {
         return matchingHeaders.entrySet()
                               .stream()
-                              .allMatch(entry -> factories.stream()
-                                                     .filter(factory -> factory.supports(entry.getKey()))
-                                                     .findAny()
-                                                     .orElse(new HeaderMatchingMessageSelector.Factory())
+                              .allMatch(entry -> getFactory(entry.getKey())
                                                      .create(entry.getKey(), entry.getValue(), context)
                                                      .accept(message));
     }
 
+    /**
+     * Gets core header matching selectors for all matching headers that are not handled by another selector implementation.
+     * Callers may use these selectors to look up messages by header value.
+     * @return
+     */
+    public List<com.consol.citrus.message.selector.HeaderMatchingMessageSelector> getHeaderMatchingSelectors() {
+        return matchingHeaders.entrySet()
+                              .stream()
+                              .filter(entry -> getFactory(entry.getKey()).getClass().equals(HeaderMatchingMessageSelector.Factory.class))
+                              .map(entry -> new com.consol.citrus.message.selector.HeaderMatchingMessageSelector.Factory()
+                                                     .create(entry.getKey(), entry.getValue(), context))
+                              .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the first factory supporting given selector key. Defaults to header matching selectors.
+     * @param key
+     * @return
+     */
+    private MessageSelectorFactory<?> getFactory(String key) {
+        return factories.stream()
+                        .filter(factory -> factory.supports(key))
+                        .findAny()
+                        .orElse(new HeaderMatchingMessageSelector.Factory());
+    }
+
     /**
      * Add message selector factory to list of delegates.
      * @param factory
@@ -16,16 +16,21 @@
 package com.consol.citrus.channel.selector;
 
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.XMLUtils;
+import com.consol.citrus.xml.XmlDocumentCache;
+import com.consol.citrus.xml.xpath.XPathExpressionCache;
 import com.consol.citrus.xml.xpath.XPathUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.messaging.Message;
-import org.springframework.xml.xpath.XPathExpressionFactory;
-import org.springframework.xml.xpath.XPathParseException;
+import org.springframework.util.xml.SimpleNamespaceContext;
 import org.w3c.dom.Document;
 import org.w3c.dom.ls.LSException;
 
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import java.util.Map;
 
 /**
@@ -58,32 +63,38 @@ public class XpathPayloadMessageSelector extends AbstractMessageSelector {
         Document doc;
 
         try {
-            doc = XMLUtils.parseMessagePayload(getPayloadAsString(message));
+            doc = XmlDocumentCache.parse(getPayloadAsString(message));
         } catch (LSException e) {
             log.warn("Ignoring non XML message for XPath message selector (" + e.getClass().getName() + ")");
             return false; // non XML message - not accepted
         }
         
-        try {
-            Map<String, String> namespaces = XMLUtils.lookupNamespaces(doc);
-            
-            // add default namespace mappings
-            namespaces.putAll(context.getNamespaceContextBuilder().getNamespaceMappings());
+        Map<String, String> namespaces = XMLUtils.lookupNamespaces(doc);
+
+        // add default namespace mappings
+        namespaces.putAll(context.getNamespaceContextBuilder().getNamespaceMappings());
+
+        String expression = selectKey;
+        if (XPathUtils.hasDynamicNamespaces(selectKey)) {
+            namespaces.putAll(XPathUtils.getDynamicNamespaces(selectKey));
+            expression = XPathUtils.replaceDynamicNamespaces(selectKey, namespaces);
+        }
 
-            String value;
-            if (XPathUtils.hasDynamicNamespaces(selectKey)) {
-                namespaces.putAll(XPathUtils.getDynamicNamespaces(selectKey));
-                value = XPathExpressionFactory.createXPathExpression(XPathUtils.replaceDynamicNamespaces(selectKey, namespaces), namespaces)
-                        .evaluateAsString(doc);
-            } else {
-                value = XPathExpressionFactory.createXPathExpression(selectKey, namespaces)
-                        .evaluateAsString(doc);
-            }
+        SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
+        namespaceContext.setBindings(namespaces);
 
-            return evaluate(value);
-        } catch (XPathParseException e) {
-            log.warn("Could not evaluate XPath expression for message selector - ignoring message (" + e.getClass().getName() + ")");
-            return false; // wrong XML message - not accepted
+        XPathExpression xPathExpression;
+        try {
+            xPathExpression = XPathExpressionCache.getExpression(expression, namespaceContext);
+        } catch (XPathExpressionException e) {
+            log.warn("Could not compile XPath expression for message selector - ignoring message (" + e.getClass().getName() + ")");
+            return false; // expression not applicable to message namespaces - not accepted
+        }
+
+        try {
+            return evaluate((String) xPathExpression.evaluate(doc, XPathConstants.STRING));
+        } catch (XPathExpressionException e) {
+            throw new CitrusRuntimeException("Can not evaluate xpath expression '" + expression + "'", e);
         }
     }
 
@@ -16,14 +16,19 @@
 
 package com.consol.citrus.channel;
 
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
 import com.consol.citrus.channel.selector.HeaderMatchingMessageSelector;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.integration.core.MessageSelector;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -31,6 +36,8 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public class MessageSelectingQueueChannelTest extends AbstractTestNGUnitTest {
 
+    private BeanFactory beanFactory = Mockito.mock(BeanFactory.class);
+
     @Test
     public void testReceiveSelected() {
         MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
@@ -111,4 +118,78 @@ public class MessageSelectingQueueChannelTest extends AbstractTestNGUnitTest {
         Assert.assertNull(receivedMessage);
         Assert.assertEquals(retries.get(), 4L);
     }
+
+    @Test
+    public void testReceiveSignaledOnSend() throws Exception {
+        MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+        channel.setPollingInterval(5000L);
+
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context);
+        CompletableFuture<Message<?>> receiver = CompletableFuture.supplyAsync(() -> channel.receive(selector, 10000L));
+
+        Thread.sleep(100L);
+        channel.send(MessageBuilder.withPayload("OtherMessage").setHeader("foo", "other").build());
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+
+        long start = System.currentTimeMillis();
+        Message<?> receivedMessage = receiver.get(2000L, TimeUnit.MILLISECONDS);
+
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        Assert.assertTrue(System.currentTimeMillis() - start < 1000L);
+        Assert.assertEquals(channel.getQueueSize(), 1);
+        Assert.assertEquals(channel.receive(0L).getPayload(), "OtherMessage");
+    }
+
+    @Test
+    public void testReceiveSelectedFromIndex() {
+        MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+
+        for (int i = 0; i < 100; i++) {
+            channel.send(MessageBuilder.withPayload("Message" + i).setHeader("index", String.valueOf(i)).setHeader("group", i % 2 == 0 ? "even" : "odd").build());
+        }
+
+        DispatchingMessageSelector selector = new DispatchingMessageSelector("index = '42' AND group = 'even'", beanFactory, context);
+        Message<?> receivedMessage = channel.receive(selector, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Message42");
+
+        Assert.assertNull(channel.receive(selector));
+        Assert.assertNull(channel.receive(new DispatchingMessageSelector("index = '43' AND group = 'even'", beanFactory, context)));
+        Assert.assertEquals(channel.getQueueSize(), 99);
+    }
+
+    @Test
+    public void testNonSelectiveReceiveUpdatesIndex() {
+        MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+        channel.send(MessageBuilder.withPayload("BarMessage").setHeader("foo", "bar").build());
+
+        Assert.assertEquals(channel.receive(0L).getPayload(), "FooMessage");
+
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context);
+        Assert.assertEquals(channel.receive(selector, 100L).getPayload(), "BarMessage");
+        Assert.assertNull(channel.receive(selector, 100L));
+
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+        Assert.assertEquals(channel.clear().size(), 1);
+        Assert.assertNull(channel.receive(selector));
+    }
+
+    @Test
+    public void testSendWaitsForCapacity() throws Exception {
+        MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel(1);
+
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+        Assert.assertFalse(channel.send(MessageBuilder.withPayload("BarMessage").setHeader("foo", "other").build(), 0L));
+
+        CompletableFuture<Boolean> sender = CompletableFuture.supplyAsync(() ->
+                channel.send(MessageBuilder.withPayload("BarMessage").setHeader("foo", "other").build(), 5000L));
+
+        DispatchingMessageSelector selector = new DispatchingMessageSelector("foo = 'bar'", beanFactory, context);
+        Assert.assertEquals(channel.receive(selector, 1000L).getPayload(), "FooMessage");
+        Assert.assertTrue(sender.get(2000L, TimeUnit.MILLISECONDS));
+
+        Assert.assertEquals(channel.receive(new DispatchingMessageSelector("foo = 'other'", beanFactory, context), 1000L).getPayload(), "BarMessage");
+        Assert.assertEquals(channel.getQueueSize(), 0);
+    }
 }
@@ -17,6 +17,7 @@
 package com.consol.citrus.channel.selector;
 
 import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
 import org.springframework.integration.support.MessageBuilder;
 import org.testng.Assert;
@@ -78,4 +79,10 @@ public class XpathPayloadMessageSelectorTest extends UnitTestSupport {
         Assert.assertFalse(messageSelector.accept(MessageBuilder.withPayload(new DefaultMessage("<Bar><text>foobar</text></Bar>")).build()));
         Assert.assertFalse(messageSelector.accept(MessageBuilder.withPayload(new DefaultMessage("This is plain text!")).build()));
     }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testXPathEvaluationError() {
+        XpathPayloadMessageSelector messageSelector = new XpathPayloadMessageSelector("xpath:count('foobar')", "1", context);
+        messageSelector.accept(MessageBuilder.withPayload("<Foo><text>foobar</text></Foo>").build());
+    }
 }
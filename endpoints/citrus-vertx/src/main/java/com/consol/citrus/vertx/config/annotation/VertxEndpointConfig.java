@@ -74,6 +74,18 @@ public @interface VertxEndpointConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Keep subscription between receive operations.
+     * @return
+     */
+    boolean persistentSubscription() default false;
+
+    /**
+     * Maximum number of buffered messages on persistent subscription.
+     * @return
+     */
+    int bufferSize() default 1000;
+
     /**
      * Timeout.
      * @return
@@ -54,6 +54,8 @@ public class VertxEndpointConfigParser implements AnnotationConfigParser<VertxEn
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.persistentSubscription(annotation.persistentSubscription());
+        builder.bufferSize(annotation.bufferSize());
 
         builder.timeout(annotation.timeout());
 
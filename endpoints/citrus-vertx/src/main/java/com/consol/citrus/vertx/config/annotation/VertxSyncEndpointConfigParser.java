@@ -59,6 +59,8 @@ public class VertxSyncEndpointConfigParser implements AnnotationConfigParser<Ver
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.persistentSubscription(annotation.persistentSubscription());
+        builder.bufferSize(annotation.bufferSize());
 
         builder.timeout(annotation.timeout());
 
@@ -16,21 +16,40 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.messaging.AbstractMessageConsumer;
-import io.vertx.core.Handler;
+import com.consol.citrus.message.MessageSelector;
+import com.consol.citrus.message.SignalingBuffer;
+import com.consol.citrus.message.SignalingMessageQueue;
+import com.consol.citrus.message.selector.DelegatingMessageSelector;
+import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.MessageConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
 
 /**
+ * Consumer receives messages from the Vert.x event bus. By default each receive operation registers a new event bus consumer
+ * on the address and unregisters it once a matching message has been received.
+ *
+ * With persistent subscription enabled the consumer registers only once and keeps the subscription until it is unsubscribed.
+ * Raw event bus messages arriving between receive operations are buffered and waiting receivers are woken up as soon as a
+ * message arrives. Buffered messages are converted with the test context of the receive operation that evaluates them, see
+ * {@link SignalingBuffer}.
+ *
+ * When the buffer is full the subscription is paused until receive operations have consumed buffered messages. This is
+ * no backpressure towards the senders: while paused Vert.x keeps up to buffer size messages on the paused consumer and
+ * discards any further message sent to the address.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxConsumer extends AbstractMessageConsumer {
+public class VertxConsumer extends AbstractSelectiveMessageConsumer {
 
     /** Vert.x instance */
     private final Vertx vertx;
@@ -38,12 +57,15 @@ public class VertxConsumer extends AbstractMessageConsumer {
     /** Endpoint configuration */
     private final VertxEndpointConfiguration endpointConfiguration;
 
+    /** Buffer of raw event bus messages received on the persistent subscription */
+    private final SignalingBuffer<io.vertx.core.eventbus.Message<Object>> buffer = new SignalingBuffer<>();
+
+    /** Persistent event bus subscription */
+    private MessageConsumer<Object> subscription;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(VertxConsumer.class);
 
-    /** Retry logger */
-    private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
-
     /**
      * Default constructor using endpoint.
      * @param name
@@ -57,74 +79,118 @@ public class VertxConsumer extends AbstractMessageConsumer {
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
+    public Message receive(String selector, TestContext context, long timeout) {
+        String address = endpointConfiguration.getAddress();
         if (log.isDebugEnabled()) {
-            log.debug("Receiving message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+            log.debug("Receiving message on Vert.x event bus address: '" + address + "'");
         }
 
-        VertxSingleMessageHandler vertxMessageHandler = new VertxSingleMessageHandler();
-        MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), vertxMessageHandler);
+        MessageSelector messageSelector = StringUtils.hasText(selector) ?
+                new DelegatingMessageSelector(selector, context) : new MessageSelector.AllAcceptingMessageSelector();
+
+        Message message;
+        if (endpointConfiguration.isPersistentSubscription()) {
+            subscribe();
+            message = receiveBuffered(messageSelector, context, timeout);
+        } else {
+            SignalingMessageQueue received = new SignalingMessageQueue(getName() + ".receive");
+            MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(address,
+                    event -> received.send(endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, context)));
+
+            try {
+                message = received.receive(messageSelector, timeout);
+            } finally {
+                vertxConsumer.unregister();
+            }
 
-        try {
-            long timeLeft = timeout;
-            Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
+            if (received.getSize() > 0) {
+                log.warn(String.format("Vert.x consumer ignored %s message(s) on event bus address '%s'", received.getSize(), address));
+            }
+        }
 
-            while (message == null && timeLeft > 0) {
-                timeLeft -= endpointConfiguration.getPollingInterval();
+        if (message == null) {
+            throw new MessageTimeoutException(timeout, StringUtils.hasText(selector) ? address + "(" + selector + ")" : address);
+        }
 
-                if (RETRY_LOG.isDebugEnabled()) {
-                    RETRY_LOG.debug(String.format("Waiting for message on Vert.x event bus address '%s' - retrying in %s ms",
-                            endpointConfiguration.getAddress(),
-                            (timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft)));
-                }
+        log.info("Received message on Vert.x event bus address: '" + address + "'");
 
-                try {
-                    Thread.sleep(timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft);
-                } catch (InterruptedException e) {
-                    RETRY_LOG.warn("Thread interrupted while waiting for message on Vert.x event bus", e);
-                }
+        context.onInboundMessage(message);
 
-                message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
-            }
+        return message;
+    }
 
-            if (message == null) {
-                throw new MessageTimeoutException(timeout, endpointConfiguration.getAddress());
-            }
+    /**
+     * Registers persistent subscription on the event bus address if not already done.
+     */
+    private synchronized void subscribe() {
+        if (subscription != null) {
+            return;
+        }
 
-            log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+        if (log.isDebugEnabled()) {
+            log.debug("Subscribing to Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+        }
 
-            context.onInboundMessage(message);
+        MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress());
+        vertxConsumer.setMaxBufferedMessages(endpointConfiguration.getBufferSize());
+        vertxConsumer.handler(event -> {
+            buffer.add(event);
 
-            return message;
-        } finally {
-            vertxConsumer.unregister();
-        }
+            int buffered = buffer.getSize();
+            if (buffered >= endpointConfiguration.getBufferSize()) {
+                log.warn(String.format("Vert.x consumer buffer is full with %s messages - pausing subscription on event bus address '%s', " +
+                        "further messages are discarded once the paused consumer is full", buffered, endpointConfiguration.getAddress()));
+                vertxConsumer.pause();
+            }
+        });
+
+        subscription = vertxConsumer;
     }
 
     /**
-     * Simple Vert.x message handler stores first message received on event bus and ignores all further messages
-     * until subscription is unregistered automatically.
+     * Receives next buffered message that matches the selector. Buffered messages are converted outside of the buffer lock
+     * with the given test context, each message at most once per receive operation. Resumes the paused subscription as soon
+     * as the buffer has free capacity again.
+     * @param selector
+     * @param context
+     * @param timeout
+     * @return the matching message or null on timeout
      */
-    private class VertxSingleMessageHandler implements Handler<io.vertx.core.eventbus.Message<Object>> {
-        private io.vertx.core.eventbus.Message message;
-
-        @Override
-        public void handle(io.vertx.core.eventbus.Message event) {
-            if (message == null) {
-                this.message = event;
-            } else {
-                log.warn("Vert.x message handler ignored message on event bus address '" + endpointConfiguration.getAddress() + "'");
-                log.debug("Vert.x message ignored is " + event);
+    private Message receiveBuffered(MessageSelector selector, TestContext context, long timeout) {
+        Map<io.vertx.core.eventbus.Message<Object>, Message> converted = new IdentityHashMap<>();
+        io.vertx.core.eventbus.Message<Object> event = buffer.poll(candidate -> selector.accept(converted.computeIfAbsent(candidate,
+                key -> endpointConfiguration.getMessageConverter().convertInbound(key, endpointConfiguration, context))), timeout);
+
+        if (event == null) {
+            return null;
+        }
+
+        synchronized (this) {
+            if (subscription != null && buffer.getSize() < endpointConfiguration.getBufferSize()) {
+                subscription.resume();
             }
         }
 
-        /**
-         * Gets the vert.x message received on event bus.
-         * @return
-         */
-        public io.vertx.core.eventbus.Message getMessage() {
-            return message;
+        return converted.get(event);
+    }
+
+    /**
+     * Unregisters persistent subscription from the event bus and discards all buffered messages.
+     */
+    public synchronized void unsubscribe() {
+        if (subscription != null) {
+            subscription.unregister();
+            subscription = null;
         }
+
+        buffer.clear();
     }
 
+    /**
+     * Gets the number of messages currently buffered on the persistent subscription.
+     * @return
+     */
+    public int getBufferedCount() {
+        return buffer.getSize();
+    }
 }
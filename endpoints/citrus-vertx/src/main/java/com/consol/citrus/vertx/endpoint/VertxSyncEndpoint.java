@@ -78,4 +78,13 @@ public class VertxSyncEndpoint extends VertxEndpoint {
 
         return vertxSyncMessageProducer;
     }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+
+        if (vertxSyncMessageConsumer != null) {
+            vertxSyncMessageConsumer.unsubscribe();
+        }
+    }
 }
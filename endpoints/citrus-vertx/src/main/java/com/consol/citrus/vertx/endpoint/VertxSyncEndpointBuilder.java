@@ -105,6 +105,26 @@ public class VertxSyncEndpointBuilder extends AbstractEndpointBuilder<VertxSyncE
         return this;
     }
 
+    /**
+     * Sets the persistent subscription property.
+     * @param persistentSubscription
+     * @return
+     */
+    public VertxSyncEndpointBuilder persistentSubscription(boolean persistentSubscription) {
+        endpoint.getEndpointConfiguration().setPersistentSubscription(persistentSubscription);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of buffered messages on persistent subscription.
+     * @param bufferSize
+     * @return
+     */
+    public VertxSyncEndpointBuilder bufferSize(int bufferSize) {
+        endpoint.getEndpointConfiguration().setBufferSize(bufferSize);
+        return this;
+    }
+
     /**
      * Sets the message correlator.
      * @param correlator
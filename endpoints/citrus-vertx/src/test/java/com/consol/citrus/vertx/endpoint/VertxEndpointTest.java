@@ -16,12 +16,16 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.vertx.factory.SingleVertxInstanceFactory;
 import com.consol.citrus.vertx.message.CitrusVertxMessageHeaders;
+import com.consol.citrus.vertx.message.VertxMessageConverter;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
@@ -129,6 +133,182 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
         verify(messageConsumer).unregister();
     }
 
+    @Test
+    public void testVertxEndpointConsumerSelectiveReceive() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        io.vertx.core.eventbus.Message otherMessage = Mockito.mock(io.vertx.core.eventbus.Message.class);
+
+        reset(vertx, eventBus, messageConsumer, messageMock);
+
+        when(otherMessage.body()).thenReturn("Other message");
+        when(otherMessage.address()).thenReturn("other-feed");
+        when(messageMock.body()).thenReturn("Hello from Vertx!");
+        when(messageMock.address()).thenReturn(eventBusAddress);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(invocation -> {
+            Handler handler = (Handler) invocation.getArguments()[1];
+            handler.handle(otherMessage);
+            handler.handle(messageMock);
+
+            return messageConsumer;
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+        Message receivedMessage = consumer.receive(CitrusVertxMessageHeaders.VERTX_ADDRESS + " = '" + eventBusAddress + "'", context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+
+        verify(messageConsumer).unregister();
+    }
+
+    @Test(expectedExceptions = MessageTimeoutException.class)
+    public void testVertxEndpointConsumerTimeout() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        when(eventBus.consumer(eq(eventBusAddress), any(Handler.class))).thenReturn(messageConsumer);
+
+        try {
+            vertxEndpoint.createConsumer().receive(context, 200L);
+        } finally {
+            verify(messageConsumer).unregister();
+        }
+    }
+
+    @Test
+    public void testVertxEndpointConsumerPersistentSubscription() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+        endpointConfiguration.setBufferSize(2);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer, messageMock);
+
+        when(messageMock.body()).thenReturn("Hello from Vertx!");
+        when(messageMock.address()).thenReturn(eventBusAddress);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        when(eventBus.consumer(eventBusAddress)).thenReturn(messageConsumer);
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+        Assert.assertSame(vertxEndpoint.createConsumer(), consumer);
+
+        try {
+            consumer.receive(context, 100L);
+            Assert.fail("Missing timeout exception");
+        } catch (MessageTimeoutException e) {
+            Assert.assertEquals(consumer.getBufferedCount(), 0);
+        }
+
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        verify(messageConsumer).setMaxBufferedMessages(2);
+        verify(messageConsumer).handler(handler.capture());
+
+        handler.getValue().handle(messageMock);
+        handler.getValue().handle(messageMock);
+        Assert.assertEquals(consumer.getBufferedCount(), 2);
+        verify(messageConsumer).pause();
+
+        Message receivedMessage = consumer.receive(context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+        Assert.assertEquals(consumer.getBufferedCount(), 1);
+        verify(messageConsumer, atLeastOnce()).resume();
+
+        receivedMessage = consumer.receive(context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+
+        verify(eventBus).consumer(eventBusAddress);
+        verify(messageConsumer, never()).unregister();
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxEndpointConsumerPersistentSubscriptionConvertsWithReceiveContext() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+
+        VertxMessageConverter messageConverter = Mockito.mock(VertxMessageConverter.class);
+        endpointConfiguration.setMessageConverter(messageConverter);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer, messageMock);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        when(eventBus.consumer(eventBusAddress)).thenReturn(messageConsumer);
+        when(messageConverter.convertInbound(any(io.vertx.core.eventbus.Message.class), eq(endpointConfiguration), any(TestContext.class)))
+                .thenReturn(new DefaultMessage("Hello from Vertx!"));
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+        try {
+            consumer.receive(context, 10L);
+            Assert.fail("Missing timeout exception");
+        } catch (MessageTimeoutException e) {
+            Assert.assertEquals(consumer.getBufferedCount(), 0);
+        }
+
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        verify(messageConsumer).handler(handler.capture());
+        handler.getValue().handle(messageMock);
+        verify(messageConverter, never()).convertInbound(any(io.vertx.core.eventbus.Message.class), any(VertxEndpointConfiguration.class), any(TestContext.class));
+
+        TestContext otherContext = createTestContext();
+        Message receivedMessage = consumer.receive(otherContext, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+        verify(messageConverter).convertInbound(messageMock, endpointConfiguration, otherContext);
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxSyncEndpointDestroy() {
+        String eventBusAddress = "news-feed";
+        VertxSyncEndpointConfiguration endpointConfiguration = new VertxSyncEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+
+        VertxSyncEndpoint vertxEndpoint = new VertxSyncEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer, messageMock);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        when(eventBus.consumer(eventBusAddress)).thenReturn(messageConsumer);
+
+        try {
+            vertxEndpoint.createConsumer().receive(context, 10L);
+            Assert.fail("Missing timeout exception");
+        } catch (MessageTimeoutException e) {
+            verify(messageConsumer, never()).unregister();
+        }
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
     @Test
     public void testVertxEndpointWithOutboundMessageListeners() {
         String eventBusAddress = "news-feed";
@@ -65,7 +65,8 @@ public class WebSocketClientBuilder extends AbstractEndpointBuilder<WebSocketCli
     }
 
     /**
-     * Sets the polling interval.
+     * Sets the polling interval. Not used by web socket endpoints as receive operations are notified as soon as
+     * a message arrives in the inbound buffer. Kept for configuration compatibility only.
      * @param pollingInterval
      * @return
      */
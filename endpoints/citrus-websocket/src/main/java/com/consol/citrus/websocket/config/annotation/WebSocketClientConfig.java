@@ -51,7 +51,8 @@ public @interface WebSocketClientConfig {
     String messageConverter() default  "";
 
     /**
-     * Polling interval.
+     * Polling interval. Not used as receive operations are notified as soon as a message arrives, kept for
+     * configuration compatibility only.
      * @return
      */
     int pollingInterval() default 500;
@@ -16,16 +16,27 @@
 
 package com.consol.citrus.websocket.endpoint;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageSelector;
+import com.consol.citrus.message.selector.DelegatingMessageSelector;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.websocket.handler.WebSocketInboundBuffer;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.util.StringUtils;
 
 /**
- * Consumer polls for incoming messages on web socket handler.
+ * Consumer receives incoming messages from the web socket handler inbound buffer. Receive blocks until a message arrives and
+ * supports message selectors e.g. on the session id header or the message payload.
  * @author Martin Maher
  * @since 2.3
  */
@@ -52,10 +63,39 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
-        LOG.info(String.format("Waiting %s ms for Web Socket message ...", timeout));
+        String endpointUri = endpointConfiguration.getEndpointUri();
+        if (StringUtils.hasText(selector)) {
+            LOG.info(String.format("Waiting %s ms for Web Socket message matching '%s' ...", timeout, selector));
+        } else {
+            LOG.info(String.format("Waiting %s ms for Web Socket message ...", timeout));
+        }
+
+        // messages are converted with the context of this receive operation, each message at most once
+        Map<WebSocketInboundBuffer.InboundMessage, Message> converted = new IdentityHashMap<>();
+        Function<WebSocketInboundBuffer.InboundMessage, Message> converter =
+                inbound -> converted.computeIfAbsent(inbound, key -> convertInbound(key, context));
+
+        Predicate<WebSocketInboundBuffer.InboundMessage> messageSelector;
+        if (StringUtils.hasText(selector)) {
+            MessageSelector delegate = new DelegatingMessageSelector(selector, context);
+            messageSelector = inbound -> delegate.accept(converter.apply(inbound));
+        } else {
+            messageSelector = inbound -> true;
+        }
 
-        WebSocketMessage<?> message = receive(endpointConfiguration, timeout);
-        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context);
+        WebSocketInboundBuffer.InboundMessage message;
+        try {
+            message = endpointConfiguration.getHandler().getMessage(messageSelector, timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Thread interrupted while waiting for message on '%s'", endpointUri), e);
+        }
+
+        if (message == null) {
+            throw new MessageTimeoutException(timeout, endpointUri);
+        }
+
+        Message receivedMessage = converter.apply(message);
 
         LOG.info("Received Web Socket message");
         context.onInboundMessage(receivedMessage);
@@ -64,36 +104,13 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     }
 
     /**
-     * Receive web socket message by polling on web socket handler for incoming message.
-     * @param config
-     * @param timeout
+     * Converts web socket message to internal message representation adding the session id header.
+     * @param inbound
+     * @param context
      * @return
      */
-    private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, long timeout) {
-        long timeLeft = timeout;
-
-        WebSocketMessage<?> message = config.getHandler().getMessage();
-        String endpointUri = endpointConfiguration.getEndpointUri();
-        while (message == null && timeLeft > 0) {
-            timeLeft -= endpointConfiguration.getPollingInterval();
-            long sleep = timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft;
-            if (LOG.isDebugEnabled()) {
-                String msg = "Waiting for message on '%s' - retrying in %s ms";
-                LOG.debug(String.format(msg, endpointUri, (sleep)));
-            }
-
-            try {
-                Thread.sleep(sleep);
-            } catch (InterruptedException e) {
-                LOG.warn(String.format("Thread interrupted while waiting for message on '%s'", endpointUri), e);
-            }
-
-            message = config.getHandler().getMessage();
-        }
-
-        if (message == null) {
-            throw new MessageTimeoutException(timeout, endpointUri);
-        }
-        return message;
+    private Message convertInbound(WebSocketInboundBuffer.InboundMessage inbound, TestContext context) {
+        return endpointConfiguration.getMessageConverter().convertInbound(inbound.getMessage(), endpointConfiguration, context)
+                .setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, inbound.getSessionId());
     }
 }
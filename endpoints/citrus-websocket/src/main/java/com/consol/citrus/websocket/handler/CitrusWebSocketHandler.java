@@ -22,10 +22,9 @@ import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 /**
  * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
@@ -37,11 +36,26 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
-    /** Inbound message cache */
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    /** Inbound message buffer */
+    private final WebSocketInboundBuffer inboundMessages;
 
     /** Web socket sessions */
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor using default inbound buffer capacity.
+     */
+    public CitrusWebSocketHandler() {
+        this(new WebSocketInboundBuffer());
+    }
+
+    /**
+     * Constructor using inbound message buffer.
+     * @param inboundMessages
+     */
+    public CitrusWebSocketHandler(WebSocketInboundBuffer inboundMessages) {
+        this.inboundMessages = inboundMessages;
+    }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -52,19 +66,19 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received text message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session, message);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received binary message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session, message);
     }
 
     @Override
     protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received pong message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session, message);
     }
 
     @Override
@@ -78,12 +92,45 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         sessions.remove(session.getId());
     }
 
+    /**
+     * Adds message to inbound buffer. Blocks while the session's inbound buffer is full.
+     * @param session
+     * @param message
+     * @throws InterruptedException
+     */
+    private void addInboundMessage(WebSocketSession session, WebSocketMessage<?> message) throws InterruptedException {
+        if (!inboundMessages.offer(session.getId(), message, session::isOpen)) {
+            LOG.warn(String.format("WebSocket session (%s) closed while inbound buffer is full - discarding message", session.getId()));
+        }
+    }
+
     /**
      * Polls message from internal cache.
      * @return
      */
     public WebSocketMessage<?> getMessage() {
-        return inboundMessages.poll();
+        WebSocketInboundBuffer.InboundMessage inbound = inboundMessages.poll(message -> true);
+        return inbound != null ? inbound.getMessage() : null;
+    }
+
+    /**
+     * Removes first message accepted by given selector from internal cache. Waits for a matching message to arrive
+     * until the timeout is reached.
+     * @param selector
+     * @param timeout
+     * @return the message or null on timeout.
+     * @throws InterruptedException
+     */
+    public WebSocketInboundBuffer.InboundMessage getMessage(Predicate<WebSocketInboundBuffer.InboundMessage> selector, long timeout) throws InterruptedException {
+        return inboundMessages.poll(selector, timeout);
+    }
+
+    /**
+     * Gets the inbound message buffer.
+     * @return
+     */
+    public WebSocketInboundBuffer getInboundMessages() {
+        return inboundMessages;
     }
 
     /**
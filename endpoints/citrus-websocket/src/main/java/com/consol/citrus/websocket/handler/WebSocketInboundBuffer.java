@@ -0,0 +1,211 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.websocket.handler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import com.consol.citrus.message.SignalingBuffer;
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * Thread safe buffer for inbound web socket messages. Messages keep their arrival order across all sessions and are bounded
+ * per session. Consumers waiting for a message are woken up as soon as a matching message arrives.
+ *
+ * Messages are buffered as raw web socket messages, see {@link SignalingBuffer}. Selectors are evaluated outside of the buffer
+ * lock, so each consumer converts messages with its own test context without blocking the session handler threads.
+ *
+ * When a session has reached the buffer capacity the handler thread of that session is blocked until consumers take messages
+ * from the buffer. This applies backpressure to the remote peer instead of growing the buffer without limit.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public class WebSocketInboundBuffer {
+
+    /** Maximum number of buffered messages per session */
+    public static final String CAPACITY_PROPERTY = "citrus.websocket.inbound.buffer.capacity";
+    public static final String CAPACITY_ENV = "CITRUS_WEBSOCKET_INBOUND_BUFFER_CAPACITY";
+    public static final int CAPACITY = Integer.parseInt(System.getProperty(CAPACITY_PROPERTY, System.getenv(CAPACITY_ENV) != null ?
+            System.getenv(CAPACITY_ENV) : "1000"));
+
+    /** Interval to check if a blocked session is still active */
+    private static final long OFFER_CHECK_INTERVAL = 100L;
+
+    /** Maximum number of buffered messages per session */
+    private final int capacity;
+
+    /** Buffered messages in arrival order */
+    private final SignalingBuffer<InboundMessage> messages = new SignalingBuffer<>();
+
+    /** Number of buffered messages per session */
+    private final Map<String, Integer> sessionCounts = new HashMap<>();
+
+    /** Lock guarding session counts */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messageRemoved = lock.newCondition();
+
+    /**
+     * Default constructor using default capacity.
+     */
+    public WebSocketInboundBuffer() {
+        this(CAPACITY);
+    }
+
+    /**
+     * Constructor using maximum number of buffered messages per session.
+     * @param capacity
+     */
+    public WebSocketInboundBuffer(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds message received on given session. Blocks as long as the session has reached the buffer capacity and
+     * given active condition holds.
+     * @param sessionId
+     * @param message
+     * @param active
+     * @return false when the message has not been added because the session became inactive while waiting.
+     * @throws InterruptedException
+     */
+    public boolean offer(String sessionId, WebSocketMessage<?> message, BooleanSupplier active) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (sessionCounts.getOrDefault(sessionId, 0) >= capacity) {
+                if (!active.getAsBoolean()) {
+                    return false;
+                }
+
+                messageRemoved.await(OFFER_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+            }
+
+            sessionCounts.merge(sessionId, 1, Integer::sum);
+        } finally {
+            lock.unlock();
+        }
+
+        messages.add(new InboundMessage(sessionId, message));
+        return true;
+    }
+
+    /**
+     * Removes the first message accepted by given selector. Returns immediately with null when no such message is present.
+     * @param selector
+     * @return
+     */
+    public InboundMessage poll(Predicate<InboundMessage> selector) {
+        return released(messages.poll(selector));
+    }
+
+    /**
+     * Removes the first message accepted by given selector. Waits for the message to arrive until the timeout is reached.
+     * @param selector
+     * @param timeout
+     * @return the message or null on timeout.
+     * @throws InterruptedException
+     */
+    public InboundMessage poll(Predicate<InboundMessage> selector, long timeout) throws InterruptedException {
+        InboundMessage message = messages.poll(selector, timeout);
+        if (message == null && Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        return released(message);
+    }
+
+    /**
+     * Gets the number of buffered messages.
+     * @return
+     */
+    public int size() {
+        return messages.getSize();
+    }
+
+    /**
+     * Gets the number of buffered messages of given session.
+     * @param sessionId
+     * @return
+     */
+    public int size(String sessionId) {
+        lock.lock();
+        try {
+            return sessionCounts.getOrDefault(sessionId, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the buffer capacity of a message that has been taken from the buffer and wakes up blocked sessions.
+     * @param message
+     * @return
+     */
+    private InboundMessage released(InboundMessage message) {
+        if (message == null) {
+            return null;
+        }
+
+        lock.lock();
+        try {
+            if (sessionCounts.merge(message.getSessionId(), -1, Integer::sum) <= 0) {
+                sessionCounts.remove(message.getSessionId());
+            }
+
+            messageRemoved.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        return message;
+    }
+
+    /**
+     * Inbound message with the id of the session it has been received on.
+     */
+    public static final class InboundMessage {
+        private final String sessionId;
+        private final WebSocketMessage<?> message;
+
+        InboundMessage(String sessionId, WebSocketMessage<?> message) {
+            this.sessionId = sessionId;
+            this.message = message;
+        }
+
+        /**
+         * Gets the session id.
+         * @return
+         */
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        /**
+         * Gets the message.
+         * @return
+         */
+        public WebSocketMessage<?> getMessage() {
+            return message;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
 import com.consol.citrus.websocket.message.WebSocketMessage;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import com.consol.citrus.websocket.server.WebSocketServerEndpointConfiguration;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -143,6 +144,70 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
 
     }
 
+    @Test
+    public void testWebSocketEndpointSelectiveReceive() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session, session2);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session.isOpen()).thenReturn(true);
+        when(session2.getId()).thenReturn("test-socket-2");
+        when(session2.isOpen()).thenReturn(true);
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+        handler.handleMessage(session, new TextMessage("Hello from 1"));
+        handler.handleMessage(session2, new TextMessage("Hello from 2"));
+        handler.handleMessage(session, new TextMessage("Bye from 1"));
+
+        WebSocketConsumer consumer = (WebSocketConsumer) webSocketEndpoint.createConsumer();
+
+        Message received = consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-2'", context, 1000L);
+        Assert.assertEquals(received.getPayload(), "Hello from 2");
+        Assert.assertEquals(received.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-2");
+
+        received = consumer.receive("payload = 'Bye from 1'", context, 1000L);
+        Assert.assertEquals(received.getPayload(), "Bye from 1");
+
+        received = consumer.receive(context, 1000L);
+        Assert.assertEquals(received.getPayload(), "Hello from 1");
+        Assert.assertEquals(received.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-1");
+    }
+
+    @Test
+    public void testWebSocketEndpointReceiveWakeUp() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session.isOpen()).thenReturn(true);
+        handler.afterConnectionEstablished(session);
+
+        Thread sender = new Thread(() -> {
+            try {
+                Thread.sleep(200L);
+                handler.handleMessage(session, new TextMessage("Hello"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        sender.start();
+
+        Message received = webSocketEndpoint.createConsumer().receive(context, 10000L);
+        Assert.assertEquals(received.getPayload(), "Hello");
+        sender.join();
+    }
+
     @Test
     public void testWebSocketEndpointTimeout() throws Exception {
         WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.websocket.handler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.web.socket.TextMessage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class WebSocketInboundBufferTest {
+
+    @Test
+    public void testSelectivePoll() throws InterruptedException {
+        WebSocketInboundBuffer buffer = new WebSocketInboundBuffer();
+        buffer.offer("session-1", new TextMessage("a"), () -> true);
+        buffer.offer("session-2", new TextMessage("b"), () -> true);
+        buffer.offer("session-1", new TextMessage("c"), () -> true);
+
+        Assert.assertEquals(buffer.size(), 3);
+        Assert.assertEquals(buffer.size("session-1"), 2);
+
+        WebSocketInboundBuffer.InboundMessage message = buffer.poll(msg -> msg.getSessionId().equals("session-2"));
+        Assert.assertEquals(message.getSessionId(), "session-2");
+        Assert.assertEquals(message.getMessage().getPayload(), "b");
+        Assert.assertEquals(buffer.size("session-2"), 0);
+
+        Assert.assertEquals(buffer.poll(msg -> true).getMessage().getPayload(), "a");
+        Assert.assertEquals(buffer.poll(msg -> true, 100L).getMessage().getPayload(), "c");
+        Assert.assertNull(buffer.poll(msg -> true, 100L));
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        WebSocketInboundBuffer buffer = new WebSocketInboundBuffer(1);
+        buffer.offer("session-1", new TextMessage("a"), () -> true);
+
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> {
+            try {
+                return buffer.offer("session-1", new TextMessage("b"), () -> true);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Assert.assertTrue(buffer.offer("session-2", new TextMessage("c"), () -> true));
+        Thread.sleep(200L);
+        Assert.assertFalse(blocked.isDone());
+
+        Assert.assertEquals(buffer.poll(msg -> msg.getSessionId().equals("session-1")).getMessage().getPayload(), "a");
+        Assert.assertTrue(blocked.get(5000L, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(buffer.size("session-1"), 1);
+    }
+
+    @Test
+    public void testOfferOnInactiveSession() throws InterruptedException {
+        WebSocketInboundBuffer buffer = new WebSocketInboundBuffer(1);
+        AtomicBoolean active = new AtomicBoolean(true);
+
+        Assert.assertTrue(buffer.offer("session-1", new TextMessage("a"), active::get));
+        active.set(false);
+        Assert.assertFalse(buffer.offer("session-1", new TextMessage("b"), active::get));
+        Assert.assertEquals(buffer.size(), 1);
+    }
+
+    @Test
+    public void testEvaluateOncePerPoll() throws Exception {
+        WebSocketInboundBuffer buffer = new WebSocketInboundBuffer();
+        AtomicInteger evaluations = new AtomicInteger();
+
+        buffer.offer("session-1", new TextMessage("a"), () -> true);
+
+        CompletableFuture<WebSocketInboundBuffer.InboundMessage> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return buffer.poll(msg -> {
+                    evaluations.incrementAndGet();
+                    return msg.getMessage().getPayload().equals("c");
+                }, 5000L);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        buffer.offer("session-1", new TextMessage("b"), () -> true);
+        buffer.offer("session-2", new TextMessage("c"), () -> true);
+
+        WebSocketInboundBuffer.InboundMessage message = waiting.get(5000L, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(message.getSessionId(), "session-2");
+        Assert.assertEquals(evaluations.get(), 3);
+        Assert.assertEquals(buffer.size(), 2);
+        Assert.assertEquals(buffer.size("session-2"), 0);
+    }
+}
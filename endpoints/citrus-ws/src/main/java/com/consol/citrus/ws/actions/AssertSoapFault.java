@@ -101,7 +101,7 @@ public class AssertSoapFault extends AbstractActionContainer {
         log.debug("Asserting SOAP fault ...");
 
         try {
-            action.execute(context);
+            executeNested(action, context);
         } catch (SoapFaultClientException soapFaultException) {
             log.debug("Validating SOAP fault ...");
 
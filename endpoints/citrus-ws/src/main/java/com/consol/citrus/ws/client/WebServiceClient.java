@@ -16,9 +16,7 @@
 
 package com.consol.citrus.ws.client;
 
-import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import java.io.IOException;
 
 import com.consol.citrus.context.TestContext;
@@ -37,7 +35,7 @@ import com.consol.citrus.ws.interceptor.LoggingClientInterceptor;
 import com.consol.citrus.ws.message.SoapMessage;
 import com.consol.citrus.ws.message.callback.SoapRequestMessageCallback;
 import com.consol.citrus.ws.message.callback.SoapResponseMessageCallback;
-import com.consol.citrus.xml.StringResult;
+import com.consol.citrus.ws.util.TransformerProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
@@ -238,13 +236,7 @@ public class WebServiceClient extends AbstractEndpoint implements Producer, Repl
                     Message responseMessage = callback.getResponse();
 
                     if (webServiceResponse instanceof org.springframework.ws.soap.SoapMessage) {
-                        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                        Transformer transformer = transformerFactory.newTransformer();
-
-                        StringResult faultPayload = new StringResult();
-                        transformer.transform(((org.springframework.ws.soap.SoapMessage)webServiceResponse).getSoapBody().getFault().getSource(), faultPayload);
-
-                        responseMessage.setPayload(faultPayload.toString());
+                        responseMessage.setPayload(TransformerProvider.toString(((org.springframework.ws.soap.SoapMessage)webServiceResponse).getSoapBody().getFault().getSource()));
                     }
 
                     log.info("Received SOAP fault response on endpoint: '" + endpointUri + "'");
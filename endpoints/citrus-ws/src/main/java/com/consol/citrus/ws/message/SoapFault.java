@@ -17,10 +17,7 @@
 package com.consol.citrus.ws.message;
 
 import javax.xml.namespace.QName;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -28,7 +25,7 @@ import java.util.Locale;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.xml.StringResult;
+import com.consol.citrus.ws.util.TransformerProvider;
 import org.springframework.beans.propertyeditors.LocaleEditor;
 import org.springframework.util.StringUtils;
 import org.springframework.ws.soap.SoapFaultDetailElement;
@@ -231,20 +228,11 @@ public class SoapFault extends SoapMessage {
      * @return
      */
     private static String extractFaultDetail(SoapFaultDetailElement detail) {
-        StringResult detailResult = new StringResult();
-
         try {
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-
-            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-
-            transformer.transform(detail.getSource(), detailResult);
+            return TransformerProvider.toFragmentString(detail.getSource());
         } catch (TransformerException e) {
             throw new CitrusRuntimeException(e);
         }
-
-        return detailResult.toString();
     }
 
     /**
@@ -20,11 +20,8 @@ import javax.servlet.http.HttpServletRequest;
 import javax.xml.namespace.QName;
 import javax.xml.soap.MimeHeader;
 import javax.xml.soap.MimeHeaders;
-import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -38,6 +35,7 @@ import java.util.Map.Entry;
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.LazyPayload;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageHeaderUtils;
 import com.consol.citrus.message.MessageHeaders;
@@ -45,7 +43,7 @@ import com.consol.citrus.ws.client.WebServiceEndpointConfiguration;
 import com.consol.citrus.ws.message.SoapAttachment;
 import com.consol.citrus.ws.message.SoapMessage;
 import com.consol.citrus.ws.message.SoapMessageHeaders;
-import com.consol.citrus.xml.StringResult;
+import com.consol.citrus.ws.util.TransformerProvider;
 import com.consol.citrus.xml.StringSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,9 +76,18 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(SoapMessageConverter.class);
 
+    /** Inbound payload conversion setting */
+    public static final String LAZY_PAYLOAD_PROPERTY = "citrus.ws.lazy.payload";
+    public static final String LAZY_PAYLOAD_ENV = "CITRUS_WS_LAZY_PAYLOAD";
+    public static final boolean LAZY_PAYLOAD = Boolean.parseBoolean(System.getProperty(LAZY_PAYLOAD_PROPERTY, System.getenv(LAZY_PAYLOAD_ENV) != null ?
+            System.getenv(LAZY_PAYLOAD_ENV) : "false"));
+
     /** Default payload source encoding */
     private String charset = CitrusSettings.CITRUS_FILE_ENCODING;
 
+    /** Keep inbound DOM payload until payload is accessed */
+    private boolean lazyPayload = LAZY_PAYLOAD;
+
     @Override
     public WebServiceMessage convertOutbound(final Message internalMessage,
                                              final WebServiceEndpointConfiguration endpointConfiguration,
@@ -99,10 +106,9 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
 
         final SoapMessage soapMessage = convertMessageToSoapMessage(message);
 
-        final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        copySoapPayload(soapRequest, soapMessage, transformerFactory);
+        copySoapPayload(soapRequest, soapMessage);
         copySoapHeaders(endpointConfiguration, soapRequest, soapMessage);
-        copySoapHeaderData(soapRequest, soapMessage, transformerFactory);
+        copySoapHeaderData(soapRequest, soapMessage);
 
         if (soapMessage.isMtomEnabled() && soapMessage.getAttachments().size() > 0) {
             log.debug("Converting SOAP request to XOP package");
@@ -124,20 +130,26 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
                                       final MessageContext messageContext,
                                       final WebServiceEndpointConfiguration endpointConfiguration) {
         try {
-            String payload = "";
+            Object payload = "";
 
             if (endpointConfiguration.isKeepSoapEnvelope()) {
                 final ByteArrayOutputStream bos = new ByteArrayOutputStream();
                 webServiceMessage.writeTo(bos);
                 payload = bos.toString(charset);
             } else if (webServiceMessage.getPayloadSource() != null) {
-                final StringResult payloadResult = new StringResult();
-
-                final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                final Transformer transformer = transformerFactory.newTransformer();
-                transformer.transform(webServiceMessage.getPayloadSource(), payloadResult);
-
-                payload = payloadResult.toString();
+                final Source payloadSource = webServiceMessage.getPayloadSource();
+
+                if (lazyPayload && payloadSource instanceof DOMSource) {
+                    payload = (LazyPayload) () -> {
+                        try {
+                            return TransformerProvider.toString(payloadSource);
+                        } catch (final TransformerException e) {
+                            throw new CitrusRuntimeException("Failed to read web service message payload source", e);
+                        }
+                    };
+                } else {
+                    payload = TransformerProvider.toString(payloadSource);
+                }
             }
 
             final SoapMessage message = new SoapMessage(payload);
@@ -277,12 +289,7 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
                 }
 
                 if (soapHeader.getSource() != null) {
-                    final StringResult headerData = new StringResult();
-                    final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                    final Transformer transformer = transformerFactory.newTransformer();
-                    transformer.transform(soapHeader.getSource(), headerData);
-
-                    message.addHeaderData(headerData.toString());
+                    message.addHeaderData(TransformerProvider.toString(soapHeader.getSource()));
                 }
             }
 
@@ -454,13 +461,10 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
     }
 
     private void copySoapHeaderData(final org.springframework.ws.soap.SoapMessage soapRequest,
-                                    final SoapMessage soapMessage,
-                                    final TransformerFactory transformerFactory) {
+                                    final SoapMessage soapMessage) {
         for (final String headerData : soapMessage.getHeaderData()) {
             try {
-                final Transformer transformer = transformerFactory.newTransformer();
-                transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-                transformer.transform(new StringSource(headerData),
+                TransformerProvider.transformFragment(new StringSource(headerData),
                         soapRequest.getSoapHeader().getResult());
             } catch (final TransformerException e) {
                 throw new CitrusRuntimeException("Failed to write SOAP header content", e);
@@ -468,15 +472,32 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
         }
     }
 
-    private void copySoapPayload(final org.springframework.ws.soap.SoapMessage soapRequest, final SoapMessage soapMessage, final TransformerFactory transformerFactory) {
-        final String payload = soapMessage.getPayload(String.class);
-        if (StringUtils.hasText(payload)) {
-            try {
-                final Transformer transformer = transformerFactory.newTransformer();
-                transformer.transform(new StringSource(payload), soapRequest.getSoapBody().getPayloadResult());
-            } catch (final TransformerException e) {
-                throw new CitrusRuntimeException("Failed to write SOAP body payload", e);
+    /**
+     * Copies message payload to the SOAP body. DOM and source payloads are copied directly without serializing them to String first.
+     * @param soapRequest
+     * @param soapMessage
+     */
+    private void copySoapPayload(final org.springframework.ws.soap.SoapMessage soapRequest, final SoapMessage soapMessage) {
+        final Object payload = soapMessage.getPayload();
+
+        final Source payloadSource;
+        if (payload instanceof Source) {
+            payloadSource = (Source) payload;
+        } else if (payload instanceof Node) {
+            payloadSource = new DOMSource((Node) payload);
+        } else {
+            final String payloadString = soapMessage.getPayload(String.class);
+            if (!StringUtils.hasText(payloadString)) {
+                return;
             }
+
+            payloadSource = new StringSource(payloadString);
+        }
+
+        try {
+            TransformerProvider.transform(payloadSource, soapRequest.getSoapBody().getPayloadResult());
+        } catch (final TransformerException e) {
+            throw new CitrusRuntimeException("Failed to write SOAP body payload", e);
         }
     }
     private void copySoapAttachments(final TestContext context,
@@ -496,6 +517,24 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
         }
     }
 
+    /**
+     * Gets the lazy payload flag.
+     * @return
+     */
+    public boolean isLazyPayload() {
+        return lazyPayload;
+    }
+
+    /**
+     * Enables lazy payload conversion. When enabled inbound DOM payloads are serialized to String on first access only.
+     * The message keeps a reference to the DOM payload source until then, so the inbound web service message must not be
+     * modified after conversion.
+     * @param lazyPayload
+     */
+    public void setLazyPayload(final boolean lazyPayload) {
+        this.lazyPayload = lazyPayload;
+    }
+
     public String getCharset() {
         return charset;
     }
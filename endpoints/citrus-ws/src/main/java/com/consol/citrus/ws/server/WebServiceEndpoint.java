@@ -18,11 +18,8 @@ package com.consol.citrus.ws.server;
 
 import javax.xml.namespace.QName;
 import javax.xml.soap.MimeHeaders;
-import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import java.io.IOException;
 import java.util.List;
@@ -38,6 +35,7 @@ import com.consol.citrus.ws.client.WebServiceEndpointConfiguration;
 import com.consol.citrus.ws.message.SoapAttachment;
 import com.consol.citrus.ws.message.SoapFault;
 import com.consol.citrus.ws.message.SoapMessageHeaders;
+import com.consol.citrus.ws.util.TransformerProvider;
 import com.consol.citrus.xml.StringSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -215,10 +213,7 @@ public class WebServiceEndpoint implements MessageEndpoint {
                 StringUtils.hasText(replyMessage.getPayload(String.class))) {
             Source responseSource = getPayloadAsSource(replyMessage.getPayload());
 
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-
-            transformer.transform(responseSource, response.getPayloadResult());
+            TransformerProvider.transform(responseSource, response.getPayloadResult());
         }
     }
 
@@ -256,10 +251,7 @@ public class WebServiceEndpoint implements MessageEndpoint {
         }
 
         for (String headerData : replyMessage.getHeaderData()) {
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-
-            transformer.transform(new StringSource(headerData),
+            TransformerProvider.transform(new StringSource(headerData),
                     response.getSoapHeader().getResult());
         }
     }
@@ -305,14 +297,9 @@ public class WebServiceEndpoint implements MessageEndpoint {
 
         List<String> soapFaultDetails = replyMessage.getFaultDetails();
         if (!soapFaultDetails.isEmpty()) {
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-
-            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-
             SoapFaultDetail faultDetail = soapFault.addFaultDetail();
             for (int i = 0; i < soapFaultDetails.size(); i++) {
-                transformer.transform(new StringSource(soapFaultDetails.get(i)), faultDetail.getResult());
+                TransformerProvider.transformFragment(new StringSource(soapFaultDetails.get(i)), faultDetail.getResult());
             }
         }
     }
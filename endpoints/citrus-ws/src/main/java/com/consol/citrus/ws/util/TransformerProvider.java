@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.ws.util;
+
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.xml.StringResult;
+
+/**
+ * Provides identity transformers used to copy SOAP payloads, headers and fault details from and to SOAP messages.
+ * Transformer factory is looked up only once. Transformers are not thread safe and therefore are cached per thread and reused
+ * for subsequent transformations on that thread.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public final class TransformerProvider {
+
+    /** Shared transformer factory */
+    private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
+
+    /** Thread confined transformers writing complete documents */
+    private static final ThreadLocal<Transformer> DOCUMENT_TRANSFORMER = ThreadLocal.withInitial(() -> newTransformer(false));
+
+    /** Thread confined transformers writing fragments without XML declaration */
+    private static final ThreadLocal<Transformer> FRAGMENT_TRANSFORMER = ThreadLocal.withInitial(() -> newTransformer(true));
+
+    /**
+     * Prevent instantiation.
+     */
+    private TransformerProvider() {
+    }
+
+    /**
+     * Copies given source to result.
+     * @param source
+     * @param result
+     * @throws TransformerException
+     */
+    public static void transform(Source source, Result result) throws TransformerException {
+        transform(DOCUMENT_TRANSFORMER, source, result);
+    }
+
+    /**
+     * Copies given source to result omitting the XML declaration.
+     * @param source
+     * @param result
+     * @throws TransformerException
+     */
+    public static void transformFragment(Source source, Result result) throws TransformerException {
+        transform(FRAGMENT_TRANSFORMER, source, result);
+    }
+
+    /**
+     * Serializes given source to String.
+     * @param source
+     * @return
+     * @throws TransformerException
+     */
+    public static String toString(Source source) throws TransformerException {
+        StringResult result = new StringResult();
+        transform(source, result);
+        return result.toString();
+    }
+
+    /**
+     * Serializes given source to String omitting the XML declaration.
+     * @param source
+     * @return
+     * @throws TransformerException
+     */
+    public static String toFragmentString(Source source) throws TransformerException {
+        StringResult result = new StringResult();
+        transformFragment(source, result);
+        return result.toString();
+    }
+
+    /**
+     * Transforms source to result with the current thread's transformer. Transformer is discarded on errors
+     * as it may be left in an inconsistent state.
+     * @param transformers
+     * @param source
+     * @param result
+     * @throws TransformerException
+     */
+    private static void transform(ThreadLocal<Transformer> transformers, Source source, Result result) throws TransformerException {
+        boolean success = false;
+        try {
+            transformers.get().transform(source, result);
+            success = true;
+        } finally {
+            if (!success) {
+                transformers.remove();
+            }
+        }
+    }
+
+    /**
+     * Creates new identity transformer.
+     * @param omitXmlDeclaration
+     * @return
+     */
+    private static Transformer newTransformer(boolean omitXmlDeclaration) {
+        try {
+            Transformer transformer;
+            synchronized (TRANSFORMER_FACTORY) {
+                transformer = TRANSFORMER_FACTORY.newTransformer();
+            }
+
+            if (omitXmlDeclaration) {
+                transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+            }
+
+            return transformer;
+        } catch (TransformerConfigurationException e) {
+            throw new CitrusRuntimeException("Failed to create XML transformer", e);
+        }
+    }
+}
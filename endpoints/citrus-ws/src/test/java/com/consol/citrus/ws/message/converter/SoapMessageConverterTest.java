@@ -29,6 +29,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
@@ -55,6 +56,7 @@ import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.w3c.dom.Node;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
@@ -113,6 +115,20 @@ public class SoapMessageConverterTest extends AbstractTestNGUnitTest {
 
     }
 
+    @Test
+    public void testOutboundSoapBodyDocumentPayload() {
+        final Message testMessage = new DefaultMessage(XMLUtils.parseMessagePayload(payload));
+
+        final StringResult soapBodyResult = new StringResult();
+
+        when(soapRequest.getSoapBody()).thenReturn(soapBody);
+        when(soapBody.getPayloadResult()).thenReturn(soapBodyResult);
+
+        soapMessageConverter.convertOutbound(soapRequest, testMessage, new WebServiceEndpointConfiguration(), context);
+
+        Assert.assertTrue(soapBodyResult.toString().endsWith(payload));
+    }
+
     @Test
     public void testOutboundSoapBody() {
         final Message testMessage = new DefaultMessage(payload);
@@ -330,6 +346,37 @@ public class SoapMessageConverterTest extends AbstractTestNGUnitTest {
 
     }
 
+    @Test
+    public void testInboundSoapBodyLazyPayload() {
+        final SoapMessageConverter lazyMessageConverter = new SoapMessageConverter();
+        lazyMessageConverter.setLazyPayload(true);
+
+        final AtomicInteger nodeAccess = new AtomicInteger();
+        final DOMSource soapBodySource = new DOMSource(XMLUtils.parseMessagePayload(payload)) {
+            @Override
+            public Node getNode() {
+                nodeAccess.incrementAndGet();
+                return super.getNode();
+            }
+        };
+
+        when(soapResponse.getEnvelope()).thenReturn(soapEnvelope);
+        when(soapEnvelope.getSource()).thenReturn(new StringSource(getSoapRequestPayload()));
+        when(soapResponse.getPayloadSource()).thenReturn(soapBodySource);
+        when(soapResponse.getSoapHeader()).thenReturn(soapHeader);
+        when(soapEnvelope.getHeader()).thenReturn(soapHeader);
+        when(soapHeader.examineAllHeaderElements()).thenReturn(new HashSet<SoapHeaderElement>().iterator());
+        when(soapHeader.getSource()).thenReturn(null);
+
+        when(soapResponse.getAttachments()).thenReturn(new HashSet<Attachment>().iterator());
+
+        final Message responseMessage = lazyMessageConverter.convertInbound(soapResponse, new WebServiceEndpointConfiguration(), context);
+        Assert.assertEquals(nodeAccess.get(), 0);
+
+        Assert.assertTrue(responseMessage.getPayload(String.class).endsWith(payload));
+        Assert.assertTrue(responseMessage.getPayload() instanceof String);
+    }
+
     @Test
     public void testInboundSoapBodyOnlyRootElement() {
         final StringSource soapBodySource = new StringSource("<testMessage/>");
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.ws.util;
+
+import javax.xml.transform.TransformerException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.consol.citrus.xml.StringResult;
+import com.consol.citrus.xml.StringSource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class TransformerProviderTest {
+
+    private static final String XML_PROCESSING_INSTRUCTION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>";
+
+    @Test
+    public void testTransform() throws TransformerException {
+        StringResult result = new StringResult();
+        TransformerProvider.transform(new StringSource("<Hello>World</Hello>"), result);
+        Assert.assertEquals(result.toString(), XML_PROCESSING_INSTRUCTION + "<Hello>World</Hello>");
+
+        Assert.assertEquals(TransformerProvider.toString(new StringSource("<Bye/>")), XML_PROCESSING_INSTRUCTION + "<Bye/>");
+        Assert.assertEquals(TransformerProvider.toFragmentString(new StringSource("<Bye/>")), "<Bye/>");
+    }
+
+    @Test
+    public void testTransformAfterError() throws TransformerException {
+        try {
+            TransformerProvider.toString(new StringSource("<Hello>"));
+            Assert.fail("Missing exception due to invalid XML");
+        } catch (TransformerException e) {
+            Assert.assertEquals(TransformerProvider.toString(new StringSource("<Hello/>")), XML_PROCESSING_INSTRUCTION + "<Hello/>");
+        }
+    }
+
+    @Test
+    public void testConcurrentTransform() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (Future<String> result : executor.invokeAll(IntStream.range(0, 100)
+                    .mapToObj(i -> (Callable<String>) () -> TransformerProvider.toFragmentString(new StringSource("<Message id=\"" + i + "\"/>")))
+                    .collect(Collectors.toList()))) {
+                Assert.assertTrue(result.get().startsWith("<Message id="));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
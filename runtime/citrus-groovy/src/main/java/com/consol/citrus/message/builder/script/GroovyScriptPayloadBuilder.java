@@ -22,8 +22,8 @@ package com.consol.citrus.message.builder.script;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.MessagePayloadBuilder;
+import com.consol.citrus.script.GroovyScriptCache;
 import com.consol.citrus.validation.script.TemplateBasedScriptBuilder;
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 import org.codehaus.groovy.control.CompilationFailedException;
 import org.springframework.core.io.ClassPathResource;
@@ -61,11 +61,9 @@ public class GroovyScriptPayloadBuilder implements MessagePayloadBuilder {
     protected String buildMarkupBuilderScript(String scriptData) {
         try {
             ClassLoader parent = GroovyScriptPayloadBuilder.class.getClassLoader();
-            GroovyClassLoader loader = new GroovyClassLoader(parent);
-
-            Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
+            Class<?> groovyClass = GroovyScriptCache.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
                     .withCode(scriptData)
-                    .build());
+                    .build(), parent);
 
             if (groovyClass == null) {
                 throw new CitrusRuntimeException("Could not load groovy script!");
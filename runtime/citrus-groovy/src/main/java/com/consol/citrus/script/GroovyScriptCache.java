@@ -0,0 +1,184 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivilegedAction;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import groovy.lang.GroovyClassLoader;
+import org.apache.commons.codec.binary.Hex;
+import org.codehaus.groovy.control.CompilationFailedException;
+
+/**
+ * Cache of compiled Groovy script classes shared by all Groovy integration points (Groovy action, script validators and
+ * payload builders). Scripts are keyed by the SHA-256 hash of the script code and the parent class loader so
+ * the same script is compiled only once, e.g. when executed inside of an iterating container.
+ *
+ * Each script gets its own Groovy class loader. The cache is bounded and evicts the least recently used scripts. Evicted
+ * class loaders are not closed as the script may still be running, e.g. in a parallel container. Compiled classes are
+ * unloaded by garbage collection as soon as the script class is no longer referenced.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public final class GroovyScriptCache {
+
+    /** Maximum number of compiled scripts cached */
+    public static final String GROOVY_SCRIPT_CACHE_SIZE_PROPERTY = "citrus.groovy.script.cache.size";
+    public static final String GROOVY_SCRIPT_CACHE_SIZE_ENV = "CITRUS_GROOVY_SCRIPT_CACHE_SIZE";
+    public static final int GROOVY_SCRIPT_CACHE_SIZE = Integer.parseInt(System.getProperty(GROOVY_SCRIPT_CACHE_SIZE_PROPERTY, System.getenv(GROOVY_SCRIPT_CACHE_SIZE_ENV) != null ?
+            System.getenv(GROOVY_SCRIPT_CACHE_SIZE_ENV) : "256"));
+
+    /** Compiled scripts */
+    private static final Map<CacheKey, Class<?>> SCRIPTS = new LinkedHashMap<CacheKey, Class<?>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, Class<?>> eldest) {
+            return size() > GROOVY_SCRIPT_CACHE_SIZE;
+        }
+    };
+
+    /** Cache statistics */
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    /**
+     * Prevent instantiation.
+     */
+    private GroovyScriptCache() {
+    }
+
+    /**
+     * Gets compiled class for given script code. Compiles the script with a new Groovy class loader using given parent class loader
+     * in case the script has not been compiled before.
+     * @param code
+     * @param parent
+     * @return
+     * @throws CompilationFailedException
+     */
+    public static Class<?> parseClass(String code, ClassLoader parent) throws CompilationFailedException {
+        CacheKey key = new CacheKey(hash(code), parent);
+
+        synchronized (SCRIPTS) {
+            Class<?> scriptClass = SCRIPTS.get(key);
+            if (scriptClass != null) {
+                HITS.incrementAndGet();
+                return scriptClass;
+            }
+        }
+
+        MISSES.incrementAndGet();
+        GroovyClassLoader loader = AccessController.doPrivileged((PrivilegedAction<GroovyClassLoader>) () -> new GroovyClassLoader(parent));
+        Class<?> compiled = loader.parseClass(code);
+
+        synchronized (SCRIPTS) {
+            Class<?> existing = SCRIPTS.putIfAbsent(key, compiled);
+            if (existing != null) {
+                // script has been compiled by another thread in the meantime
+                return existing;
+            }
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Removes all compiled scripts. Class loaders are left open for scripts that are still running.
+     */
+    public static void clear() {
+        synchronized (SCRIPTS) {
+            SCRIPTS.clear();
+        }
+    }
+
+    /**
+     * Gets the number of cache hits.
+     * @return
+     */
+    public static long getHits() {
+        return HITS.get();
+    }
+
+    /**
+     * Gets the number of cache misses that required script compilation.
+     * @return
+     */
+    public static long getMisses() {
+        return MISSES.get();
+    }
+
+    /**
+     * Gets the number of compiled scripts currently cached.
+     * @return
+     */
+    public static int getSize() {
+        synchronized (SCRIPTS) {
+            return SCRIPTS.size();
+        }
+    }
+
+    /**
+     * Creates SHA-256 hash of given script code.
+     * @param code
+     * @return
+     */
+    private static String hash(String code) {
+        try {
+            return Hex.encodeHexString(MessageDigest.getInstance("SHA-256").digest(code.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Failed to create script hash", e);
+        }
+    }
+
+    /**
+     * Cache key combines script hash and parent class loader.
+     */
+    private static final class CacheKey {
+        private final String hash;
+        private final ClassLoader parent;
+
+        CacheKey(String hash, ClassLoader parent) {
+            this.hash = hash;
+            this.parent = parent;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            CacheKey other = (CacheKey) o;
+            return parent == other.parent && hash.equals(other.hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * hash.hashCode() + System.identityHashCode(parent);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class GroovyScriptCacheTest {
+
+    @Test
+    public void testParseClass() throws Exception {
+        ClassLoader parent = GroovyScriptCacheTest.class.getClassLoader();
+        String code = "return 'Hello ' + 'Citrus'";
+
+        long misses = GroovyScriptCache.getMisses();
+        long hits = GroovyScriptCache.getHits();
+
+        Class<?> scriptClass = GroovyScriptCache.parseClass(code, parent);
+        Assert.assertSame(GroovyScriptCache.parseClass(new String(code), parent), scriptClass);
+        Assert.assertEquals(((groovy.lang.Script) scriptClass.getDeclaredConstructor().newInstance()).run(), "Hello Citrus");
+
+        Assert.assertEquals(GroovyScriptCache.getMisses() - misses, 1L);
+        Assert.assertEquals(GroovyScriptCache.getHits() - hits, 1L);
+
+        Assert.assertNotSame(GroovyScriptCache.parseClass(code + " ", parent), scriptClass);
+
+        try (URLClassLoader otherParent = new URLClassLoader(new URL[0], parent)) {
+            Assert.assertNotSame(GroovyScriptCache.parseClass(code, otherParent), scriptClass);
+        }
+
+        GroovyScriptCache.clear();
+        Assert.assertEquals(GroovyScriptCache.getSize(), 0);
+        Assert.assertNotSame(GroovyScriptCache.parseClass(code, parent), scriptClass);
+    }
+
+    @Test
+    public void testClearKeepsRunningScripts() throws Exception {
+        Class<?> scriptClass = GroovyScriptCache.parseClass("def greet = { name -> 'Hello ' + name }; return greet('Citrus')", GroovyScriptCacheTest.class.getClassLoader());
+
+        GroovyScriptCache.clear();
+        Assert.assertEquals(((groovy.lang.Script) scriptClass.getDeclaredConstructor().newInstance()).run(), "Hello Citrus");
+    }
+
+    @Test(expectedExceptions = CompilationFailedException.class)
+    public void testCompilationFailure() {
+        GroovyScriptCache.parseClass("def foo(", GroovyScriptCacheTest.class.getClassLoader());
+    }
+}
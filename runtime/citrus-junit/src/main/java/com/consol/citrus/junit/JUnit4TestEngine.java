@@ -16,22 +16,27 @@
 
 package com.consol.citrus.junit;
 
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.main.AbstractTestEngine;
 import com.consol.citrus.main.TestRunConfiguration;
-import com.consol.citrus.main.scan.ClassPathTestScanner;
-import com.consol.citrus.main.scan.JarFileTestScanner;
 import org.junit.Test;
+import org.junit.runner.Computer;
 import org.junit.runner.JUnitCore;
+import org.junit.runner.Runner;
 import org.junit.runner.notification.RunListener;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerBuilder;
+import org.junit.runners.model.RunnerScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
@@ -73,13 +78,7 @@ public class JUnit4TestEngine extends AbstractTestEngine {
                     LOG.info(String.format("Running tests in package %s", packageName));
                 }
 
-                if (getConfiguration().getTestJar() != null) {
-                    classesToRun.addAll(new JarFileTestScanner(getConfiguration().getTestJar(),
-                            getConfiguration().getIncludes()).findTestsInPackage(packageName));
-                } else {
-                    classesToRun.addAll(new ClassPathTestScanner(Test.class,
-                            getConfiguration().getIncludes()).findTestsInPackage(packageName));
-                }
+                classesToRun.addAll(findTestClasses(packageName, Test.class));
             }
 
             LOG.info(String.format("Found %s test classes to execute", classesToRun.size()));
@@ -98,29 +97,53 @@ public class JUnit4TestEngine extends AbstractTestEngine {
             junit.addListener(listener);
         }
 
-        junit.run(classesToRun
-                .stream()
-                .peek(testClass -> LOG.info(String.format("Running test %s",
-                        Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method)
-                                .orElse(testClass.getName()))))
-                .map(testClass -> {
-                    try {
-                        Class<?> clazz;
-                        if (getConfiguration().getTestJar() != null) {
-                            clazz = Class.forName(testClass.getName(), false,
-                                    new URLClassLoader(new URL[]{ getConfiguration().getTestJar().toURI().toURL() }, getClass().getClassLoader()));
-                        } else {
-                            clazz = Class.forName(testClass.getName());
+        try {
+            junit.run(getComputer(), classesToRun
+                    .stream()
+                    .peek(testClass -> LOG.info(String.format("Running test %s",
+                            Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method)
+                                    .orElse(testClass.getName()))))
+                    .map(testClass -> {
+                        try {
+                            Class<?> clazz = loadTestClass(testClass);
+                            LOG.debug("Found test candidate: " + testClass.getName());
+                            return clazz;
+                        } catch (ClassNotFoundException e) {
+                            LOG.warn("Unable to read test class: " + testClass.getName());
+                            return Void.class;
                         }
-                        LOG.debug("Found test candidate: " + testClass.getName());
-                        return clazz;
-                    } catch (ClassNotFoundException | MalformedURLException e) {
-                        LOG.warn("Unable to read test class: " + testClass.getName());
-                        return Void.class;
-                    }
-                })
-                .filter(clazz -> !clazz.equals(Void.class))
-                .toArray(Class[]::new));
+                    })
+                    .filter(clazz -> !clazz.equals(Void.class))
+                    .toArray(Class[]::new));
+        } finally {
+            closeTestJarClassLoader();
+        }
+    }
+
+    /**
+     * Gets the JUnit computer according to the parallel mode in the run configuration. Parallel mode "tests" runs
+     * test classes in parallel as there is no separate test level in JUnit4.
+     * @return
+     */
+    private Computer getComputer() {
+        String parallel = getConfiguration().getParallel();
+        if (!StringUtils.hasText(parallel)) {
+            return new Computer();
+        }
+
+        switch (parallel.toLowerCase()) {
+            case "none":
+            case "false":
+                return new Computer();
+            case "methods":
+                return new ParallelComputer(false, true, getConfiguration().getThreadCount());
+            case "classes":
+            case "tests":
+                return new ParallelComputer(true, false, getConfiguration().getThreadCount());
+            default:
+                throw new CitrusRuntimeException(String.format("Unsupported parallel mode '%s' - " +
+                        "please use one of 'none', 'methods', 'classes' or 'tests'", parallel));
+        }
     }
 
     /**
@@ -131,4 +154,62 @@ public class JUnit4TestEngine extends AbstractTestEngine {
         this.listeners.add(listener);
         return this;
     }
+
+    /**
+     * Computer runs test classes or test methods in parallel using a fixed number of threads.
+     */
+    private static class ParallelComputer extends Computer {
+        private final boolean classes;
+        private final boolean methods;
+        private final int threadCount;
+
+        ParallelComputer(boolean classes, boolean methods, int threadCount) {
+            this.classes = classes;
+            this.methods = methods;
+            this.threadCount = threadCount;
+        }
+
+        @Override
+        public Runner getSuite(RunnerBuilder builder, Class<?>[] classes) throws InitializationError {
+            Runner suite = super.getSuite(builder, classes);
+            return this.classes ? parallelize(suite) : suite;
+        }
+
+        @Override
+        protected Runner getRunner(RunnerBuilder builder, Class<?> testClass) throws Throwable {
+            Runner runner = super.getRunner(builder, testClass);
+            return methods ? parallelize(runner) : runner;
+        }
+
+        /**
+         * Sets scheduler on given runner that executes all children with a fixed thread pool.
+         * @param runner
+         * @return
+         */
+        private Runner parallelize(Runner runner) {
+            if (runner instanceof ParentRunner) {
+                ((ParentRunner<?>) runner).setScheduler(new RunnerScheduler() {
+                    private final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+                    @Override
+                    public void schedule(Runnable childStatement) {
+                        executorService.submit(childStatement);
+                    }
+
+                    @Override
+                    public void finished() {
+                        executorService.shutdown();
+                        try {
+                            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new CitrusRuntimeException("Interrupted while waiting for parallel tests to finish", e);
+                        }
+                    }
+                });
+            }
+
+            return runner;
+        }
+    }
 }
@@ -59,6 +59,27 @@ public class JUnit4TestEngineTest {
         runTestEngine(configuration, 0L, 0L);
     }
 
+    @Test
+    public void testRunPackageParallelClasses() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setIncludes(new String[] { ".*Test" });
+        configuration.setPackages(Collections.singletonList(SampleJUnit4Test.class.getPackage().getName()));
+        configuration.setParallel("classes");
+        configuration.setThreadCount(2);
+
+        runTestEngine(configuration, 0L, 1L);
+    }
+
+    @Test
+    public void testRunClassParallelMethods() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setTestClasses(Collections.singletonList(new TestClass(SampleJUnit4Test.class.getName())));
+        configuration.setParallel("methods");
+        configuration.setThreadCount(2);
+
+        runTestEngine(configuration, 0L, 1L);
+    }
+
     @Test
     public void shouldResolveJUnit4Engine() {
         TestRunConfiguration configuration = new TestRunConfiguration();
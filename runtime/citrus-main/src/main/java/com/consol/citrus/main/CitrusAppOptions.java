@@ -176,6 +176,28 @@ public class CitrusAppOptions<T extends CitrusAppConfiguration> {
                 }
             }
         });
+
+        options.add(new CliOption<T>("", "parallel", "Parallel test execution mode: none, methods, classes or tests") {
+            @Override
+            protected void doProcess(T configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setParallel(value);
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for --parallel option");
+                }
+            }
+        });
+
+        options.add(new CliOption<T>("", "threads", "Number of threads used in parallel test execution") {
+            @Override
+            protected void doProcess(T configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setThreadCount(Integer.parseInt(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for --threads option");
+                }
+            }
+        });
     }
 
     /**
@@ -16,19 +16,15 @@
 
 package com.consol.citrus.testng;
 
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.main.AbstractTestEngine;
 import com.consol.citrus.main.TestRunConfiguration;
-import com.consol.citrus.main.scan.ClassPathTestScanner;
-import com.consol.citrus.main.scan.JarFileTestScanner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
@@ -68,6 +64,8 @@ public class TestNGEngine extends AbstractTestEngine {
         }
 
         XmlSuite suite = new XmlSuite();
+        suite.setParallel(getParallelMode());
+        suite.setThreadCount(getConfiguration().getThreadCount());
         testng.setXmlSuites(Collections.singletonList(suite));
 
         if (!CollectionUtils.isEmpty(getConfiguration().getTestClasses())) {
@@ -80,21 +78,13 @@ public class TestNGEngine extends AbstractTestEngine {
                 test.setClasses(new ArrayList<>());
 
                 try {
-                    Class<?> clazz;
-                    if (getConfiguration().getTestJar() != null) {
-                        clazz = Class.forName(testClass.getName(), false,
-                                new URLClassLoader(new URL[]{getConfiguration().getTestJar().toURI().toURL()}, getClass().getClassLoader()));
-                    } else {
-                        clazz = Class.forName(testClass.getName());
-                    }
-
-                    XmlClass xmlClass = new XmlClass(clazz);
+                    XmlClass xmlClass = new XmlClass(loadTestClass(testClass));
                     if (StringUtils.hasText(testClass.getMethod())) {
                         xmlClass.setIncludedMethods(Collections.singletonList(new XmlInclude(testClass.getMethod())));
                     }
 
                     test.getClasses().add(xmlClass);
-                } catch (ClassNotFoundException | MalformedURLException e) {
+                } catch (ClassNotFoundException e) {
                     LOG.warn("Unable to read test class: " + testClass.getName());
                 }
             }
@@ -113,29 +103,14 @@ public class TestNGEngine extends AbstractTestEngine {
                 XmlTest test = new XmlTest(suite);
                 test.setClasses(new ArrayList<>());
 
-                List<TestClass> classesToRun;
-                if (getConfiguration().getTestJar() != null) {
-                    classesToRun = new JarFileTestScanner(getConfiguration().getTestJar(),
-                            getConfiguration().getIncludes()).findTestsInPackage(packageName);
-                } else {
-                    classesToRun = new ClassPathTestScanner(Test.class, getConfiguration().getIncludes()).findTestsInPackage(packageName);
-                }
-
-                classesToRun.stream()
+                findTestClasses(packageName, Test.class).stream()
                         .peek(testClass -> LOG.info(String.format("Running test %s",
                                 Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method)
                                         .orElse(testClass.getName()))))
                         .map(testClass -> {
                             try {
-                                Class<?> clazz;
-                                if (getConfiguration().getTestJar() != null) {
-                                    clazz = Class.forName(testClass.getName(), false,
-                                            new URLClassLoader(new URL[]{getConfiguration().getTestJar().toURI().toURL()}, getClass().getClassLoader()));
-                                } else {
-                                    clazz = Class.forName(testClass.getName());
-                                }
-                                return clazz;
-                            } catch (ClassNotFoundException | MalformedURLException e) {
+                                return loadTestClass(testClass);
+                            } catch (ClassNotFoundException e) {
                                 LOG.warn("Unable to read test class: " + testClass.getName());
                                 return Void.class;
                             }
@@ -148,7 +123,37 @@ public class TestNGEngine extends AbstractTestEngine {
             }
         }
 
-        testng.run();
+        try {
+            testng.run();
+        } finally {
+            closeTestJarClassLoader();
+        }
+    }
+
+    /**
+     * Gets the TestNG parallel mode from the run configuration.
+     * @return
+     */
+    private XmlSuite.ParallelMode getParallelMode() {
+        String parallel = getConfiguration().getParallel();
+        if (!StringUtils.hasText(parallel)) {
+            return XmlSuite.ParallelMode.NONE;
+        }
+
+        switch (parallel.toLowerCase()) {
+            case "none":
+            case "false":
+                return XmlSuite.ParallelMode.NONE;
+            case "methods":
+                return XmlSuite.ParallelMode.METHODS;
+            case "classes":
+                return XmlSuite.ParallelMode.CLASSES;
+            case "tests":
+                return XmlSuite.ParallelMode.TESTS;
+            default:
+                throw new CitrusRuntimeException(String.format("Unsupported parallel mode '%s' - " +
+                        "please use one of 'none', 'methods', 'classes' or 'tests'", parallel));
+        }
     }
 
     /**
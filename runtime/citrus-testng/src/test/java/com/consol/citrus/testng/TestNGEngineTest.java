@@ -16,16 +16,37 @@
 
 package com.consol.citrus.testng;
 
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.main.TestEngine;
 import com.consol.citrus.main.TestRunConfiguration;
 import com.consol.citrus.testng.scan.SampleTestNGTest;
 import org.testng.Assert;
 import org.testng.ISuite;
 import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestNGListener;
+import org.testng.ITestResult;
 import org.testng.annotations.Test;
+import org.testng.xml.XmlSuite;
 
 /**
  * @author Christoph Deppisch
@@ -59,6 +80,105 @@ public class TestNGEngineTest {
         runTestEngine(configuration, 0L, 0L);
     }
 
+    @Test
+    public void testRunPackageParallel() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setIncludes(new String[] { ".*Test" });
+        configuration.setPackages(Collections.singletonList(SampleTestNGTest.class.getPackage().getName()));
+        configuration.setParallel("methods");
+        configuration.setThreadCount(2);
+
+        List<XmlSuite> suites = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        runTestEngine(configuration, 0L, 1L, new ISuiteListener() {
+            @Override
+            public void onStart(ISuite suite) {
+                suites.add(suite.getXmlSuite());
+            }
+        }, new ITestListener() {
+            @Override
+            public void onTestStart(ITestResult result) {
+                threads.add(Thread.currentThread());
+            }
+        });
+
+        Assert.assertEquals(suites.size(), 1L);
+        Assert.assertEquals(suites.get(0).getParallel(), XmlSuite.ParallelMode.METHODS);
+        Assert.assertEquals(suites.get(0).getThreadCount(), 2);
+
+        Assert.assertEquals(threads.size(), 1L);
+        Assert.assertNotSame(threads.get(0), Thread.currentThread());
+    }
+
+    @Test
+    public void testRunTestJar() throws IOException {
+        Path sources = Files.createTempDirectory("citrus-test-sources");
+        Path classes = Files.createTempDirectory("citrus-test-classes");
+
+        String packageName = "com.consol.citrus.testng.jar";
+        List<File> sourceFiles = new ArrayList<>();
+        for (String className : new String[] { "FirstJarTest", "SecondJarTest" }) {
+            Path sourceFile = sources.resolve(className + ".java");
+            Files.write(sourceFile, Arrays.asList("package " + packageName + ";",
+                    "public class " + className + " {",
+                    "    @org.testng.annotations.Test public void test() {}",
+                    "}"), StandardCharsets.UTF_8);
+            sourceFiles.add(sourceFile.toFile());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            String testngClasspath = new File(Test.class.getProtectionDomain().getCodeSource().getLocation().getPath()).getAbsolutePath();
+            Assert.assertTrue(compiler.getTask(null, fileManager, null,
+                    Arrays.asList("-classpath", testngClasspath, "-d", classes.toString()), null,
+                    fileManager.getJavaFileObjectsFromFiles(sourceFiles)).call());
+        }
+
+        File testJar = File.createTempFile("citrus-tests", ".jar");
+        testJar.deleteOnExit();
+
+        String packagePath = packageName.replace(".", "/") + "/";
+        try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(testJar))) {
+            for (String className : new String[] { "FirstJarTest", "SecondJarTest" }) {
+                jar.putNextEntry(new JarEntry(packagePath + className + ".class"));
+                jar.write(Files.readAllBytes(classes.resolve(packagePath + className + ".class")));
+                jar.closeEntry();
+            }
+        }
+
+        Assert.assertThrows(ClassNotFoundException.class, () -> Class.forName(packageName + ".FirstJarTest"));
+
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setIncludes(new String[] { ".*Test" });
+        configuration.setPackages(Collections.singletonList(packageName));
+        configuration.setTestJar(testJar);
+
+        List<Class<?>> testClasses = new CopyOnWriteArrayList<>();
+        runTestEngine(configuration, 0L, 2L, new ITestListener() {
+            @Override
+            public void onTestStart(ITestResult result) {
+                testClasses.add(result.getTestClass().getRealClass());
+            }
+        });
+
+        Assert.assertEquals(testClasses.size(), 2L);
+        ClassLoader testJarClassLoader = testClasses.get(0).getClassLoader();
+        Assert.assertTrue(testJarClassLoader instanceof URLClassLoader);
+        Assert.assertSame(testClasses.get(1).getClassLoader(), testJarClassLoader);
+
+        // class loader has been closed after the test run so jar entries are not accessible anymore
+        Assert.assertNull(testJarClassLoader.getResource(packagePath + "FirstJarTest.class"));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnsupportedParallelMode() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setTestClasses(Collections.singletonList(new TestClass(SampleTestNGTest.class.getName())));
+        configuration.setParallel(XmlSuite.ParallelMode.INSTANCES.toString() + "-unknown");
+
+        new TestNGEngine(configuration).run();
+    }
+
     @Test
     public void shouldResolveTestNGEngine() {
         TestRunConfiguration configuration = new TestRunConfiguration();
@@ -66,8 +186,12 @@ public class TestNGEngineTest {
         Assert.assertEquals(TestEngine.lookup(configuration).getClass(), TestNGEngine.class);
     }
 
-    private void runTestEngine(TestRunConfiguration configuration, long failure, long passed) {
+    private TestNGEngine runTestEngine(TestRunConfiguration configuration, long failure, long passed, ITestNGListener... listeners) {
         TestNGEngine engine = new TestNGEngine(configuration);
+        for (ITestNGListener listener : listeners) {
+            engine.addTestListener(listener);
+        }
+
         engine.addTestListener(new ISuiteListener() {
             @Override
             public void onFinish(ISuite suite) {
@@ -80,5 +204,7 @@ public class TestNGEngineTest {
             }
         });
         engine.run();
+
+        return engine;
     }
 }
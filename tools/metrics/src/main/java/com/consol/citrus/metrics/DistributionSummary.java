@@ -0,0 +1,42 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+/**
+ * Meter recording the distribution of amounts such as message sizes in bytes.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public class DistributionSummary extends HistogramMeter {
+
+    /**
+     * Constructor using meter id.
+     * @param id
+     */
+    public DistributionSummary(MeterId id) {
+        super(id, 1.0D);
+    }
+
+    /**
+     * Records given amount.
+     * @param amount
+     */
+    public void record(long amount) {
+        recordValue(amount);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes a snapshot of all meters in a registry to a CSV file with the columns name, tags, statistic and value.
+ * Histogram meters add a row per bucket with statistic "le=[upper bound]" holding the cumulative count. The file is
+ * replaced with each export so it can be written periodically during long running test suites.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public class FileMetricsExporter {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(FileMetricsExporter.class);
+
+    /** CSV header line */
+    private static final String HEADER = "name,tags,statistic,value";
+
+    private final MetricsRegistry registry;
+
+    /** Scheduler for periodic export */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor using the metrics registry.
+     * @param registry
+     */
+    public FileMetricsExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Writes current metrics to given file.
+     * @param file
+     */
+    public void export(File file) {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new CitrusRuntimeException("Unable to create metrics output directory: " + directory);
+        }
+
+        Path target = file.toPath();
+        try {
+            Path temp = Files.createTempFile(directory.toPath(), file.getName(), ".tmp");
+            Files.write(temp, getContent().getBytes(StandardCharsets.UTF_8));
+
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to write metrics file: " + file, e);
+        }
+    }
+
+    /**
+     * Periodically writes metrics to given file with given interval in milliseconds until stopped.
+     * @param file
+     * @param interval
+     */
+    public synchronized void start(File file, long interval) {
+        stop();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "citrus-metrics-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                export(file);
+            } catch (CitrusRuntimeException e) {
+                LOG.warn("Failed to export metrics", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops periodic export.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Creates CSV content of current metrics.
+     * @return
+     */
+    public String getContent() {
+        StringBuilder content = new StringBuilder(HEADER).append(System.lineSeparator());
+
+        for (Meter meter : registry.getMeters()) {
+            String name = escape(meter.getId().getName());
+            String tags = escape(meter.getId().getTags().entrySet().stream()
+                    .map(tag -> tag.getKey() + "=" + tag.getValue())
+                    .collect(Collectors.joining(";")));
+
+            for (Map.Entry<String, Double> statistic : meter.measure().entrySet()) {
+                appendRow(content, name, tags, statistic.getKey(), format(statistic.getValue()));
+            }
+
+            if (meter instanceof HistogramMeter) {
+                for (Map.Entry<Double, Long> bucket : ((HistogramMeter) meter).histogram().entrySet()) {
+                    appendRow(content, name, tags, "le=" + format(bucket.getKey()), String.valueOf(bucket.getValue()));
+                }
+            }
+        }
+
+        return content.toString();
+    }
+
+    private static void appendRow(StringBuilder content, String name, String tags, String statistic, String value) {
+        content.append(name).append(',')
+                .append(tags).append(',')
+                .append(statistic).append(',')
+                .append(value).append(System.lineSeparator());
+    }
+
+    /**
+     * Formats value as plain decimal without trailing zeros.
+     * @param value
+     * @return
+     */
+    private static String format(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return String.valueOf(value);
+        }
+
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Quotes CSV field in case it contains separator or quote characters.
+     * @param field
+     * @return
+     */
+    private static String escape(String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0) {
+            return field;
+        }
+
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+}
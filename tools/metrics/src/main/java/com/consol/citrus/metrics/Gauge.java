@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Meter that samples a value such as a queue depth each time it is measured.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public class Gauge implements Meter {
+
+    private final MeterId id;
+    private volatile Supplier<? extends Number> value;
+
+    /**
+     * Constructor using id and value supplier.
+     * @param id
+     * @param value
+     */
+    public Gauge(MeterId id, Supplier<? extends Number> value) {
+        this.id = id;
+        this.value = value;
+    }
+
+    /**
+     * Replaces the value supplier.
+     * @param value
+     */
+    void bind(Supplier<? extends Number> value) {
+        this.value = value;
+    }
+
+    /**
+     * Samples the current value.
+     * @return
+     */
+    public double value() {
+        Number number = value.get();
+        return number != null ? number.doubleValue() : Double.NaN;
+    }
+
+    @Override
+    public MeterId getId() {
+        return id;
+    }
+
+    @Override
+    public Map<String, Double> measure() {
+        return Collections.singletonMap("value", value());
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Meter recording the distribution of long values in a histogram with exponential buckets. Bucket upper bounds are
+ * powers of two so recording a value is a constant time operation without locking and the memory used per meter is fixed.
+ * Percentiles are estimated with the upper bound of the bucket holding the percentile.
+ *
+ * Recorded values are converted to the base unit of the meter with given scale when measured.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public abstract class HistogramMeter implements Meter {
+
+    /** Number of buckets covering all non negative long values */
+    private static final int BUCKETS = Long.SIZE;
+
+    /** Percentiles reported with each measurement */
+    private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
+    private final MeterId id;
+    private final double scale;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Constructor using id and the scale that converts recorded values to the base unit.
+     * @param id
+     * @param scale
+     */
+    protected HistogramMeter(MeterId id, double scale) {
+        this.id = id;
+        this.scale = scale;
+    }
+
+    /**
+     * Records given value. Negative values are recorded as zero.
+     * @param value
+     */
+    protected void recordValue(long value) {
+        long amount = Math.max(value, 0L);
+
+        count.increment();
+        total.add(amount);
+        max.accumulate(amount);
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(amount));
+    }
+
+    /**
+     * Gets the number of recorded values.
+     * @return
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the sum of all recorded values in base unit.
+     * @return
+     */
+    public double total() {
+        return total.sum() * scale;
+    }
+
+    /**
+     * Gets the maximum recorded value in base unit.
+     * @return
+     */
+    public double max() {
+        return max.get() * scale;
+    }
+
+    /**
+     * Gets the mean of all recorded values in base unit.
+     * @return
+     */
+    public double mean() {
+        long n = count();
+        return n > 0 ? total() / n : 0.0D;
+    }
+
+    /**
+     * Estimates given percentile (e.g. 0.95) in base unit.
+     * @param percentile
+     * @return
+     */
+    public double percentile(double percentile) {
+        long n = count();
+        if (n == 0) {
+            return 0.0D;
+        }
+
+        long rank = (long) Math.ceil(percentile * n);
+        long cumulative = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += buckets.get(i);
+            if (cumulative >= rank) {
+                return Math.min(upperBound(i), max.get()) * scale;
+            }
+        }
+
+        return max();
+    }
+
+    /**
+     * Gets the cumulative histogram as bucket upper bound in base unit mapped to the number of recorded values
+     * less than or equal to that bound. Only buckets up to the bucket holding the maximum value are included.
+     * @return
+     */
+    public Map<Double, Long> histogram() {
+        Map<Double, Long> histogram = new LinkedHashMap<>();
+
+        int last = Long.SIZE - Long.numberOfLeadingZeros(max.get());
+        long cumulative = 0L;
+        for (int i = 0; i <= last; i++) {
+            cumulative += buckets.get(i);
+            histogram.put(upperBound(i) * scale, cumulative);
+        }
+
+        return histogram;
+    }
+
+    @Override
+    public MeterId getId() {
+        return id;
+    }
+
+    @Override
+    public Map<String, Double> measure() {
+        Map<String, Double> statistics = new LinkedHashMap<>();
+        statistics.put("count", (double) count());
+        statistics.put("total", total());
+        statistics.put("max", max());
+        statistics.put("mean", mean());
+
+        for (double percentile : PERCENTILES) {
+            statistics.put("p" + Math.round(percentile * 100), percentile(percentile));
+        }
+
+        return statistics;
+    }
+
+    /**
+     * Gets the inclusive upper bound of the bucket with given index.
+     * @param index
+     * @return
+     */
+    private static double upperBound(int index) {
+        return (double) ((1L << index) - 1);
+    }
+}
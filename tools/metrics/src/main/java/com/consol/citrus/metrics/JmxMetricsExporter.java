@@ -0,0 +1,209 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exposes all meters in a registry as read only MBeans so metrics can be inspected with JMX tools while the tests are running.
+ * Each meter is registered with object name "com.consol.citrus:type=Metrics,name=[meter name],[tag]=[value]" and provides
+ * its statistics as attributes. Meters added to the registry after the exporter has been started are registered automatically.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public class JmxMetricsExporter {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(JmxMetricsExporter.class);
+
+    /** Object name domain */
+    public static final String DOMAIN = "com.consol.citrus";
+
+    private final MetricsRegistry registry;
+    private final MBeanServer server;
+
+    /** Registered object names */
+    private final List<ObjectName> objectNames = new CopyOnWriteArrayList<>();
+
+    /** Callback registering meters added later on */
+    private final Consumer<Meter> meterAddedListener = this::register;
+
+    /**
+     * Constructor using the metrics registry and the platform MBean server.
+     * @param registry
+     */
+    public JmxMetricsExporter(MetricsRegistry registry) {
+        this(registry, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Constructor using the metrics registry and MBean server.
+     * @param registry
+     * @param server
+     */
+    public JmxMetricsExporter(MetricsRegistry registry, MBeanServer server) {
+        this.registry = registry;
+        this.server = server;
+    }
+
+    /**
+     * Registers all meters and all meters added later on.
+     */
+    public void start() {
+        registry.onMeterAdded(meterAddedListener);
+        registry.getMeters().forEach(this::register);
+    }
+
+    /**
+     * Unregisters all meters.
+     */
+    public void stop() {
+        registry.removeMeterAddedListener(meterAddedListener);
+
+        for (ObjectName objectName : objectNames) {
+            try {
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+            } catch (JMException e) {
+                LOG.warn(String.format("Failed to unregister metrics MBean '%s'", objectName), e);
+            }
+        }
+
+        objectNames.clear();
+    }
+
+    /**
+     * Creates object name for given meter id.
+     * @param id
+     * @return
+     */
+    public static ObjectName getObjectName(MeterId id) {
+        StringBuilder name = new StringBuilder(DOMAIN)
+                .append(":type=Metrics,name=")
+                .append(ObjectName.quote(id.getName()));
+
+        for (Map.Entry<String, String> tag : id.getTags().entrySet()) {
+            String key = "type".equals(tag.getKey()) || "name".equals(tag.getKey()) ? "tag." + tag.getKey() : tag.getKey();
+            name.append(',').append(key).append('=').append(ObjectName.quote(tag.getValue()));
+        }
+
+        try {
+            return new ObjectName(name.toString());
+        } catch (MalformedObjectNameException e) {
+            throw new CitrusRuntimeException(String.format("Invalid object name for meter '%s'", id), e);
+        }
+    }
+
+    /**
+     * Registers MBean for given meter.
+     * @param meter
+     */
+    private void register(Meter meter) {
+        ObjectName objectName = getObjectName(meter.getId());
+
+        try {
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(new MeterMBean(meter), objectName);
+                objectNames.add(objectName);
+            }
+        } catch (JMException e) {
+            LOG.warn(String.format("Failed to register metrics MBean '%s'", objectName), e);
+        }
+    }
+
+    /**
+     * Dynamic MBean exposing meter statistics as read only attributes.
+     */
+    private static final class MeterMBean implements DynamicMBean {
+        private final Meter meter;
+        private final MBeanInfo info;
+
+        MeterMBean(Meter meter) {
+            this.meter = meter;
+            this.info = new MBeanInfo(meter.getClass().getName(), "Citrus metrics " + meter.getId(),
+                    meter.measure().keySet().stream()
+                            .map(statistic -> new MBeanAttributeInfo(statistic, Double.class.getName(), statistic, true, false, false))
+                            .toArray(MBeanAttributeInfo[]::new),
+                    null, null, null);
+        }
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            Double value = meter.measure().get(attribute);
+            if (value == null) {
+                throw new AttributeNotFoundException(attribute);
+            }
+
+            return value;
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            Map<String, Double> statistics = meter.measure();
+
+            AttributeList list = new AttributeList();
+            for (String attribute : attributes) {
+                if (statistics.containsKey(attribute)) {
+                    list.add(new Attribute(attribute, statistics.get(attribute)));
+                }
+            }
+
+            return list;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Metrics attributes are read only: " + attribute.getName());
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+            throw new ReflectionException(new NoSuchMethodException(actionName));
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            return info;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import java.util.Map;
+
+/**
+ * Meter records measurements and exposes a snapshot of its statistics.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public interface Meter {
+
+    /**
+     * Gets the meter id.
+     * @return
+     */
+    MeterId getId();
+
+    /**
+     * Takes a snapshot of the current statistics by statistic name (e.g. count, max, mean). Statistic names
+     * and their order are the same for all snapshots of a meter.
+     * @return
+     */
+    Map<String, Double> measure();
+}
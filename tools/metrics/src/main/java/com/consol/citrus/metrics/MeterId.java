@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+
+/**
+ * Identifies a meter by its name and tags. Tags are sorted by key so the order of given tags does not matter.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public final class MeterId {
+
+    private final String name;
+    private final Map<String, String> tags;
+
+    /**
+     * Constructor using name and tags given as key value pairs.
+     * @param name
+     * @param tags
+     */
+    public MeterId(String name, String... tags) {
+        if (tags.length % 2 != 0) {
+            throw new CitrusRuntimeException(String.format("Invalid tags for meter '%s' - " +
+                    "tags must be given as key value pairs", name));
+        }
+
+        Map<String, String> sorted = new TreeMap<>();
+        for (int i = 0; i < tags.length; i += 2) {
+            sorted.put(tags[i], String.valueOf(tags[i + 1]));
+        }
+
+        this.name = name;
+        this.tags = Collections.unmodifiableMap(sorted);
+    }
+
+    /**
+     * Gets the name.
+     * @return
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the tags sorted by key.
+     * @return
+     */
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        MeterId other = (MeterId) o;
+        return name.equals(other.name) && tags.equals(other.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * name.hashCode() + tags.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        if (tags.isEmpty()) {
+            return name;
+        }
+
+        return name + tags.entrySet().stream()
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+}
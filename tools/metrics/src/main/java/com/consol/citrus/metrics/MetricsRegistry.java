@@ -0,0 +1,174 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+
+/**
+ * Registry holding all meters by their id. Meters are created on first access and shared by all subsequent
+ * callers using the same name and tags.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public class MetricsRegistry {
+
+    /** Registered meters */
+    private final Map<MeterId, Meter> meters = new ConcurrentHashMap<>();
+
+    /** Callbacks informed about newly registered meters */
+    private final List<Consumer<Meter>> meterAddedListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Gets or creates timer with given name and tags given as key value pairs.
+     * @param name
+     * @param tags
+     * @return
+     */
+    public Timer timer(String name, String... tags) {
+        return getOrCreate(new MeterId(name, tags), Timer.class, Timer::new);
+    }
+
+    /**
+     * Gets or creates distribution summary with given name and tags given as key value pairs.
+     * @param name
+     * @param tags
+     * @return
+     */
+    public DistributionSummary summary(String name, String... tags) {
+        return getOrCreate(new MeterId(name, tags), DistributionSummary.class, DistributionSummary::new);
+    }
+
+    /**
+     * Gets or creates gauge with given name and tags given as key value pairs. Value supplier is ignored
+     * in case the gauge has already been registered.
+     * @param name
+     * @param value
+     * @param tags
+     * @return
+     */
+    public Gauge gauge(String name, Supplier<? extends Number> value, String... tags) {
+        return getOrCreate(new MeterId(name, tags), Gauge.class, id -> new Gauge(id, value));
+    }
+
+    /**
+     * Gets or creates gauge with given name and tags given as key value pairs sampling given target object. The target is
+     * only weakly referenced so the gauge does not keep the target (e.g. a message queue of a closed application context) alive.
+     * The gauge reports NaN once the target has been garbage collected. In case the gauge has already been registered it is
+     * bound to the given target so the gauge always samples the most recently registered target. The value function
+     * receives the target as argument and must not hold a reference to the target itself.
+     * @param name
+     * @param target
+     * @param value
+     * @param tags
+     * @param <T>
+     * @return
+     */
+    public <T> Gauge gauge(String name, T target, ToDoubleFunction<T> value, String... tags) {
+        WeakReference<T> reference = new WeakReference<>(target);
+        Supplier<Double> supplier = () -> {
+            T current = reference.get();
+            return current != null ? value.applyAsDouble(current) : Double.NaN;
+        };
+
+        Gauge gauge = gauge(name, supplier, tags);
+        gauge.bind(supplier);
+        return gauge;
+    }
+
+    /**
+     * Gets registered meter with given name and tags given as key value pairs.
+     * @param name
+     * @param tags
+     * @return the meter or null if no such meter is registered.
+     */
+    public Meter get(String name, String... tags) {
+        return meters.get(new MeterId(name, tags));
+    }
+
+    /**
+     * Gets all registered meters sorted by id.
+     * @return
+     */
+    public List<Meter> getMeters() {
+        List<Meter> sorted = new ArrayList<>(meters.values());
+        sorted.sort(Comparator.comparing(meter -> meter.getId().toString()));
+        return sorted;
+    }
+
+    /**
+     * Adds callback that gets informed about each meter added to this registry.
+     * @param listener
+     */
+    public void onMeterAdded(Consumer<Meter> listener) {
+        meterAddedListeners.add(listener);
+    }
+
+    /**
+     * Removes meter added callback.
+     * @param listener
+     */
+    public void removeMeterAddedListener(Consumer<Meter> listener) {
+        meterAddedListeners.remove(listener);
+    }
+
+    /**
+     * Removes all meters.
+     */
+    public void clear() {
+        meters.clear();
+    }
+
+    /**
+     * Gets meter with given id or creates a new one with given factory.
+     * @param id
+     * @param type
+     * @param factory
+     * @param <T>
+     * @return
+     */
+    private <T extends Meter> T getOrCreate(MeterId id, Class<T> type, Function<MeterId, T> factory) {
+        Meter meter = meters.get(id);
+        if (meter == null) {
+            Meter created = factory.apply(id);
+            meter = meters.putIfAbsent(id, created);
+            if (meter == null) {
+                meter = created;
+                meterAddedListeners.forEach(listener -> listener.accept(created));
+            }
+        }
+
+        if (!type.isInstance(meter)) {
+            throw new CitrusRuntimeException(String.format("Meter '%s' is already registered as %s",
+                    id, meter.getClass().getSimpleName()));
+        }
+
+        return type.cast(meter);
+    }
+}
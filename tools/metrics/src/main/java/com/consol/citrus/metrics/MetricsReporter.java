@@ -0,0 +1,433 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.consol.citrus.TestAction;
+import com.consol.citrus.TestCase;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.DefaultMessageQueue;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.message.correlation.CorrelationManager;
+import com.consol.citrus.messaging.Consumer;
+import com.consol.citrus.messaging.Producer;
+import com.consol.citrus.report.AbstractTestReporter;
+import com.consol.citrus.report.MessageListener;
+import com.consol.citrus.report.TestActionListener;
+import com.consol.citrus.report.TestResults;
+import com.consol.citrus.report.TestSuiteListener;
+import com.consol.citrus.spi.ReferenceResolver;
+import com.consol.citrus.validation.MessageValidator;
+import com.consol.citrus.validation.context.ValidationContext;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Reporter records performance metrics while tests are running and writes them to a CSV file in the report directory
+ * when the test suite has finished. Metrics are optionally written periodically during the test run and exposed as JMX MBeans.
+ *
+ * Recorded metrics are:
+ * <ul>
+ *     <li>citrus.message.send - time spent in the endpoint producer per endpoint</li>
+ *     <li>citrus.message.receive - time spent waiting for and receiving a message per endpoint</li>
+ *     <li>citrus.message.size - payload size in bytes per endpoint and direction</li>
+ *     <li>citrus.message.validation - time spent in validation per message validator type</li>
+ *     <li>citrus.action.duration - test action execution time per action name</li>
+ *     <li>citrus.queue.size - number of messages in in memory message queues and queue channels</li>
+ *     <li>citrus.correlation.store.size - number of pending messages in correlation stores of synchronous endpoints</li>
+ * </ul>
+ *
+ * Queue and correlation store gauges are discovered automatically from the bean references and used endpoints. Gauges only
+ * hold weak references to the queues and correlation managers they sample. Additional meters can be added to the registry
+ * of this reporter.
+ *
+ * Metrics are disabled by default and get enabled with the setting citrus.metrics.enabled.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public class MetricsReporter extends AbstractTestReporter implements MessageListener, TestActionListener, TestSuiteListener {
+
+    /** Spring integration queue channels may not be on the classpath */
+    private static final boolean QUEUE_CHANNEL_PRESENT = ClassUtils.isPresent("org.springframework.integration.channel.QueueChannel",
+            MetricsReporter.class.getClassLoader());
+
+    /** Meter names */
+    public static final String MESSAGE_SEND = "citrus.message.send";
+    public static final String MESSAGE_RECEIVE = "citrus.message.receive";
+    public static final String MESSAGE_SIZE = "citrus.message.size";
+    public static final String MESSAGE_VALIDATION = "citrus.message.validation";
+    public static final String ACTION_DURATION = "citrus.action.duration";
+    public static final String QUEUE_SIZE = "citrus.queue.size";
+    public static final String CORRELATION_STORE_SIZE = "citrus.correlation.store.size";
+
+    /** Metrics registry */
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    private final FileMetricsExporter fileExporter = new FileMetricsExporter(registry);
+    private JmxMetricsExporter jmxExporter;
+
+    private boolean enabled = MetricsSettings.isEnabled();
+    private String reportFileName = MetricsSettings.getReportFile();
+    private long exportInterval = MetricsSettings.getExportInterval();
+    private boolean jmxEnabled = MetricsSettings.isJmxEnabled();
+
+    /** Test contexts and endpoints already inspected for queues and correlation stores */
+    private final Set<TestContext> inspectedContexts = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private final Set<Endpoint> inspectedProducers = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private final Set<Endpoint> inspectedConsumers = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    @Override
+    protected void generate(TestResults testResults) {
+        if (!enabled) {
+            return;
+        }
+
+        File reportFile = getReportFile();
+        fileExporter.export(reportFile);
+        log.info("Generated metrics report: " + reportFile);
+    }
+
+    @Override
+    public void onMessageSent(Message message, Endpoint endpoint, Duration duration, TestContext context) {
+        if (!enabled) {
+            return;
+        }
+
+        String endpointName = String.valueOf(endpoint.getName());
+        registry.timer(MESSAGE_SEND, "endpoint", endpointName).record(duration);
+        recordSize(message, endpointName, "outbound");
+
+        inspect(context);
+        if (!inspectedProducers.contains(endpoint) && registerCorrelationStores(endpoint, Producer.class, endpointName, "producer")) {
+            inspectedProducers.add(endpoint);
+        }
+    }
+
+    @Override
+    public void onMessageReceived(Message message, Endpoint endpoint, Duration duration, TestContext context) {
+        if (!enabled) {
+            return;
+        }
+
+        String endpointName = String.valueOf(endpoint.getName());
+        registry.timer(MESSAGE_RECEIVE, "endpoint", endpointName).record(duration);
+        recordSize(message, endpointName, "inbound");
+
+        inspect(context);
+        if (!inspectedConsumers.contains(endpoint) && registerCorrelationStores(endpoint, Consumer.class, endpointName, "consumer")) {
+            inspectedConsumers.add(endpoint);
+        }
+    }
+
+    @Override
+    public void onMessageValidated(Message message, MessageValidator<? extends ValidationContext> validator, Duration duration, TestContext context) {
+        if (enabled) {
+            registry.timer(MESSAGE_VALIDATION, "validator", validator.getClass().getSimpleName()).record(duration);
+        }
+    }
+
+    @Override
+    public void onTestActionDuration(TestCase testCase, TestAction testAction, Duration duration) {
+        if (enabled) {
+            registry.timer(ACTION_DURATION, "action", String.valueOf(testAction.getName())).record(duration);
+        }
+    }
+
+    @Override
+    public void onStart() {
+        if (!enabled) {
+            return;
+        }
+
+        if (jmxEnabled && jmxExporter == null) {
+            jmxExporter = new JmxMetricsExporter(registry);
+            jmxExporter.start();
+        }
+
+        if (exportInterval > 0) {
+            fileExporter.start(getReportFile(), exportInterval);
+        }
+    }
+
+    @Override
+    public void onFinish() {
+        fileExporter.stop();
+
+        if (jmxExporter != null) {
+            jmxExporter.stop();
+            jmxExporter = null;
+        }
+    }
+
+    @Override
+    public void onInboundMessage(Message message, TestContext context) {
+    }
+
+    @Override
+    public void onOutboundMessage(Message message, TestContext context) {
+    }
+
+    @Override
+    public void onTestActionStart(TestCase testCase, TestAction testAction) {
+    }
+
+    @Override
+    public void onTestActionFinish(TestCase testCase, TestAction testAction) {
+    }
+
+    @Override
+    public void onTestActionSkipped(TestCase testCase, TestAction testAction) {
+    }
+
+    @Override
+    public void onStartSuccess() {
+    }
+
+    @Override
+    public void onStartFailure(Throwable cause) {
+    }
+
+    @Override
+    public void onFinishSuccess() {
+    }
+
+    @Override
+    public void onFinishFailure(Throwable cause) {
+    }
+
+    /**
+     * Records payload size of given message in bytes. Only text and binary payloads are measured. Lazy payloads that
+     * have not been loaded yet are skipped as measuring them would load the payload.
+     * @param message
+     * @param endpointName
+     * @param direction
+     */
+    private void recordSize(Message message, String endpointName, String direction) {
+        if (message instanceof DefaultMessage && !((DefaultMessage) message).isPayloadLoaded()) {
+            return;
+        }
+
+        Object payload = message.getPayload();
+
+        long size;
+        if (payload instanceof String) {
+            size = utf8Length((String) payload);
+        } else if (payload instanceof byte[]) {
+            size = ((byte[]) payload).length;
+        } else {
+            return;
+        }
+
+        registry.summary(MESSAGE_SIZE, "endpoint", endpointName, "direction", direction).record(size);
+    }
+
+    /**
+     * Registers queue size gauges for all message queues known to the reference resolver of given test context.
+     * Each test context is inspected once so queues added during the test run are discovered with the next test.
+     * @param context
+     */
+    private void inspect(TestContext context) {
+        ReferenceResolver referenceResolver = context.getReferenceResolver();
+        if (referenceResolver == null || !inspectedContexts.add(context)) {
+            return;
+        }
+
+        referenceResolver.resolveAll(DefaultMessageQueue.class)
+                .forEach((name, queue) -> registry.gauge(QUEUE_SIZE, queue, DefaultMessageQueue::getSize, "queue", name));
+
+        if (QUEUE_CHANNEL_PRESENT) {
+            QueueChannelGauges.register(referenceResolver, registry);
+        }
+    }
+
+    /**
+     * Registers correlation store size gauges for producers or consumers the given endpoint has already created. Endpoints
+     * that are producers or consumers themselves (e.g. clients) are inspected directly. Producers and consumers are never
+     * created by this reporter, so an endpoint is inspected again later in case its producer or consumer does not exist yet.
+     * @param endpoint
+     * @param componentType
+     * @param endpointName
+     * @param role
+     * @return true when the endpoint has been inspected completely.
+     */
+    private boolean registerCorrelationStores(Endpoint endpoint, Class<?> componentType, String endpointName, String role) {
+        if (componentType.isInstance(endpoint)) {
+            registerCorrelationStore(endpoint, endpointName, role);
+            return true;
+        }
+
+        AtomicBoolean complete = new AtomicBoolean(true);
+        ReflectionUtils.doWithFields(endpoint.getClass(), field -> {
+            ReflectionUtils.makeAccessible(field);
+            Object component = field.get(endpoint);
+            if (component != null) {
+                registerCorrelationStore(component, endpointName, role);
+            } else {
+                complete.set(false);
+            }
+        }, field -> componentType.isAssignableFrom(field.getType()) && !Modifier.isStatic(field.getModifiers()));
+
+        return complete.get();
+    }
+
+    /**
+     * Registers correlation store size gauge in case given endpoint producer or consumer uses a correlation manager.
+     * @param component
+     * @param endpointName
+     * @param role
+     */
+    private void registerCorrelationStore(Object component, String endpointName, String role) {
+        Method getter = ReflectionUtils.findMethod(component.getClass(), "getCorrelationManager");
+        if (getter == null || !CorrelationManager.class.isAssignableFrom(getter.getReturnType())) {
+            return;
+        }
+
+        CorrelationManager<?> correlationManager = (CorrelationManager<?>) ReflectionUtils.invokeMethod(getter, component);
+        if (correlationManager != null) {
+            registry.gauge(CORRELATION_STORE_SIZE, correlationManager, manager -> manager.getObjectStore() instanceof Map ?
+                    ((Map<?, ?>) manager.getObjectStore()).size() : Double.NaN, "endpoint", endpointName, "role", role);
+        }
+    }
+
+    /**
+     * Gets the number of bytes needed to encode given text in UTF-8 without actually encoding it.
+     * @param text
+     * @return
+     */
+    private static long utf8Length(String text) {
+        long length = 0L;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * Gets the metrics report file.
+     * @return
+     */
+    private File getReportFile() {
+        return new File(getReportDirectory(), reportFileName);
+    }
+
+    /**
+     * Gets the metrics registry.
+     * @return
+     */
+    public MetricsRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Obtains the enabled.
+     * @return
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Specifies the enabled.
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the reportFileName.
+     * @return
+     */
+    public String getReportFileName() {
+        return reportFileName;
+    }
+
+    /**
+     * Sets the reportFileName.
+     * @param reportFileName
+     */
+    public void setReportFileName(String reportFileName) {
+        this.reportFileName = reportFileName;
+    }
+
+    /**
+     * Gets the exportInterval.
+     * @return
+     */
+    public long getExportInterval() {
+        return exportInterval;
+    }
+
+    /**
+     * Sets the exportInterval.
+     * @param exportInterval
+     */
+    public void setExportInterval(long exportInterval) {
+        this.exportInterval = exportInterval;
+    }
+
+    /**
+     * Obtains the jmxEnabled.
+     * @return
+     */
+    public boolean isJmxEnabled() {
+        return jmxEnabled;
+    }
+
+    /**
+     * Specifies the jmxEnabled.
+     * @param jmxEnabled
+     */
+    public void setJmxEnabled(boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+    }
+
+    /**
+     * Registers queue size gauges for Spring integration queue channels. Separate class so queue channel
+     * type is only loaded when present on the classpath.
+     */
+    private static final class QueueChannelGauges {
+        static void register(ReferenceResolver referenceResolver, MetricsRegistry registry) {
+            referenceResolver.resolveAll(QueueChannel.class)
+                    .forEach((name, channel) -> registry.gauge(QUEUE_SIZE, channel, QueueChannel::getQueueSize, "queue", name));
+        }
+    }
+}
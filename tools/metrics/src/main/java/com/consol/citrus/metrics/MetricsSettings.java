@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+/**
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public final class MetricsSettings {
+
+    private MetricsSettings() {
+        // prevent instantiation
+    }
+
+    /** Metrics related settings */
+    private static final String METRICS_ENABLED_PROPERTY = "citrus.metrics.enabled";
+    private static final String METRICS_ENABLED_ENV = "CITRUS_METRICS_ENABLED";
+
+    private static final String METRICS_REPORT_FILE_PROPERTY = "citrus.metrics.report.file";
+    private static final String METRICS_REPORT_FILE_ENV = "CITRUS_METRICS_REPORT_FILE";
+    private static final String METRICS_REPORT_FILE_DEFAULT = "citrus-metrics.csv";
+
+    private static final String METRICS_EXPORT_INTERVAL_PROPERTY = "citrus.metrics.export.interval";
+    private static final String METRICS_EXPORT_INTERVAL_ENV = "CITRUS_METRICS_EXPORT_INTERVAL";
+
+    private static final String METRICS_JMX_ENABLED_PROPERTY = "citrus.metrics.jmx.enabled";
+    private static final String METRICS_JMX_ENABLED_ENV = "CITRUS_METRICS_JMX_ENABLED";
+
+    /**
+     * Get setting to determine if metrics are recorded.
+     * @return
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(METRICS_ENABLED_PROPERTY, System.getenv(METRICS_ENABLED_ENV) != null ?
+                System.getenv(METRICS_ENABLED_ENV) : Boolean.FALSE.toString()));
+    }
+
+    /**
+     * Get the target output file name of the metrics report.
+     * @return
+     */
+    public static String getReportFile() {
+        return System.getProperty(METRICS_REPORT_FILE_PROPERTY, System.getenv(METRICS_REPORT_FILE_ENV) != null ?
+                System.getenv(METRICS_REPORT_FILE_ENV) : METRICS_REPORT_FILE_DEFAULT);
+    }
+
+    /**
+     * Get interval in milliseconds for periodically writing the metrics report while the test suite is running.
+     * Zero disables periodic export so the report is written once when the test suite has finished.
+     * @return
+     */
+    public static long getExportInterval() {
+        return Long.parseLong(System.getProperty(METRICS_EXPORT_INTERVAL_PROPERTY, System.getenv(METRICS_EXPORT_INTERVAL_ENV) != null ?
+                System.getenv(METRICS_EXPORT_INTERVAL_ENV) : "0"));
+    }
+
+    /**
+     * Get setting to determine if metrics are exposed as JMX MBeans.
+     * @return
+     */
+    public static boolean isJmxEnabled() {
+        return Boolean.parseBoolean(System.getProperty(METRICS_JMX_ENABLED_PROPERTY, System.getenv(METRICS_JMX_ENABLED_ENV) != null ?
+                System.getenv(METRICS_JMX_ENABLED_ENV) : Boolean.FALSE.toString()));
+    }
+}
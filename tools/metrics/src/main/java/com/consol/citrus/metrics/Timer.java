@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import java.time.Duration;
+
+/**
+ * Meter recording durations with nanosecond precision. Statistics are measured in milliseconds.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public class Timer extends HistogramMeter {
+
+    /** Converts nanoseconds to milliseconds */
+    private static final double NANOS_TO_MILLIS = 1.0E-6D;
+
+    /**
+     * Constructor using meter id.
+     * @param id
+     */
+    public Timer(MeterId id) {
+        super(id, NANOS_TO_MILLIS);
+    }
+
+    /**
+     * Records given duration.
+     * @param duration
+     */
+    public void record(Duration duration) {
+        recordValue(duration.toNanos());
+    }
+}
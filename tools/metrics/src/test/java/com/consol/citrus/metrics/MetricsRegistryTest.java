@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class MetricsRegistryTest {
+
+    @Test
+    public void testTimer() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        Timer timer = registry.timer("test.timer", "endpoint", "foo");
+        for (int i = 1; i <= 100; i++) {
+            timer.record(Duration.ofMillis(i));
+        }
+
+        Assert.assertSame(registry.timer("test.timer", "endpoint", "foo"), timer);
+        Assert.assertNotSame(registry.timer("test.timer", "endpoint", "bar"), timer);
+
+        Map<String, Double> statistics = timer.measure();
+        Assert.assertEquals(statistics.keySet().toArray(), new String[] { "count", "total", "max", "mean", "p50", "p95", "p99" });
+        Assert.assertEquals(statistics.get("count").doubleValue(), 100.0D);
+        Assert.assertEquals(statistics.get("total"), 5050.0D, 0.001D);
+        Assert.assertEquals(statistics.get("max"), 100.0D, 0.001D);
+        Assert.assertEquals(statistics.get("mean"), 50.5D, 0.001D);
+
+        // percentiles are estimated with bucket upper bounds that are at most twice the actual value
+        Assert.assertTrue(statistics.get("p50") >= 50.0D && statistics.get("p50") <= 100.0D);
+        Assert.assertTrue(statistics.get("p95") >= 95.0D && statistics.get("p95") <= 100.0D);
+        Assert.assertEquals(statistics.get("p99"), 100.0D, 0.001D);
+    }
+
+    @Test
+    public void testSummaryHistogram() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        DistributionSummary summary = registry.summary("test.size");
+        summary.record(0L);
+        summary.record(1L);
+        summary.record(3L);
+        summary.record(4L);
+        summary.record(100L);
+
+        Map<Double, Long> histogram = summary.histogram();
+        Assert.assertEquals(histogram.get(0.0D), Long.valueOf(1L));
+        Assert.assertEquals(histogram.get(1.0D), Long.valueOf(2L));
+        Assert.assertEquals(histogram.get(3.0D), Long.valueOf(3L));
+        Assert.assertEquals(histogram.get(7.0D), Long.valueOf(4L));
+        Assert.assertEquals(histogram.get(127.0D), Long.valueOf(5L));
+        Assert.assertEquals(histogram.size(), 8L);
+
+        Assert.assertEquals(summary.max(), 100.0D);
+        Assert.assertEquals(summary.percentile(0.5D), 3.0D);
+    }
+
+    @Test
+    public void testGauge() {
+        MetricsRegistry registry = new MetricsRegistry();
+        AtomicInteger value = new AtomicInteger(5);
+
+        List<Meter> added = new ArrayList<>();
+        registry.onMeterAdded(added::add);
+
+        Gauge gauge = registry.gauge("test.gauge", value::get, "queue", "foo");
+        Assert.assertSame(registry.gauge("test.gauge", () -> 0, "queue", "foo"), gauge);
+        Assert.assertSame(registry.get("test.gauge", "queue", "foo"), gauge);
+        Assert.assertEquals(added.size(), 1L);
+
+        Assert.assertEquals(gauge.value(), 5.0D);
+        value.set(7);
+        Assert.assertEquals(gauge.measure().get("value").doubleValue(), 7.0D);
+        Assert.assertEquals(gauge.getId().toString(), "test.gauge{queue=foo}");
+    }
+
+    @Test
+    public void testWeakGauge() throws InterruptedException {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        List<String> first = new ArrayList<>(Arrays.asList("a", "b"));
+        Gauge gauge = registry.gauge("test.gauge", first, List::size, "queue", "foo");
+        Assert.assertEquals(gauge.value(), 2.0D);
+
+        List<String> second = new ArrayList<>(Collections.singletonList("c"));
+        Assert.assertSame(registry.gauge("test.gauge", second, List::size, "queue", "foo"), gauge);
+        Assert.assertEquals(gauge.value(), 1.0D);
+
+        second = null;
+        for (int i = 0; i < 50 && !Double.isNaN(gauge.value()); i++) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+
+        Assert.assertTrue(Double.isNaN(gauge.value()));
+        Assert.assertEquals(first.size(), 2L);
+    }
+
+    @Test
+    public void testMeterIdTagOrder() {
+        Assert.assertEquals(new MeterId("test", "b", "2", "a", "1"), new MeterId("test", "a", "1", "b", "2"));
+        Assert.assertEquals(new MeterId("test", "b", "2", "a", "1").toString(), "test{a=1,b=2}");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testMeterTypeConflict() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.timer("test");
+        registry.summary("test");
+    }
+}
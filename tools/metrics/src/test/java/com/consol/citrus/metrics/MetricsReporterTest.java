@@ -0,0 +1,222 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+
+import com.consol.citrus.TestAction;
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.ReceiveMessageAction;
+import com.consol.citrus.actions.SendMessageAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.endpoint.direct.DirectEndpoint;
+import com.consol.citrus.endpoint.direct.DirectSyncEndpoint;
+import com.consol.citrus.endpoint.direct.DirectSyncProducer;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.DefaultMessageQueue;
+import com.consol.citrus.message.LazyPayload;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.report.TestResults;
+import com.consol.citrus.validation.MessageValidator;
+import com.consol.citrus.validation.context.ValidationContext;
+import org.mockito.Mockito;
+import org.springframework.util.ReflectionUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class MetricsReporterTest {
+
+    private TestContext context;
+    private MetricsReporter reporter;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        context = TestContextFactory.newInstance().getObject();
+
+        reporter = new MetricsReporter();
+        reporter.setEnabled(true);
+        reporter.setReportDirectory(Files.createTempDirectory("citrus-metrics").toString());
+        context.getMessageListeners().addMessageListener(reporter);
+    }
+
+    @Test
+    public void testMessageMetrics() throws IOException {
+        DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
+        context.getReferenceResolver().bind("testQueue", queue);
+
+        DirectEndpoint endpoint = new DirectEndpoint();
+        endpoint.setName("directEndpoint");
+        endpoint.getEndpointConfiguration().setQueue(queue);
+
+        new SendMessageAction.Builder()
+                .endpoint(endpoint)
+                .message(new DefaultMessage("Hello Citrus!"))
+                .build()
+                .execute(context);
+
+        Gauge queueSize = (Gauge) reporter.getRegistry().get(MetricsReporter.QUEUE_SIZE, "queue", "testQueue");
+        Assert.assertNotNull(queueSize);
+        Assert.assertEquals(queueSize.value(), 1.0D);
+
+        new ReceiveMessageAction.Builder()
+                .endpoint(endpoint)
+                .validator(new PayloadValidator())
+                .message(new DefaultMessage("Hello Citrus!"))
+                .build()
+                .execute(context);
+
+        Assert.assertEquals(queueSize.value(), 0.0D);
+
+        Timer send = (Timer) reporter.getRegistry().get(MetricsReporter.MESSAGE_SEND, "endpoint", "directEndpoint");
+        Assert.assertEquals(send.count(), 1L);
+
+        Timer receive = (Timer) reporter.getRegistry().get(MetricsReporter.MESSAGE_RECEIVE, "endpoint", "directEndpoint");
+        Assert.assertEquals(receive.count(), 1L);
+
+        Timer validation = (Timer) reporter.getRegistry().get(MetricsReporter.MESSAGE_VALIDATION, "validator", "PayloadValidator");
+        Assert.assertEquals(validation.count(), 1L);
+
+        DistributionSummary outbound = (DistributionSummary) reporter.getRegistry().get(MetricsReporter.MESSAGE_SIZE,
+                "endpoint", "directEndpoint", "direction", "outbound");
+        Assert.assertEquals(outbound.total(), 13.0D);
+
+        DistributionSummary inbound = (DistributionSummary) reporter.getRegistry().get(MetricsReporter.MESSAGE_SIZE,
+                "endpoint", "directEndpoint", "direction", "inbound");
+        Assert.assertEquals(inbound.max(), 13.0D);
+
+        TestAction action = Mockito.mock(TestAction.class);
+        Mockito.when(action.getName()).thenReturn("sleep");
+        reporter.onTestActionDuration(Mockito.mock(TestCase.class), action, Duration.ofMillis(1500L));
+        Assert.assertEquals(((Timer) reporter.getRegistry().get(MetricsReporter.ACTION_DURATION, "action", "sleep")).max(), 1500.0D);
+
+        reporter.generateReport(new TestResults());
+
+        File reportFile = new File(reporter.getReportDirectory(), reporter.getReportFileName());
+        Assert.assertTrue(reportFile.exists());
+
+        List<String> lines = Files.readAllLines(reportFile.toPath(), StandardCharsets.UTF_8);
+        Assert.assertEquals(lines.get(0), "name,tags,statistic,value");
+        Assert.assertTrue(lines.contains("citrus.action.duration,action=sleep,count,1"));
+        Assert.assertTrue(lines.contains("citrus.action.duration,action=sleep,max,1500"));
+        Assert.assertTrue(lines.contains("citrus.message.send,endpoint=directEndpoint,count,1"));
+        Assert.assertTrue(lines.contains("citrus.message.size,direction=outbound;endpoint=directEndpoint,total,13"));
+        Assert.assertTrue(lines.contains("citrus.message.size,direction=outbound;endpoint=directEndpoint,le=15,1"));
+        Assert.assertTrue(lines.contains("citrus.queue.size,queue=testQueue,value,0"));
+    }
+
+    @Test
+    public void testLazyPayloadNotLoaded() {
+        DirectEndpoint endpoint = new DirectEndpoint();
+        endpoint.setName("lazyEndpoint");
+
+        DefaultMessage message = new DefaultMessage((LazyPayload) () -> {
+            throw new AssertionError("Lazy payload must not be loaded");
+        });
+
+        reporter.onMessageReceived(message, endpoint, Duration.ofMillis(10L), context);
+
+        Assert.assertFalse(message.isPayloadLoaded());
+        Assert.assertEquals(((Timer) reporter.getRegistry().get(MetricsReporter.MESSAGE_RECEIVE, "endpoint", "lazyEndpoint")).count(), 1L);
+        Assert.assertNull(reporter.getRegistry().get(MetricsReporter.MESSAGE_SIZE, "endpoint", "lazyEndpoint", "direction", "inbound"));
+    }
+
+    @Test
+    public void testCorrelationStoreSize() {
+        DirectSyncEndpoint endpoint = new DirectSyncEndpoint();
+        endpoint.setName("syncEndpoint");
+
+        Message message = new DefaultMessage("Hello Citrus!");
+        reporter.onMessageSent(message, endpoint, Duration.ofMillis(10L), context);
+        Assert.assertNull(reporter.getRegistry().get(MetricsReporter.CORRELATION_STORE_SIZE, "endpoint", "syncEndpoint", "role", "producer"));
+        Field producerField = ReflectionUtils.findField(DirectSyncEndpoint.class, "syncProducer");
+        ReflectionUtils.makeAccessible(producerField);
+        Assert.assertNull(ReflectionUtils.getField(producerField, endpoint));
+
+        DirectSyncProducer producer = (DirectSyncProducer) endpoint.createProducer();
+        reporter.onMessageSent(message, endpoint, Duration.ofMillis(10L), context);
+
+        Gauge storeSize = (Gauge) reporter.getRegistry().get(MetricsReporter.CORRELATION_STORE_SIZE, "endpoint", "syncEndpoint", "role", "producer");
+        Assert.assertNotNull(storeSize);
+        Assert.assertEquals(storeSize.value(), 0.0D);
+
+        producer.getCorrelationManager().store("correlationKey", message);
+        Assert.assertEquals(storeSize.value(), 1.0D);
+    }
+
+    @Test
+    public void testJmxExport() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        reporter.setJmxEnabled(true);
+        reporter.onStart();
+
+        reporter.getRegistry().timer(MetricsReporter.MESSAGE_SEND, "endpoint", "jmxEndpoint").record(Duration.ofMillis(25L));
+
+        ObjectName objectName = new ObjectName("com.consol.citrus:type=Metrics,name=\"citrus.message.send\",endpoint=\"jmxEndpoint\"");
+        Assert.assertTrue(server.isRegistered(objectName));
+        Assert.assertEquals(server.getAttribute(objectName, "count"), 1.0D);
+        Assert.assertEquals(server.getAttribute(objectName, "max"), 25.0D);
+
+        reporter.onFinish();
+        Assert.assertFalse(server.isRegistered(objectName));
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        Assert.assertFalse(new MetricsReporter().isEnabled());
+    }
+
+    @Test
+    public void testDisabled() {
+        reporter.setEnabled(false);
+        reporter.onMessageSent(new DefaultMessage("Hello Citrus!"), new DirectEndpoint(), Duration.ofMillis(10L), context);
+        reporter.generateReport(new TestResults());
+
+        Assert.assertTrue(reporter.getRegistry().getMeters().isEmpty());
+        Assert.assertFalse(new File(reporter.getReportDirectory(), reporter.getReportFileName()).exists());
+    }
+
+    /**
+     * Validator comparing plain text payloads.
+     */
+    private static class PayloadValidator implements MessageValidator<ValidationContext> {
+        @Override
+        public void validateMessage(Message receivedMessage, Message controlMessage, TestContext context, List<ValidationContext> validationContexts) throws ValidationException {
+            Assert.assertEquals(receivedMessage.getPayload(String.class), controlMessage.getPayload(String.class));
+        }
+
+        @Override
+        public boolean supportsMessageType(String messageType, Message message) {
+            return true;
+        }
+    }
+}
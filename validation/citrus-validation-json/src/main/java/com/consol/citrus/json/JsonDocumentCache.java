@@ -0,0 +1,363 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.json;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+
+/**
+ * Cache of parsed Json documents shared by all read only Json consumers (validators, variable extractors and message selectors).
+ * A receive action that validates, extracts and selects on the same message payload parses the Json text only once.
+ *
+ * Cache is confined to the current thread and keeps the most recently parsed documents. Documents are keyed by payload
+ * text and parser mode. Payload identity is checked first so the cache lookup does not compare the text as long as all
+ * consumers read the same payload instance from the message.
+ *
+ * Parsed documents are shared between consumers and therefore are read only. All Json objects and arrays of a cached
+ * document (including the nodes returned by Json path expressions) reject modifications with an
+ * {@link UnsupportedOperationException}. Components that manipulate the Json document (e.g. message processors or
+ * data dictionaries) must parse their own copy.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public final class JsonDocumentCache {
+
+    /** Maximum number of parsed documents cached per thread */
+    public static final String JSON_DOCUMENT_CACHE_SIZE_PROPERTY = "citrus.json.document.cache.size";
+    public static final String JSON_DOCUMENT_CACHE_SIZE_ENV = "CITRUS_JSON_DOCUMENT_CACHE_SIZE";
+    public static final int JSON_DOCUMENT_CACHE_SIZE = Integer.parseInt(System.getProperty(JSON_DOCUMENT_CACHE_SIZE_PROPERTY, System.getenv(JSON_DOCUMENT_CACHE_SIZE_ENV) != null ?
+            System.getenv(JSON_DOCUMENT_CACHE_SIZE_ENV) : "16"));
+
+    /** Thread confined parsed documents */
+    private static final ThreadLocal<Map<CacheKey, Object>> DOCUMENTS = ThreadLocal.withInitial(() ->
+            new LinkedHashMap<CacheKey, Object>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, Object> eldest) {
+                    return size() > JSON_DOCUMENT_CACHE_SIZE;
+                }
+            });
+
+    /** Cache statistics */
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    /**
+     * Prevent instantiation.
+     */
+    private JsonDocumentCache() {
+    }
+
+    /**
+     * Gets parsed Json document for given Json text using the simple parser mode.
+     * @param json
+     * @return
+     * @throws ParseException
+     */
+    public static Object parse(String json) throws ParseException {
+        return parse(json, JSONParser.MODE_JSON_SIMPLE);
+    }
+
+    /**
+     * Gets read only parsed Json document for given Json text and parser mode. Parses the text in case no cached document is
+     * available for the current thread.
+     * @param json
+     * @param permissiveMode
+     * @return
+     * @throws ParseException
+     */
+    public static Object parse(String json, int permissiveMode) throws ParseException {
+        Map<CacheKey, Object> documents = DOCUMENTS.get();
+        CacheKey key = new CacheKey(json, permissiveMode);
+
+        Object document = documents.get(key);
+        if (document != null) {
+            HITS.incrementAndGet();
+            return document;
+        }
+
+        MISSES.incrementAndGet();
+        document = readOnly(new JSONParser(permissiveMode).parse(json));
+        if (document != null) {
+            documents.put(key, document);
+        }
+
+        return document;
+    }
+
+    /**
+     * Converts parsed Json objects and arrays to read only representations recursively.
+     * @param node
+     * @return
+     */
+    private static Object readOnly(Object node) {
+        if (node instanceof JSONObject) {
+            return new ReadOnlyJSONObject((JSONObject) node);
+        } else if (node instanceof JSONArray) {
+            return new ReadOnlyJSONArray((JSONArray) node);
+        }
+
+        return node;
+    }
+
+    /**
+     * Removes all parsed documents cached for the current thread.
+     */
+    public static void clear() {
+        DOCUMENTS.get().clear();
+    }
+
+    /**
+     * Gets the number of cache hits.
+     * @return
+     */
+    public static long getHits() {
+        return HITS.get();
+    }
+
+    /**
+     * Gets the number of cache misses that required parsing the Json text.
+     * @return
+     */
+    public static long getMisses() {
+        return MISSES.get();
+    }
+
+    /**
+     * Json object rejecting all modifications.
+     */
+    private static final class ReadOnlyJSONObject extends JSONObject {
+        private final Map<String, Object> view = Collections.unmodifiableMap(new AbstractMap<String, Object>() {
+            @Override
+            public Set<Entry<String, Object>> entrySet() {
+                return ReadOnlyJSONObject.super.entrySet();
+            }
+        });
+
+        ReadOnlyJSONObject(JSONObject source) {
+            source.forEach((key, value) -> super.put(key, readOnly(value)));
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ?> m) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public Object putIfAbsent(String key, Object value) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public Object remove(Object key) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public Object replace(String key, Object value) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public boolean replace(String key, Object oldValue, Object newValue) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return view.keySet();
+        }
+
+        @Override
+        public Collection<Object> values() {
+            return view.values();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return view.entrySet();
+        }
+    }
+
+    /**
+     * Json array rejecting all modifications.
+     */
+    private static final class ReadOnlyJSONArray extends JSONArray {
+        ReadOnlyJSONArray(JSONArray source) {
+            source.forEach(value -> super.add(readOnly(value)));
+        }
+
+        @Override
+        public boolean add(Object value) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public void add(int index, Object element) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public boolean addAll(Collection<?> c) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<?> c) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public Object set(int index, Object element) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public Object remove(int index) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super Object> filter) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<Object> operator) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public void sort(Comparator<? super Object> c) {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException("Cached Json document is read only");
+        }
+
+        @Override
+        public List<Object> subList(int fromIndex, int toIndex) {
+            return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+        }
+    }
+
+    /**
+     * Cache key combines payload text and parser mode.
+     */
+    private static final class CacheKey {
+        private final String json;
+        private final int permissiveMode;
+
+        CacheKey(String json, int permissiveMode) {
+            this.json = json;
+            this.permissiveMode = permissiveMode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            CacheKey other = (CacheKey) o;
+            return permissiveMode == other.permissiveMode &&
+                    (json == other.json || json.equals(other.json));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * json.hashCode() + permissiveMode;
+        }
+    }
+}
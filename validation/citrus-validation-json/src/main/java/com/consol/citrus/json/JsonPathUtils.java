@@ -23,9 +23,10 @@ import com.consol.citrus.validation.json.JsonPathFunctions;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.ReadContext;
+import com.jayway.jsonpath.spi.cache.Cache;
+import com.jayway.jsonpath.spi.cache.CacheProvider;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.springframework.util.StringUtils;
 
@@ -43,8 +44,7 @@ public class JsonPathUtils {
      */
     public static Object evaluate(String payload, String jsonPathExpression) {
         try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(payload);
+            Object receivedJson = JsonDocumentCache.parse(payload);
             ReadContext readerContext = JsonPath.parse(receivedJson);
 
             return evaluate(readerContext, jsonPathExpression);
@@ -72,10 +72,11 @@ public class JsonPathUtils {
         Object jsonPathResult = null;
         PathNotFoundException pathNotFoundException = null;
         try {
-            if (JsonPath.isPathDefinite(expression)) {
-                jsonPathResult = readerContext.read(expression);
+            JsonPath jsonPath = compile(expression);
+            if (jsonPath.isDefinite()) {
+                jsonPathResult = readerContext.read(jsonPath);
             } else {
-                JSONArray values = readerContext.read(expression);
+                JSONArray values = readerContext.read(jsonPath);
                 if (values.size() == 1) {
                     jsonPathResult = values.get(0);
                 } else {
@@ -97,6 +98,23 @@ public class JsonPathUtils {
         return jsonPathResult;
     }
 
+    /**
+     * Gets compiled JsonPath for given expression. Compiled paths are held in the JsonPath cache provider so
+     * each expression is compiled only once.
+     * @param jsonPathExpression
+     * @return
+     */
+    public static JsonPath compile(String jsonPathExpression) {
+        Cache cache = CacheProvider.getCache();
+        JsonPath jsonPath = cache.get(jsonPathExpression);
+        if (jsonPath == null) {
+            jsonPath = JsonPath.compile(jsonPathExpression);
+            cache.put(jsonPathExpression, jsonPath);
+        }
+
+        return jsonPath;
+    }
+
     /**
      * Evaluate JsonPath expression on given payload string and return result as string.
      * @param payload
@@ -105,8 +123,7 @@ public class JsonPathUtils {
      */
     public static String evaluateAsString(String payload, String jsonPathExpression) {
         try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(payload);
+            Object receivedJson = JsonDocumentCache.parse(payload);
             ReadContext readerContext = JsonPath.parse(receivedJson);
 
             return evaluateAsString(readerContext, jsonPathExpression);
@@ -25,6 +25,7 @@ import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.json.JsonDocumentCache;
 import com.consol.citrus.json.JsonSchemaRepository;
 import com.consol.citrus.json.JsonSettings;
 import com.consol.citrus.message.Message;
@@ -39,7 +40,6 @@ import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.ReadContext;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -99,11 +99,9 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                 		"expected message contents, but received empty message!");
             }
 
-            JSONParser parser = new JSONParser(permissiveMode);
-
-            Object receivedJson = parser.parse(receivedJsonText);
+            Object receivedJson = JsonDocumentCache.parse(receivedJsonText, permissiveMode);
             ReadContext readContext = JsonPath.parse(receivedJson);
-            Object controlJson = parser.parse(controlJsonText);
+            Object controlJson = JsonDocumentCache.parse(controlJsonText, permissiveMode);
             if (receivedJson instanceof JSONObject) {
                 validateJson("$.", (JSONObject) receivedJson, (JSONObject) controlJson, validationContext, context, readContext);
             } else if (receivedJson instanceof JSONArray) {
@@ -200,14 +198,14 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                 } else if (controlValue instanceof JSONObject) {
                     Assert.isTrue(receivedValue instanceof JSONObject,
                             ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
-                                    JSONObject.class.getSimpleName(), receivedValue.getClass().getSimpleName()));
+                                    JSONObject.class.getSimpleName(), getJsonType(receivedValue).getSimpleName()));
 
                     validateJson(controlKey, (JSONObject) receivedValue,
                             (JSONObject) controlValue, validationContext, context, readContext);
                 } else if (controlValue instanceof JSONArray) {
                     Assert.isTrue(receivedValue instanceof JSONArray,
                             ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
-                                    JSONArray.class.getSimpleName(), receivedValue.getClass().getSimpleName()));
+                                    JSONArray.class.getSimpleName(), getJsonType(receivedValue).getSimpleName()));
 
                     JSONArray jsonArrayControl = (JSONArray) controlValue;
                     JSONArray jsonArrayReceived = (JSONArray) receivedValue;
@@ -222,10 +220,10 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                                         jsonArrayControl.size(), jsonArrayReceived.size()));
                     }
                     for (int i = 0; i < jsonArrayControl.size(); i++) {
-                        if (jsonArrayControl.get(i).getClass().isAssignableFrom(JSONObject.class)) {
-                            Assert.isTrue(jsonArrayReceived.get(i).getClass().isAssignableFrom(JSONObject.class),
+                        if (jsonArrayControl.get(i) instanceof JSONObject) {
+                            Assert.isTrue(jsonArrayReceived.get(i) instanceof JSONObject,
                                     ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + jsonArrayControl.get(i) + "'",
-                                            JSONObject.class.getName(), jsonArrayReceived.get(i).getClass().getName()));
+                                            JSONObject.class.getName(), getJsonType(jsonArrayReceived.get(i)).getName()));
 
                             validateJson(controlKey, (JSONObject) jsonArrayReceived.get(i),
                                     (JSONObject) jsonArrayControl.get(i), validationContext, context, readContext);
@@ -256,6 +254,22 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         }
     }
 
+    /**
+     * Gets the Json type of given value. Json objects and arrays are reported with their public type
+     * regardless of the actual implementation, e.g. read only cached documents.
+     * @param value
+     * @return
+     */
+    private static Class<?> getJsonType(Object value) {
+        if (value instanceof JSONObject) {
+            return JSONObject.class;
+        } else if (value instanceof JSONArray) {
+            return JSONArray.class;
+        }
+
+        return value.getClass();
+    }
+
     /**
      * Checks if given element node is either on ignore list or
      * contains @ignore@ tag inside control message
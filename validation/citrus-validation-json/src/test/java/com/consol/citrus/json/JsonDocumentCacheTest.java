@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.json;
+
+import java.util.Iterator;
+
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class JsonDocumentCacheTest {
+
+    @Test
+    public void testParseOnce() throws ParseException {
+        String payload = "{ \"text\": \"Hello World!\", \"index\": 5 }";
+
+        JsonDocumentCache.clear();
+        long misses = JsonDocumentCache.getMisses();
+        long hits = JsonDocumentCache.getHits();
+
+        Object json = JsonDocumentCache.parse(payload);
+        Assert.assertTrue(json instanceof JSONObject);
+        Assert.assertEquals(((JSONObject) json).get("text"), "Hello World!");
+
+        Assert.assertSame(JsonDocumentCache.parse(payload), json);
+        Assert.assertSame(JsonDocumentCache.parse(new String(payload)), json);
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(payload, "$.index"), "5");
+
+        Assert.assertEquals(JsonDocumentCache.getMisses() - misses, 1L);
+        Assert.assertEquals(JsonDocumentCache.getHits() - hits, 3L);
+
+        Assert.assertNotSame(JsonDocumentCache.parse(payload, JSONParser.MODE_PERMISSIVE), json);
+        Assert.assertEquals(JsonDocumentCache.getMisses() - misses, 2L);
+    }
+
+    @Test
+    public void testReadOnly() throws ParseException {
+        String payload = "{ \"person\": { \"name\": \"Christoph\" }, \"tags\": [ \"a\", { \"b\": 1 } ] }";
+
+        JSONObject json = (JSONObject) JsonDocumentCache.parse(payload);
+        JSONObject person = (JSONObject) JsonPathUtils.evaluate(payload, "$.person");
+        JSONArray tags = (JSONArray) json.get("tags");
+
+        assertReadOnly(() -> json.put("text", "Hello"));
+        assertReadOnly(() -> json.remove("person"));
+        assertReadOnly(() -> json.keySet().clear());
+        assertReadOnly(() -> json.entrySet().iterator().next().setValue("Hello"));
+        assertReadOnly(() -> person.put("name", "Hello"));
+        assertReadOnly(() -> tags.add("c"));
+        assertReadOnly(() -> {
+            Iterator<Object> it = tags.iterator();
+            it.next();
+            it.remove();
+        });
+        assertReadOnly(() -> tags.subList(0, 1).clear());
+        assertReadOnly(() -> ((JSONObject) tags.get(1)).clear());
+
+        Assert.assertEquals(person.toJSONString(), "{\"name\":\"Christoph\"}");
+        Assert.assertEquals(json, new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(payload));
+    }
+
+    private void assertReadOnly(Runnable modification) {
+        Assert.assertThrows(UnsupportedOperationException.class, modification::run);
+    }
+
+    @Test(expectedExceptions = ParseException.class)
+    public void testParseError() throws ParseException {
+        JsonDocumentCache.parse("{ \"text\": ");
+    }
+}
@@ -19,7 +19,7 @@ package com.consol.citrus.endpoint.adapter.mapping;
 import java.util.Collections;
 
 import com.consol.citrus.message.Message;
-import com.consol.citrus.util.XMLUtils;
+import com.consol.citrus.xml.XmlDocumentCache;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
 import com.consol.citrus.xml.xpath.XPathUtils;
 
@@ -40,7 +40,7 @@ public class XPathPayloadMappingKeyExtractor extends AbstractMappingKeyExtractor
     @Override
     public String getMappingKey(Message request) {
         return XPathUtils.evaluateAsString(
-                XMLUtils.parseMessagePayload(request.getPayload(String.class)),
+                XmlDocumentCache.parse(request.getPayload(String.class)),
                 xpathExpression,
                 namespaceContextBuilder.buildContext(request, Collections.emptyMap()));
     }
@@ -29,6 +29,7 @@ import java.util.StringTokenizer;
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.xml.XmlConfigurer;
+import com.consol.citrus.xml.XmlDocumentCache;
 import org.springframework.util.StringUtils;
 import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
@@ -69,6 +70,7 @@ public final class XMLUtils {
      */
     public static void initialize(XmlConfigurer xmlConfigurer) {
         configurer = xmlConfigurer;
+        XmlDocumentCache.clear();
     }
 
     /**
@@ -305,13 +307,13 @@ public final class XMLUtils {
     }
 
     /**
-     * Parse message payload with DOM implementation.
+     * Parse message payload with DOM implementation. Uses parser instance bound to the current thread.
      * @param messagePayload
      * @throws CitrusRuntimeException
      * @return DOM document.
      */
     public static Document parseMessagePayload(String messagePayload) {
-        LSParser parser = configurer.createLSParser();
+        LSParser parser = configurer.getThreadLocalLSParser();
         LSInput receivedInput = configurer.createLSInput();
         try {
             Charset charset = getTargetCharset(messagePayload);
@@ -27,6 +27,7 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
+import com.consol.citrus.xml.XmlDocumentCache;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
 import com.consol.citrus.xml.xpath.XPathExpressionResult;
 import com.consol.citrus.xml.xpath.XPathUtils;
@@ -60,7 +61,7 @@ public class XpathMessageValidator extends AbstractMessageValidator<XpathMessage
 
         LOG.debug("Start XPath element validation ...");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XmlDocumentCache.parse(receivedMessage.getPayload(String.class));
         NamespaceContext namespaceContext = getNamespaceContextBuilder(context)
                 .buildContext(receivedMessage, validationContext.getNamespaces());
 
@@ -30,6 +30,7 @@ import com.consol.citrus.exceptions.UnknownElementException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.variable.VariableExtractor;
+import com.consol.citrus.xml.XmlDocumentCache;
 import com.consol.citrus.xml.xpath.XPathExpressionResult;
 import com.consol.citrus.xml.xpath.XPathUtils;
 import org.slf4j.Logger;
@@ -93,7 +94,7 @@ public class XpathPayloadVariableExtractor implements VariableExtractor {
                 LOG.debug("Evaluating XPath expression: " + pathExpression);
             }
 
-            Document doc = XMLUtils.parseMessagePayload(message.getPayload(String.class));
+            Document doc = XmlDocumentCache.parse(message.getPayload(String.class));
 
             if (XPathUtils.isXPathExpression(pathExpression)) {
                 XPathExpressionResult resultType = XPathExpressionResult.fromString(pathExpression, XPathExpressionResult.STRING);
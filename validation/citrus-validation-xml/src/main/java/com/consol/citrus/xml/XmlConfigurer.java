@@ -53,6 +53,9 @@ public class XmlConfigurer implements InitializingPhase {
     private Map<String, Object> parseSettings = new HashMap<>();
     private Map<String, Object> serializeSettings = new HashMap<>();
 
+    /** Parser instances reused per thread */
+    private volatile ThreadLocal<LSParser> parsers = new ThreadLocal<>();
+
     public static final String SPLIT_CDATA_SECTIONS = "split-cdata-sections";
     public static final String FORMAT_PRETTY_PRINT = "format-pretty-print";
     public static final String ELEMENT_CONTENT_WHITESPACE = "element-content-whitespace";
@@ -97,6 +100,26 @@ public class XmlConfigurer implements InitializingPhase {
         return parser;
     }
 
+    /**
+     * Gets parser instance bound to the current thread. Parser is created once per thread and reused for subsequent parse
+     * operations. Callers must not change the parser configuration. Creates a new parser in case the thread bound parser is
+     * busy with another parse operation.
+     * @return
+     */
+    public LSParser getThreadLocalLSParser() {
+        ThreadLocal<LSParser> threadParsers = parsers;
+        LSParser parser = threadParsers.get();
+
+        if (parser == null) {
+            parser = createLSParser();
+            threadParsers.set(parser);
+        } else if (parser.getBusy()) {
+            return createLSParser();
+        }
+
+        return parser;
+    }
+
     /**
      * Set parser configuration based on this configurers settings.
      * @param parser
@@ -243,6 +266,7 @@ public class XmlConfigurer implements InitializingPhase {
      */
     public void setParseSettings(Map<String, Object> parseSettings) {
         this.parseSettings = parseSettings;
+        this.parsers = new ThreadLocal<>();
     }
 
     /**
@@ -258,6 +282,7 @@ public class XmlConfigurer implements InitializingPhase {
     public void initialize() {
         setDefaultParseSettings();
         setDefaultSerializeSettings();
+        parsers = new ThreadLocal<>();
 
         XMLUtils.initialize(this);
     }
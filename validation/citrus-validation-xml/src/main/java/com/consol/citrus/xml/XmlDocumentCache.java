@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.consol.citrus.util.XMLUtils;
+import org.w3c.dom.Document;
+
+/**
+ * Cache of parsed DOM documents shared by all read only XML consumers (validators, variable extractors and message selectors).
+ * A receive action that validates schema, namespaces and payload, evaluates XPath expressions and extracts variables
+ * on the same message payload parses the XML text only once.
+ *
+ * Cache is confined to the current thread because DOM implementations are not thread safe even for read access.
+ * Cache keeps the most recently parsed documents keyed by payload text. String equality checks identity first so the cache lookup
+ * does not compare the text as long as all consumers read the same payload instance from the message.
+ *
+ * Parsed documents are shared between consumers and therefore must not be modified. Components that manipulate the
+ * DOM document (e.g. message processors or data dictionaries) must parse their own copy.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public final class XmlDocumentCache {
+
+    /** Maximum number of parsed documents cached per thread */
+    public static final String XML_DOCUMENT_CACHE_SIZE_PROPERTY = "citrus.xml.document.cache.size";
+    public static final String XML_DOCUMENT_CACHE_SIZE_ENV = "CITRUS_XML_DOCUMENT_CACHE_SIZE";
+    public static final int XML_DOCUMENT_CACHE_SIZE = Integer.parseInt(System.getProperty(XML_DOCUMENT_CACHE_SIZE_PROPERTY, System.getenv(XML_DOCUMENT_CACHE_SIZE_ENV) != null ?
+            System.getenv(XML_DOCUMENT_CACHE_SIZE_ENV) : "16"));
+
+    /** Cache generation, incremented when all threads should drop their cached documents */
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    /** Thread confined parsed documents */
+    private static final ThreadLocal<Documents> DOCUMENTS = ThreadLocal.withInitial(Documents::new);
+
+    /** Cache statistics */
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    /**
+     * Prevent instantiation.
+     */
+    private XmlDocumentCache() {
+    }
+
+    /**
+     * Gets parsed DOM document for given XML text. Parses the text in case no cached document is available for the current thread.
+     * @param xml
+     * @return
+     */
+    public static Document parse(String xml) {
+        Documents documents = DOCUMENTS.get();
+        if (documents.generation != GENERATION.get()) {
+            documents.clear();
+            documents.generation = GENERATION.get();
+        }
+
+        Document document = documents.get(xml);
+        if (document != null) {
+            HITS.incrementAndGet();
+            return document;
+        }
+
+        MISSES.incrementAndGet();
+        document = XMLUtils.parseMessagePayload(xml);
+        if (document != null) {
+            documents.put(xml, document);
+        }
+
+        return document;
+    }
+
+    /**
+     * Removes all parsed documents cached for all threads e.g. because XML parser settings have changed.
+     */
+    public static void clear() {
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of cache hits.
+     * @return
+     */
+    public static long getHits() {
+        return HITS.get();
+    }
+
+    /**
+     * Gets the number of cache misses that required parsing the XML text.
+     * @return
+     */
+    public static long getMisses() {
+        return MISSES.get();
+    }
+
+    /**
+     * Thread confined least recently used documents.
+     */
+    @SuppressWarnings("serial")
+    private static final class Documents extends LinkedHashMap<String, Document> {
+        private int generation = GENERATION.get();
+
+        Documents() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Document> eldest) {
+            return size() > XML_DOCUMENT_CACHE_SIZE;
+        }
+    }
+}
@@ -17,6 +17,10 @@
 package com.consol.citrus.xml;
 
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,11 +30,15 @@ import com.consol.citrus.common.Named;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.xml.schema.TargetNamespaceSchemaMappingStrategy;
 import com.consol.citrus.xml.schema.WsdlXsdSchema;
+import com.consol.citrus.xml.schema.XsdSchemaCollection;
 import com.consol.citrus.xml.schema.XsdSchemaMappingStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.xml.validation.XmlValidator;
+import org.springframework.xml.validation.XmlValidatorFactory;
 import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.springframework.xml.xsd.XsdSchema;
 import org.w3c.dom.Document;
@@ -55,6 +63,12 @@ public class XsdSchemaRepository implements Named, InitializingPhase {
     /** Mapping strategy */
     private XsdSchemaMappingStrategy schemaMappingStrategy = new TargetNamespaceSchemaMappingStrategy();
 
+    /** Validator compiled from all schemas in this repository */
+    private XmlValidator validator;
+
+    /** Schemas used to compile the validator */
+    private List<XsdSchema> validatorSchemas;
+
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(XsdSchemaRepository.class);
 
@@ -68,6 +82,68 @@ public class XsdSchemaRepository implements Named, InitializingPhase {
         return schema != null;
     }
 
+    /**
+     * Gets validator for all schemas in this repository. Schema grammar is compiled once and validator is reused as long as the
+     * list of schemas does not change. Validator is thread safe and creates a new JAXP validator for each validation.
+     * @return validator instance
+     */
+    public synchronized XmlValidator getValidator() {
+        if (validator != null && isSameSchemas(validatorSchemas, schemas)) {
+            return validator;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Compiling %s schemas in repository '%s'", schemas.size(), name));
+        }
+
+        List<Resource> schemaResources = new ArrayList<>();
+        TransformerFactory transformerFactory = TransformerFactory.newInstance();
+        for (XsdSchema xsdSchema : schemas) {
+            if (xsdSchema instanceof XsdSchemaCollection) {
+                schemaResources.addAll(((XsdSchemaCollection) xsdSchema).getSchemaResources());
+            } else if (xsdSchema instanceof WsdlXsdSchema) {
+                schemaResources.addAll(((WsdlXsdSchema) xsdSchema).getSchemaResources());
+            } else {
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                try {
+                    transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
+                } catch (TransformerException e) {
+                    throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
+                }
+                schemaResources.add(new ByteArrayResource(bos.toByteArray()));
+            }
+        }
+
+        try {
+            validator = XmlValidatorFactory.createValidator(schemaResources.toArray(new Resource[0]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to create validator for schema repository " + name, e);
+        }
+
+        validatorSchemas = new ArrayList<>(schemas);
+        return validator;
+    }
+
+    /**
+     * Checks that both lists hold the very same schema instances.
+     * @param cached
+     * @param current
+     * @return
+     */
+    private static boolean isSameSchemas(List<XsdSchema> cached, List<XsdSchema> current) {
+        if (cached.size() != current.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < cached.size(); i++) {
+            if (cached.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public void initialize() {
         try {
@@ -62,10 +62,34 @@ public abstract class AbstractSchemaCollection extends SimpleXsdSchema implement
     public static final String WWW_W3_ORG_2000_XMLNS = "http://www.w3.org/2000/xmlns/";
     public static final String W3C_XML_SCHEMA_NS_URI = "http://www.w3.org/2001/XMLSchema";
 
+    /** Validator compiled from schema resources */
+    private XmlValidator validator;
+
+    /** Schema resources used to compile the validator */
+    private List<Resource> validatorResources;
+
+    /**
+     * Creates validator for all schema resources. Schema grammar is compiled once and validator is reused as long as
+     * schema resources do not change.
+     * @return
+     */
     @Override
-    public XmlValidator createValidator() {
+    public synchronized XmlValidator createValidator() {
+        if (validator != null && validatorResources.size() == schemaResources.size()) {
+            boolean changed = false;
+            for (int i = 0; i < schemaResources.size() && !changed; i++) {
+                changed = validatorResources.get(i) != schemaResources.get(i);
+            }
+
+            if (!changed) {
+                return validator;
+            }
+        }
+
         try {
-            return XmlValidatorFactory.createValidator(schemaResources.toArray(new Resource[schemaResources.size()]), W3C_XML_SCHEMA_NS_URI);
+            validator = XmlValidatorFactory.createValidator(schemaResources.toArray(new Resource[schemaResources.size()]), W3C_XML_SCHEMA_NS_URI);
+            validatorResources = new ArrayList<>(schemaResources);
+            return validator;
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to create validator from multi resource schema files", e);
         }
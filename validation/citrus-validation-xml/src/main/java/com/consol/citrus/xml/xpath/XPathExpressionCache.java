@@ -0,0 +1,184 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml.xpath;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.xml.SimpleNamespaceContext;
+
+/**
+ * Bounded least recently used cache of compiled XPath expressions. Compiled expressions and XPath instances are not thread safe
+ * so the cache is confined to the current thread. Each thread holds its own XPath instance created once from the XPath factory and
+ * its own set of compiled expressions.
+ *
+ * Cache key is the expression string in combination with the namespace bindings of the given namespace context. Namespace contexts
+ * of unknown type are compared by identity.
+ *
+ * @author Christoph Deppisch
+ * @since 3.0
+ */
+public final class XPathExpressionCache {
+
+    /** Maximum number of compiled expressions cached per thread */
+    public static final String XPATH_CACHE_SIZE_PROPERTY = "citrus.xpath.cache.size";
+    public static final String XPATH_CACHE_SIZE_ENV = "CITRUS_XPATH_CACHE_SIZE";
+    public static final int XPATH_CACHE_SIZE = Integer.parseInt(System.getProperty(XPATH_CACHE_SIZE_PROPERTY, System.getenv(XPATH_CACHE_SIZE_ENV) != null ?
+            System.getenv(XPATH_CACHE_SIZE_ENV) : "256"));
+
+    /** Thread confined XPath instance */
+    private static final ThreadLocal<XPath> XPATH = ThreadLocal.withInitial(() -> XPathUtils.createXPathFactory().newXPath());
+
+    /** Thread confined compiled expressions */
+    private static final ThreadLocal<Map<CacheKey, XPathExpression>> EXPRESSIONS = ThreadLocal.withInitial(() ->
+            new LinkedHashMap<CacheKey, XPathExpression>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, XPathExpression> eldest) {
+                    return size() > XPATH_CACHE_SIZE;
+                }
+            });
+
+    /** Cache statistics */
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    /**
+     * Prevent instantiation.
+     */
+    private XPathExpressionCache() {
+    }
+
+    /**
+     * Gets compiled expression for given expression string and namespace context. Compiles and caches the expression
+     * in case no cached version is available for the current thread.
+     * @param expression
+     * @param nsContext
+     * @return
+     * @throws XPathExpressionException
+     */
+    public static XPathExpression getExpression(String expression, NamespaceContext nsContext) throws XPathExpressionException {
+        Map<CacheKey, XPathExpression> expressions = EXPRESSIONS.get();
+        CacheKey key = new CacheKey(expression, nsContext);
+
+        XPathExpression compiled = expressions.get(key);
+        if (compiled != null) {
+            HITS.incrementAndGet();
+            return compiled;
+        }
+
+        MISSES.incrementAndGet();
+        XPath xpath = XPATH.get();
+        xpath.reset();
+
+        if (nsContext != null) {
+            xpath.setNamespaceContext(nsContext);
+        }
+
+        compiled = xpath.compile(expression);
+        expressions.put(key, compiled);
+        return compiled;
+    }
+
+    /**
+     * Removes all compiled expressions cached for the current thread.
+     */
+    public static void clear() {
+        EXPRESSIONS.get().clear();
+    }
+
+    /**
+     * Gets the number of cache hits.
+     * @return
+     */
+    public static long getHits() {
+        return HITS.get();
+    }
+
+    /**
+     * Gets the number of cache misses that required expression compilation.
+     * @return
+     */
+    public static long getMisses() {
+        return MISSES.get();
+    }
+
+    /**
+     * Cache key combines expression string and namespace bindings.
+     */
+    private static final class CacheKey {
+        private final String expression;
+        private final Object namespaces;
+        private final int hashCode;
+
+        CacheKey(String expression, NamespaceContext nsContext) {
+            this.expression = expression;
+            this.namespaces = getNamespaceBindings(nsContext);
+            this.hashCode = Objects.hash(expression, namespaces);
+        }
+
+        /**
+         * Reads namespace bindings from well known namespace context implementations. Other implementations are
+         * used as is so the key falls back to identity comparison.
+         * @param nsContext
+         * @return
+         */
+        private static Object getNamespaceBindings(NamespaceContext nsContext) {
+            if (nsContext instanceof SimpleNamespaceContext) {
+                Map<String, String> bindings = new TreeMap<>();
+                Iterator<String> prefixes = ((SimpleNamespaceContext) nsContext).getBoundPrefixes();
+                while (prefixes.hasNext()) {
+                    String prefix = prefixes.next();
+                    bindings.put(prefix, nsContext.getNamespaceURI(prefix));
+                }
+                bindings.put(XMLConstants.DEFAULT_NS_PREFIX, nsContext.getNamespaceURI(XMLConstants.DEFAULT_NS_PREFIX));
+                return bindings;
+            }
+
+            return nsContext;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            CacheKey other = (CacheKey) o;
+            return hashCode == other.hashCode &&
+                    expression.equals(other.expression) &&
+                    Objects.equals(namespaces, other.namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -18,7 +18,6 @@ package com.consol.citrus.xml.xpath;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
@@ -269,7 +268,7 @@ public abstract class XPathUtils {
     /**
      * Construct a xPath expression instance with given expression string and namespace context.
      * If namespace context is not specified a default context is built from the XML node
-     * that is evaluated against.
+     * that is evaluated against. Compiled expressions are cached per thread.
      * @param xPathExpression
      * @param nsContext
      * @return
@@ -277,13 +276,7 @@ public abstract class XPathUtils {
      */
     private static XPathExpression buildExpression(String xPathExpression, NamespaceContext nsContext)
             throws XPathExpressionException {
-        XPath xpath = createXPathFactory().newXPath();
-
-        if (nsContext != null) {
-            xpath.setNamespaceContext(nsContext);
-        }
-
-        return xpath.compile(xPathExpression);
+        return XPathExpressionCache.getExpression(xPathExpression, nsContext);
     }
 
     /**
@@ -316,7 +309,7 @@ public abstract class XPathUtils {
      * Creates new xpath factory which is not thread safe per definition.
      * @return
      */
-    private synchronized static XPathFactory createXPathFactory() {
+    static synchronized XPathFactory createXPathFactory() {
         XPathFactory factory = null;
 
         // read system property and see if there is a factory set
@@ -17,6 +17,7 @@
 package com.consol.citrus.message.selector;
 
 import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -77,4 +78,10 @@ public class XpathPayloadMessageSelectorTest extends UnitTestSupport {
         Assert.assertFalse(messageSelector.accept(new DefaultMessage(new DefaultMessage("<Bar><text>foobar</text></Bar>"))));
         Assert.assertFalse(messageSelector.accept(new DefaultMessage(new DefaultMessage("This is plain text!"))));
     }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testXPathEvaluationError() {
+        XpathPayloadMessageSelector messageSelector = new XpathPayloadMessageSelector("xpath:count('foobar')", "1", context);
+        messageSelector.accept(new DefaultMessage("<Foo><text>foobar</text></Foo>"));
+    }
 }
@@ -37,6 +37,7 @@ import com.consol.citrus.validation.context.HeaderValidationContext;
 import com.consol.citrus.validation.context.ValidationContext;
 import com.consol.citrus.validation.json.JsonMessageValidationContext;
 import com.consol.citrus.validation.script.ScriptValidationContext;
+import com.consol.citrus.xml.XmlDocumentCache;
 import com.consol.citrus.xml.XsdSchemaRepository;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
@@ -44,6 +45,7 @@ import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
 
 /**
@@ -1005,4 +1007,20 @@ public class DomXmlMessageValidatorTest extends UnitTestSupport {
         Assert.assertNull(validator.findValidationContext(validationContexts));
     }
 
+    @Test
+    public void testValidateMessagePayloadKeepsCachedDocument() {
+        String payload = "<root>\n  <element>text</element>\n</root>";
+        Message message = new DefaultMessage(payload);
+        Message controlMessage = new DefaultMessage("<root><element>text</element></root>");
+
+        Document cached = XmlDocumentCache.parse(payload);
+        Assert.assertEquals(cached.getDocumentElement().getChildNodes().getLength(), 3);
+
+        DomXmlMessageValidator validator = new DomXmlMessageValidator();
+        validator.validateMessage(message, controlMessage, context, new XmlMessageValidationContext());
+
+        Assert.assertSame(XmlDocumentCache.parse(payload), cached);
+        Assert.assertEquals(cached.getDocumentElement().getChildNodes().getLength(), 3);
+    }
+
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import com.consol.citrus.util.XMLUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.ls.LSException;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class XmlDocumentCacheTest {
+
+    @Test
+    public void testParseOnce() throws ExecutionException, InterruptedException {
+        String payload = "<ns0:Message xmlns:ns0=\"http://citrusframework.org/test\"><ns0:Text>Hello</ns0:Text></ns0:Message>";
+
+        XmlDocumentCache.clear();
+        long misses = XmlDocumentCache.getMisses();
+        long hits = XmlDocumentCache.getHits();
+
+        Document doc = XmlDocumentCache.parse(payload);
+        Assert.assertEquals(doc.getFirstChild().getLocalName(), "Message");
+        Assert.assertSame(XmlDocumentCache.parse(payload), doc);
+        Assert.assertSame(XmlDocumentCache.parse(new String(payload)), doc);
+
+        Assert.assertEquals(XmlDocumentCache.getMisses() - misses, 1L);
+        Assert.assertEquals(XmlDocumentCache.getHits() - hits, 2L);
+
+        Document other = CompletableFuture.supplyAsync(() -> XmlDocumentCache.parse(payload)).get();
+        Assert.assertNotSame(other, doc);
+
+        XmlDocumentCache.clear();
+        Assert.assertNotSame(XmlDocumentCache.parse(payload), doc);
+    }
+
+    @Test
+    public void testParserReuse() {
+        XmlConfigurer configurer = new XmlConfigurer();
+        Assert.assertSame(configurer.getThreadLocalLSParser(), configurer.getThreadLocalLSParser());
+        Assert.assertNotSame(configurer.getThreadLocalLSParser(), configurer.createLSParser());
+
+        Assert.assertEquals(XMLUtils.parseMessagePayload("<a>1</a>").getFirstChild().getTextContent(), "1");
+        Assert.assertEquals(XMLUtils.parseMessagePayload("<b>2</b>").getFirstChild().getTextContent(), "2");
+    }
+
+    @Test(expectedExceptions = LSException.class)
+    public void testParseError() {
+        XmlDocumentCache.parse("<a>");
+    }
+}
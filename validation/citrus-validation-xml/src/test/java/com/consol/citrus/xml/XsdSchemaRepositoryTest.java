@@ -16,6 +16,8 @@
 
 package com.consol.citrus.xml;
 
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.xml.validation.XmlValidator;
 import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -135,4 +137,22 @@ public class XsdSchemaRepositoryTest {
         Assert.assertEquals(schemaRepository.getSchemas().size(), 1);
         Assert.assertEquals(schemaRepository.getSchemas().get(0).getClass(), SimpleXsdSchema.class);
     }
+
+    @Test
+    public void testValidatorReuse() throws Exception {
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+        schemaRepository.getLocations().add("classpath:com/consol/citrus/validation/sample.xsd");
+        schemaRepository.initialize();
+
+        XmlValidator validator = schemaRepository.getValidator();
+        Assert.assertSame(schemaRepository.getValidator(), validator);
+
+        SimpleXsdSchema schema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/test.xsd"));
+        schema.afterPropertiesSet();
+        schemaRepository.getSchemas().add(schema);
+
+        XmlValidator updated = schemaRepository.getValidator();
+        Assert.assertNotSame(updated, validator);
+        Assert.assertSame(schemaRepository.getValidator(), updated);
+    }
 }
@@ -98,6 +98,34 @@ public class XPathUtilsTest {
         Assert.assertEquals(XPathUtils.evaluateAsString(personNode, "/person/@status", namespaceContext), "single");
     }
 
+    @Test
+    public void testCachedExpressions() {
+        Document fooNode = XMLUtils.parseMessagePayload("<ns:foo xmlns:ns=\"http://citrusframework.org/foo\"><ns:value>foo</ns:value></ns:foo>");
+        Document barNode = XMLUtils.parseMessagePayload("<ns:bar xmlns:ns=\"http://citrusframework.org/bar\"><ns:value>bar</ns:value></ns:bar>");
+
+        SimpleNamespaceContext fooContext = new SimpleNamespaceContext();
+        fooContext.bindNamespaceUri("ns", "http://citrusframework.org/foo");
+
+        SimpleNamespaceContext barContext = new SimpleNamespaceContext();
+        barContext.bindNamespaceUri("ns", "http://citrusframework.org/bar");
+
+        XPathExpressionCache.clear();
+        long misses = XPathExpressionCache.getMisses();
+        long hits = XPathExpressionCache.getHits();
+
+        Assert.assertEquals(XPathUtils.evaluateAsString(fooNode, "//ns:value", fooContext), "foo");
+        Assert.assertEquals(XPathUtils.evaluateAsString(barNode, "//ns:value", barContext), "bar");
+        Assert.assertEquals(XPathExpressionCache.getMisses() - misses, 2L);
+
+        SimpleNamespaceContext newFooContext = new SimpleNamespaceContext();
+        newFooContext.bindNamespaceUri("ns", "http://citrusframework.org/foo");
+
+        Assert.assertEquals(XPathUtils.evaluateAsString(fooNode, "//ns:value", newFooContext), "foo");
+        Assert.assertEquals(XPathUtils.evaluateAsString(barNode, "//ns:value", barContext), "bar");
+        Assert.assertEquals(XPathExpressionCache.getMisses() - misses, 2L);
+        Assert.assertEquals(XPathExpressionCache.getHits() - hits, 2L);
+    }
+
     @Test(priority = 1)
     public void testCustomXPathFactory() {
         System.setProperty(XPathFactory.DEFAULT_PROPERTY_NAME + ":" + XPathFactory.DEFAULT_OBJECT_MODEL_URI, "");